@@ -0,0 +1,72 @@
+package com.gearsync.benchmarks;
+
+import com.gearsync.backend.service.AssignmentPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of planning one auto-assignment batch: a pending queue of appointments (and some projects)
+ * spread over two working weeks, against employees who already hold a few bookings each. Inputs
+ * come from a fixed seed, so runs are comparable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssignmentPlannerBenchmark {
+
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2025, 3, 3, 8, 0);
+    private static final int DAYS = 12;
+
+    @Param({"200", "800"})
+    private int pendingItems;
+
+    @Param({"12", "48"})
+    private int employees;
+
+    private final AssignmentPlanner planner = new AssignmentPlanner();
+    private List<AssignmentPlanner.Candidate> candidates;
+    private List<AssignmentPlanner.Booking> bookings;
+    private List<AssignmentPlanner.Task> tasks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        candidates = new ArrayList<>(employees);
+        bookings = new ArrayList<>();
+        for (long id = 1; id <= employees; id++) {
+            candidates.add(new AssignmentPlanner.Candidate(id, "Employee " + id, random.nextInt(6), random.nextInt(2400)));
+            for (int booked = 0; booked < 4; booked++) {
+                bookings.add(new AssignmentPlanner.Booking(id, randomSlot(random), 30 + 30 * random.nextInt(4)));
+            }
+        }
+
+        tasks = new ArrayList<>(pendingItems);
+        for (long id = 1; id <= pendingItems; id++) {
+            if (id % 10 == 0) {
+                tasks.add(new AssignmentPlanner.Task(AssignmentPlanner.TaskType.PROJECT, id, null, 0));
+            } else {
+                tasks.add(new AssignmentPlanner.Task(AssignmentPlanner.TaskType.APPOINTMENT, id,
+                        randomSlot(random), 30 + 30 * random.nextInt(4)));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<AssignmentPlanner.Assignment> planBatch() {
+        return planner.plan(candidates, bookings, tasks);
+    }
+
+    // A half-hour slot between 08:00 and 16:00 on one of the working days
+    private static LocalDateTime randomSlot(Random random) {
+        return FIRST_DAY.plusDays(random.nextInt(DAYS)).plusMinutes(30L * random.nextInt(16));
+    }
+}
@@ -0,0 +1,131 @@
+package com.gearsync.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JSON result files written by {@link BenchmarkRunner}, typically the last release's
+ * and the current build's, and exits with status 1 if any benchmark regressed:
+ *
+ * <pre>java -cp benchmarks.jar com.gearsync.benchmarks.CompareResults baseline.json current.json [threshold%]</pre>
+ *
+ * A score counts as a regression when it is worse by more than the threshold (10% by default) and
+ * by more than the two runs' combined error, so noise alone does not fail a build. Bytes allocated
+ * per operation, from the gc profiler, are held to the same threshold. Benchmarks present in only
+ * one file are listed but never fail the comparison.
+ */
+public final class CompareResults {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    // Allocation figures jitter by a few bytes per op; smaller differences are not reported
+    private static final double ALLOCATION_NOISE_BYTES = 16;
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+
+        Map<String, JsonNode> baseline = load(Path.of(args[0]));
+        Map<String, JsonNode> current = load(Path.of(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-6s %s%n", "NEW", entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+
+            JsonNode beforeScore = before.path("primaryMetric");
+            JsonNode afterScore = after.path("primaryMetric");
+            double change = relativeChange(beforeScore.path("score").asDouble(), afterScore.path("score").asDouble());
+            double worse = higherIsBetter ? -change : change;
+            double noise = error(beforeScore) + error(afterScore);
+            boolean scoreRegressed = worse > threshold
+                    && Math.abs(afterScore.path("score").asDouble() - beforeScore.path("score").asDouble()) > noise;
+
+            JsonNode beforeAlloc = allocation(before);
+            JsonNode afterAlloc = allocation(after);
+            boolean allocationRegressed = false;
+            String allocationNote = "";
+            if (beforeAlloc != null && afterAlloc != null) {
+                double beforeBytes = beforeAlloc.path("score").asDouble();
+                double afterBytes = afterAlloc.path("score").asDouble();
+                allocationRegressed = afterBytes - beforeBytes > ALLOCATION_NOISE_BYTES
+                        && relativeChange(beforeBytes, afterBytes) > threshold;
+                allocationNote = String.format("  alloc %.0f -> %.0f B/op", beforeBytes, afterBytes);
+            }
+
+            String verdict = scoreRegressed || allocationRegressed ? "WORSE" : worse < -threshold ? "FASTER" : "OK";
+            System.out.printf("%-6s %s  %.3f -> %.3f %s (%+.1f%%)%s%n", verdict, entry.getKey(),
+                    beforeScore.path("score").asDouble(), afterScore.path("score").asDouble(),
+                    afterScore.path("scoreUnit").asText(), change * 100, allocationNote);
+            if (scoreRegressed || allocationRegressed) {
+                regressions.add(entry.getKey());
+            }
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-6s %s%n", "GONE", key);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions.size(), threshold * 100);
+            System.exit(1);
+        }
+    }
+
+    // One entry per benchmark method, mode and parameter combination
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" [").append(result.path("mode").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.append(']').toString(), result);
+        }
+        return results;
+    }
+
+    // Older JMH versions prefix secondary metric names with a middle dot
+    private static JsonNode allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    // JMH reports NaN when there were too few iterations to estimate the error
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static double relativeChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before;
+    }
+}
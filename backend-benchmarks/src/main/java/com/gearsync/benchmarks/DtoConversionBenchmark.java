@@ -0,0 +1,112 @@
+package com.gearsync.benchmarks;
+
+import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.mapper.*;
+import com.gearsync.backend.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the generated entity-to-DTO mappers that every appointment, project, time log and
+ * vehicle response goes through, plus the registration payload to {@link User} mapping. Each
+ * invocation converts one page of detached, seeded entities (see {@link EntityFixtures}); run with
+ * {@code -prof gc} to see bytes allocated per page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    @Param({"1", "50"})
+    private int pageSize;
+
+    private final AppointmentMapper appointmentMapper = new AppointmentMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private final TimeLogMapper timeLogMapper = new TimeLogMapperImpl();
+    private final VehicleMapper vehicleMapper = new VehicleMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private List<Appointment> appointments;
+    // The callers hand the mapper the appointment's services as a list they built beforehand
+    private List<List<Services>> appointmentServices;
+    private List<Project> projects;
+    private List<TimeLog> timeLogs;
+    private List<Vehicle> vehicles;
+    private List<UserRegisterDTO> registrations;
+
+    @Setup
+    public void setUp() {
+        EntityFixtures fixtures = new EntityFixtures();
+        appointments = fixtures.appointments(pageSize);
+        appointmentServices = new ArrayList<>(pageSize);
+        for (Appointment appointment : appointments) {
+            appointmentServices.add(new ArrayList<>(appointment.getAppointmentServices()));
+        }
+        projects = fixtures.projects(pageSize);
+        timeLogs = fixtures.timeLogs(pageSize);
+
+        vehicles = new ArrayList<>(pageSize);
+        registrations = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            vehicles.add(fixtures.vehicle(i));
+            User customer = fixtures.customer(i);
+            UserRegisterDTO registration = new UserRegisterDTO();
+            registration.setEmail(customer.getEmail());
+            registration.setPassword("Secret@123");
+            registration.setFirstName(customer.getFirstName());
+            registration.setLastName(customer.getLastName());
+            registration.setPhoneNumber(customer.getPhoneNumber());
+            registration.setRole("CUSTOMER");
+            registrations.add(registration);
+        }
+    }
+
+    @Benchmark
+    public void appointmentResponse(Blackhole blackhole) {
+        for (int i = 0; i < appointments.size(); i++) {
+            blackhole.consume(appointmentMapper.toResponseDTO(appointments.get(i), appointmentServices.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void myAppointment(Blackhole blackhole) {
+        for (Appointment appointment : appointments) {
+            blackhole.consume(appointmentMapper.toMyAppointmentDTO(appointment));
+        }
+    }
+
+    @Benchmark
+    public void projectResponse(Blackhole blackhole) {
+        for (Project project : projects) {
+            blackhole.consume(projectMapper.toResponseDTO(project));
+        }
+    }
+
+    @Benchmark
+    public void timeLog(Blackhole blackhole) {
+        for (TimeLog timeLog : timeLogs) {
+            blackhole.consume(timeLogMapper.toResponseDTO(timeLog));
+        }
+    }
+
+    @Benchmark
+    public void vehicleResponse(Blackhole blackhole) {
+        for (Vehicle vehicle : vehicles) {
+            blackhole.consume(vehicleMapper.toResponseDTO(vehicle));
+        }
+    }
+
+    @Benchmark
+    public void registrationToUser(Blackhole blackhole) {
+        for (UserRegisterDTO registration : registrations) {
+            blackhole.consume(userMapper.fromRegistration(registration));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.gearsync.benchmarks;
+
+import com.gearsync.backend.model.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Detached entity graphs shaped like what the services convert: appointments with a customer,
+ * vehicle, two to four services and (mostly) an assigned employee, projects, and time logs against
+ * either. Everything comes from one seed and a fixed clock, so two runs convert identical data.
+ */
+final class EntityFixtures {
+
+    static final long SEED = 42;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 3, 8, 0);
+    private static final String[] FIRST_NAMES = {"Amal", "Nuwan", "Dilini", "Kasun", "Sachini", "Ruwan", "Ishara", "Tharindu"};
+    private static final String[] LAST_NAMES = {"Perera", "Fernando", "Silva", "Jayasinghe", "Bandara", "Wickramasinghe"};
+    private static final String[] MAKES = {"Toyota", "Honda", "Nissan", "Suzuki", "Mitsubishi"};
+    private static final String[] MODELS = {"Corolla", "Civic", "Leaf", "Swift", "Outlander", "Vitz"};
+
+    private final Random random = new Random(SEED);
+    private final List<User> customers = new ArrayList<>();
+    private final List<User> employees = new ArrayList<>();
+    private final List<Vehicle> vehicles = new ArrayList<>();
+    private final List<Services> services = new ArrayList<>();
+
+    EntityFixtures() {
+        for (long id = 1; id <= 50; id++) {
+            User customer = user(id, Role.CUSTOMER);
+            customers.add(customer);
+            vehicles.add(vehicle(id, customer));
+        }
+        for (long id = 1001; id <= 1012; id++) {
+            employees.add(user(id, Role.EMPLOYEE));
+        }
+        ServiceCategory[] categories = ServiceCategory.values();
+        for (long id = 1; id <= 20; id++) {
+            Services service = new Services();
+            service.setId(id);
+            service.setServiceName("Service " + id);
+            service.setDescription("Standard workshop service number " + id);
+            service.setCategory(categories[(int) (id % categories.length)]);
+            service.setBasePrice(BigDecimal.valueOf(2500 + 500L * random.nextInt(20), 2));
+            service.setEstimatedDurationMinutes(30 + 30 * random.nextInt(4));
+            services.add(service);
+        }
+    }
+
+    User customer(int index) {
+        return customers.get(index % customers.size());
+    }
+
+    Vehicle vehicle(int index) {
+        return vehicles.get(index % vehicles.size());
+    }
+
+    List<Appointment> appointments(int count) {
+        List<Appointment> appointments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int owner = random.nextInt(customers.size());
+            Appointment appointment = new Appointment();
+            appointment.setId(i + 1L);
+            appointment.setScheduledDateTime(BASE.plusDays(random.nextInt(14)).plusMinutes(30L * random.nextInt(16)));
+            appointment.setStatus(AppointmentStatus.values()[random.nextInt(AppointmentStatus.values().length)]);
+            appointment.setCustomerNotes("Strange noise from the front left wheel when braking");
+            appointment.setEmployeeNotes(random.nextBoolean() ? "Pads worn, replaced and road tested" : null);
+            appointment.setFinalCost(random.nextBoolean() ? BigDecimal.valueOf(15000 + random.nextInt(90000), 2) : null);
+            appointment.setProgressPercentage(random.nextInt(101));
+            appointment.setCustomer(customers.get(owner));
+            appointment.setVehicle(vehicles.get(owner));
+            appointment.setAppointmentServices(new HashSet<>(pickServices()));
+            if (random.nextInt(4) != 0) {
+                appointment.setAssignedEmployee(employees.get(random.nextInt(employees.size())));
+            }
+            appointment.setCreatedAt(BASE.minusDays(3));
+            appointment.setUpdatedAt(BASE.minusDays(1));
+            appointments.add(appointment);
+        }
+        return appointments;
+    }
+
+    List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int owner = random.nextInt(customers.size());
+            Project project = new Project();
+            project.setId(i + 1L);
+            project.setProjectName("Full respray and rust repair " + (i + 1));
+            project.setDescription("Strip panels, treat rust on sills and arches, respray in original colour");
+            project.setStatus(ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)]);
+            project.setEstimatedCost(BigDecimal.valueOf(500000 + random.nextInt(5000000), 2));
+            project.setActualCost(random.nextBoolean() ? BigDecimal.valueOf(500000 + random.nextInt(5000000), 2) : null);
+            project.setEstimatedDurationHours(8 + random.nextInt(80));
+            project.setStartDate(BASE.plusDays(random.nextInt(14)));
+            project.setExpectedCompletionDate(project.getStartDate().plusDays(7));
+            project.setProgressPercentage(random.nextInt(101));
+            project.setCustomer(customers.get(owner));
+            project.setVehicle(vehicles.get(owner));
+            if (random.nextInt(4) != 0) {
+                project.setAssignedEmployee(employees.get(random.nextInt(employees.size())));
+            }
+            project.setCreatedAt(BASE.minusDays(10));
+            project.setUpdatedAt(BASE.minusDays(2));
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    List<TimeLog> timeLogs(int count) {
+        List<Appointment> appointments = appointments(count / 2 + 1);
+        List<Project> projects = projects(count / 2 + 1);
+        List<TimeLog> timeLogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TimeLog timeLog = new TimeLog();
+            timeLog.setId(i + 1L);
+            timeLog.setStartTime(BASE.plusDays(i / 8).plusMinutes(60L * (i % 8)));
+            timeLog.setEndTime(timeLog.getStartTime().plusMinutes(30 + random.nextInt(30)));
+            timeLog.setDurationMinutes((int) Duration.between(timeLog.getStartTime(), timeLog.getEndTime()).toMinutes());
+            timeLog.setWorkDescription("Diagnosed and repaired the charging circuit");
+            timeLog.setNotes(random.nextBoolean() ? "Customer informed" : null);
+            timeLog.setEmployee(employees.get(random.nextInt(employees.size())));
+            if (i % 2 == 0) {
+                timeLog.setAppointment(appointments.get(i / 2));
+            } else {
+                timeLog.setProject(projects.get(i / 2));
+            }
+            timeLog.setCreatedAt(timeLog.getEndTime());
+            timeLog.setUpdatedAt(timeLog.getEndTime());
+            timeLogs.add(timeLog);
+        }
+        return timeLogs;
+    }
+
+    private List<Services> pickServices() {
+        int count = 2 + random.nextInt(3);
+        List<Services> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            Services service = services.get(random.nextInt(services.size()));
+            if (!picked.contains(service)) {
+                picked.add(service);
+            }
+        }
+        return picked;
+    }
+
+    private User user(long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        user.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        user.setEmail(role.name().toLowerCase() + id + "@example.com");
+        user.setPhoneNumber("07" + (10000000 + random.nextInt(89999999)));
+        user.setRole(role);
+        user.setCreatedAt(BASE.minusDays(30));
+        return user;
+    }
+
+    private Vehicle vehicle(long id, User owner) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(id);
+        vehicle.setRegistrationNumber("CAB-" + (1000 + id));
+        vehicle.setMake(MAKES[random.nextInt(MAKES.length)]);
+        vehicle.setModel(MODELS[random.nextInt(MODELS.length)]);
+        vehicle.setYear(2005 + random.nextInt(20));
+        vehicle.setColor("Silver");
+        vehicle.setVinNumber("JT" + (100000000000000L + id));
+        vehicle.setMileage(10000 + random.nextInt(200000));
+        vehicle.setOwner(owner);
+        return vehicle;
+    }
+}
@@ -0,0 +1,114 @@
+package com.gearsync.benchmarks;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.security.JwtAuthenticationFilter;
+import com.gearsync.backend.security.JwtUtil;
+import com.gearsync.backend.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request through {@link JwtAuthenticationFilter}: with the
+ * verified-token cache warm, with every request parsing (cache disabled), and the previous
+ * implementation that rebuilt the key and parsed the token twice.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-benchmark-secret".getBytes());
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil cached = new JwtUtil(SECRET, 10_000, 300);
+        JwtUtil uncached = new JwtUtil(SECRET, 0, 300);
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(singleUserRepository(), 300, 10_000);
+        cachedFilter = new JwtAuthenticationFilter(cached, userDetailsService);
+        uncachedFilter = new JwtAuthenticationFilter(uncached, userDetailsService);
+        token = cached.generateToken(1L, "customer@example.com", Role.CUSTOMER);
+        request = new MockHttpServletRequest("GET", "/api/customer/appointments");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Object filterWithCache() throws ServletException, IOException {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object filterWithoutCache() throws ServletException, IOException {
+        return runFilter(uncachedFilter);
+    }
+
+    // What the filter did before: decode the secret and build a parser for each of two full parses
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        Claims first = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        Claims second = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        blackhole.consume(first.getSubject());
+        blackhole.consume(second.get("role", String.class));
+    }
+
+    // The user-state cache absorbs repository lookups after the first request, so only findById is needed
+    private static UserRepository singleUserRepository() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("customer@example.com");
+        user.setRole(Role.CUSTOMER);
+        user.setIsActive(true);
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws ServletException, IOException {
+        try {
+            // OncePerRequestFilter marks the request as filtered; a fresh attribute set each time keeps it running
+            request.clearAttributes();
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.gearsync.benchmarks;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.security.JwtPrincipal;
+import com.gearsync.backend.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link JwtUtil} on its own, below the filter measured by {@link JwtFilterBenchmark}:
+ * issuing a token at login, verifying one for a population of active users with the
+ * verified-token cache on and off, and rejecting a token whose signature was tampered with, which
+ * is never cached and so always pays for a full parse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-benchmark-secret".getBytes());
+
+    @Param({"1000"})
+    private int activeUsers;
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String[] tokens;
+    private String tamperedToken;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtUtil(SECRET, 10_000, 300);
+        uncached = new JwtUtil(SECRET, 0, 300);
+
+        Random random = new Random(EntityFixtures.SEED);
+        Role[] roles = Role.values();
+        tokens = new String[activeUsers];
+        for (int i = 0; i < activeUsers; i++) {
+            tokens[i] = cached.generateToken(i + 1L, "user" + (i + 1) + "@example.com", roles[random.nextInt(roles.length)]);
+            cached.verify(tokens[i]);
+        }
+
+        // Flip one character of the signature so the token still parses but fails verification
+        String token = tokens[0];
+        char last = token.charAt(token.length() - 2);
+        tamperedToken = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(1L, "customer@example.com", Role.CUSTOMER);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return cached.verify(nextToken());
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyUncached() {
+        return uncached.verify(nextToken());
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyTampered() {
+        return cached.verify(tamperedToken);
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+}
@@ -0,0 +1,58 @@
+package com.gearsync.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Per-operation latency budgets and the run-wide error budget from {@code workload.properties}.
+ * An operation without a budget is measured and reported but cannot fail the run.
+ */
+final class Budgets {
+
+    private final Properties properties;
+    private final double maxErrorRate;
+
+    Budgets(Properties properties) {
+        this.properties = properties;
+        this.maxErrorRate = Double.parseDouble(properties.getProperty("max-error-rate", "0.01"));
+    }
+
+    Double p50Ms(String operation) {
+        return limit(operation + ".p50-ms");
+    }
+
+    Double p99Ms(String operation) {
+        return limit(operation + ".p99-ms");
+    }
+
+    List<String> violations(Map<String, LatencyRecorder.Summary> summaries) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, LatencyRecorder.Summary> entry : summaries.entrySet()) {
+            String operation = entry.getKey();
+            LatencyRecorder.Summary summary = entry.getValue();
+            if (summary.count() == 0) {
+                continue;
+            }
+            Double p50 = p50Ms(operation);
+            if (p50 != null && summary.p50Ms() > p50) {
+                violations.add(String.format("%s p50 %.1f ms is over its %.0f ms budget", operation, summary.p50Ms(), p50));
+            }
+            Double p99 = p99Ms(operation);
+            if (p99 != null && summary.p99Ms() > p99) {
+                violations.add(String.format("%s p99 %.1f ms is over its %.0f ms budget", operation, summary.p99Ms(), p99));
+            }
+            if (summary.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s error rate %.2f%% is over the %.2f%% budget",
+                        operation, summary.errorRate() * 100, maxErrorRate * 100));
+            }
+        }
+        return violations;
+    }
+
+    private Double limit(String key) {
+        String value = properties.getProperty(key);
+        return value == null ? null : Double.valueOf(value);
+    }
+}
@@ -0,0 +1,56 @@
+package com.gearsync.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes of one operation over the measured part of a run. Latency is taken from
+ * the moment the request was due, not when it was actually sent, so a stalled backend shows up in
+ * the percentiles instead of silently lowering the request rate.
+ */
+final class LatencyRecorder {
+
+    enum Outcome { OK, REJECTED, ERROR }
+
+    record Summary(long count, long ok, long rejected, long errors, double throughput,
+                   double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long ok;
+    private long rejected;
+    private long errors;
+
+    synchronized void record(long latencyNanos, Outcome outcome) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+        switch (outcome) {
+            case OK -> ok++;
+            case REJECTED -> rejected++;
+            case ERROR -> errors++;
+        }
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        return new Summary(size, ok, rejected, errors, (ok + rejected) / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                size == 0 ? 0 : sorted[size - 1] / 1e6);
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
@@ -0,0 +1,202 @@
+package com.gearsync.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entry point of {@code loadtest.jar}. Logs in a sample of the customers and employees already in
+ * the database, then drives the {@link Workload} mix at a fixed arrival rate: a warmup that is thrown
+ * away, then the measured run. Prints p50/p90/p99 and throughput per operation, writes them to
+ * {@code results/<timestamp>.json}, deletes what the run created and exits with status 1 when any
+ * operation is over its budget.
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestOptions options;
+        Properties properties;
+        try {
+            if (List.of(args).contains("--help")) {
+                System.out.print(LoadTestOptions.USAGE);
+                return;
+            }
+            options = LoadTestOptions.parse(args);
+            properties = Workload.load(options.workload());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ApiClient client = new ApiClient(options.baseUrl());
+        System.out.printf("Logging in %d customers and %d employees against %s%n",
+                options.customers(), options.employees(), options.baseUrl());
+        Population population = Population.load(client, options);
+        Workload workload = new Workload(client, population, properties);
+        Budgets budgets = new Budgets(properties);
+        System.out.printf("Using %d customers, %d employees (%d with projects), %d services%n",
+                population.customers.size(), population.employees.size(),
+                population.employeesWithProjects.size(), population.serviceIds.length);
+
+        SplittableRandom random = new SplittableRandom(options.seed());
+        if (options.warmupSeconds() > 0) {
+            System.out.printf("Warming up for %d s at %.0f req/s%n", options.warmupSeconds(), options.rate());
+            drive(client, workload, options, options.warmupSeconds(), random);
+        }
+        System.out.printf("Measuring for %d s at %.0f req/s%n", options.durationSeconds(), options.rate());
+        LocalDateTime startedAt = LocalDateTime.now();
+        Run run = drive(client, workload, options, options.durationSeconds(), random);
+
+        Map<String, LatencyRecorder.Summary> summaries = new LinkedHashMap<>();
+        run.recorders().forEach((operation, recorder) ->
+                summaries.put(operation, recorder.summarize(options.durationSeconds())));
+        List<String> violations = budgets.violations(summaries);
+        print(summaries, budgets, run.firstErrors());
+        Path results = write(startedAt, options, summaries, budgets, violations, client);
+        System.out.println("Results written to " + results);
+
+        if (!options.keepData()) {
+            int created = population.trackedCount();
+            int failed = population.cleanUp(client);
+            System.out.printf("Deleted %d of %d appointments and time logs created by the run%n", created - failed, created);
+        }
+
+        if (!violations.isEmpty()) {
+            System.out.println("Budget violations:");
+            violations.forEach(violation -> System.out.println("  " + violation));
+            System.exit(1);
+        }
+    }
+
+    private record Run(Map<String, LatencyRecorder> recorders, Map<String, String> firstErrors) {
+    }
+
+    /**
+     * Issues requests with exponentially distributed gaps averaging {@code 1 / rate}, whether or not
+     * earlier ones have answered; only {@code max-in-flight} outstanding requests hold the scheduler
+     * back, and that wait is charged to the request's latency.
+     */
+    private static Run drive(ApiClient client, Workload workload, LoadTestOptions options, int seconds,
+                             SplittableRandom random) throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        workload.names().forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+        Map<String, String> firstErrors = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        double meanGapNanos = 1e9 / options.rate();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        double due = start;
+        while (due < end) {
+            long wait = (long) due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long dueAt = (long) due;
+            due += -Math.log(1 - random.nextDouble()) * meanGapNanos;
+
+            String operation = workload.pick(random);
+            Workload.Call call = workload.call(operation, random);
+            LatencyRecorder recorder = recorders.get(operation);
+            inFlight.acquire();
+            client.send(call.request()).whenComplete((response, failure) -> {
+                try {
+                    long latency = System.nanoTime() - dueAt;
+                    LatencyRecorder.Outcome outcome = outcome(call, response, failure);
+                    recorder.record(latency, outcome);
+                    if (outcome == LatencyRecorder.Outcome.OK) {
+                        call.onSuccess().accept(response);
+                    } else if (outcome == LatencyRecorder.Outcome.ERROR) {
+                        firstErrors.putIfAbsent(operation, failure != null
+                                ? failure.toString()
+                                : response.statusCode() + " " + abbreviate(response.body()));
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.err.println("Some requests were still outstanding after " + DRAIN_TIMEOUT_SECONDS + " s");
+        }
+        return new Run(recorders, firstErrors);
+    }
+
+    private static LatencyRecorder.Outcome outcome(Workload.Call call, HttpResponse<String> response, Throwable failure) {
+        if (failure != null) {
+            return LatencyRecorder.Outcome.ERROR;
+        }
+        if (response.statusCode() / 100 == 2) {
+            return LatencyRecorder.Outcome.OK;
+        }
+        return response.statusCode() == 409 && call.conflictExpected()
+                ? LatencyRecorder.Outcome.REJECTED
+                : LatencyRecorder.Outcome.ERROR;
+    }
+
+    private static void print(Map<String, LatencyRecorder.Summary> summaries, Budgets budgets,
+                              Map<String, String> firstErrors) {
+        String format = "%-28s %7s %7s %5s %5s %8s %8s %8s %8s %8s  %s%n";
+        System.out.printf(format, "operation", "count", "ok", "409", "err", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "budget p50/p99");
+        summaries.forEach((operation, s) -> System.out.printf(format, operation, s.count(), s.ok(), s.rejected(), s.errors(),
+                String.format("%.1f", s.throughput()), String.format("%.1f", s.p50Ms()), String.format("%.1f", s.p90Ms()),
+                String.format("%.1f", s.p99Ms()), String.format("%.1f", s.maxMs()),
+                budget(budgets.p50Ms(operation)) + "/" + budget(budgets.p99Ms(operation))));
+        firstErrors.forEach((operation, error) -> System.out.printf("First error of %s: %s%n", operation, error));
+    }
+
+    private static Path write(LocalDateTime startedAt, LoadTestOptions options, Map<String, LatencyRecorder.Summary> summaries,
+                              Budgets budgets, List<String> violations, ApiClient client) throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        summaries.forEach((operation, summary) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("summary", summary);
+            entry.put("budgetP50Ms", budgets.p50Ms(operation));
+            entry.put("budgetP99Ms", budgets.p99Ms(operation));
+            operations.put(operation, entry);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("baseUrl", options.baseUrl());
+        report.put("rate", options.rate());
+        report.put("warmupSeconds", options.warmupSeconds());
+        report.put("durationSeconds", options.durationSeconds());
+        report.put("operations", operations);
+        report.put("violations", violations);
+
+        Path results = Path.of("results", startedAt.format(FILE_STAMP) + ".json");
+        Files.createDirectories(results.getParent());
+        client.objectMapper().writer(SerializationFeature.INDENT_OUTPUT).writeValue(results.toFile(), report);
+        return results;
+    }
+
+    private static String budget(Double limit) {
+        return limit == null ? "-" : String.format("%.0f", limit);
+    }
+
+    private static String abbreviate(String body) {
+        return body == null || body.length() <= 200 ? body : body.substring(0, 200) + "...";
+    }
+}
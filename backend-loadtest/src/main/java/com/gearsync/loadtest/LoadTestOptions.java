@@ -0,0 +1,84 @@
+package com.gearsync.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadTest}, as {@code --name=value} pairs. Admin credentials default to the
+ * {@code ADMIN_EMAIL} and {@code ADMIN_PASSWORD} variables the backend seeds its admin from, and the
+ * shared user password to the datagen profile's default.
+ */
+record LoadTestOptions(String baseUrl,
+                       double rate,
+                       int warmupSeconds,
+                       int durationSeconds,
+                       int customers,
+                       int employees,
+                       String adminEmail,
+                       String adminPassword,
+                       String userPassword,
+                       String workload,
+                       long seed,
+                       int maxInFlight,
+                       boolean keepData) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [--option=value ...]
+              --base-url=http://localhost:8080  backend to load
+              --rate=50                         requests per second, spread over the workload mix
+              --warmup=20                       seconds of unrecorded load before measuring
+              --duration=60                     measured seconds
+              --customers=200                   customers to log in and book as
+              --employees=50                    employees to log in and log time as
+              --admin-email=$ADMIN_EMAIL
+              --admin-password=$ADMIN_PASSWORD
+              --password=Datagen@123            password of the generated customers and employees
+              --workload=<file>                 mix weights and budgets; defaults to the bundled workload.properties
+              --seed=42
+              --max-in-flight=2000              requests outstanding before the scheduler waits
+              --keep-data                       leave the appointments and time logs the run created
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                stripTrailingSlash(values.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                Integer.parseInt(values.getOrDefault("warmup", "20")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("customers", "200")),
+                Integer.parseInt(values.getOrDefault("employees", "50")),
+                values.getOrDefault("admin-email", System.getenv("ADMIN_EMAIL")),
+                values.getOrDefault("admin-password", System.getenv("ADMIN_PASSWORD")),
+                values.getOrDefault("password", "Datagen@123"),
+                values.get("workload"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Boolean.parseBoolean(values.getOrDefault("keep-data", "false")));
+
+        if (options.adminEmail() == null || options.adminPassword() == null) {
+            throw new IllegalArgumentException("Admin credentials are required: --admin-email and --admin-password");
+        }
+        if (options.rate() <= 0 || options.durationSeconds() < 1 || options.warmupSeconds() < 0
+                || options.customers() < 1 || options.employees() < 1 || options.maxInFlight() < 1) {
+            throw new IllegalArgumentException("rate, duration, customers, employees and max-in-flight must be positive");
+        }
+        return options;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
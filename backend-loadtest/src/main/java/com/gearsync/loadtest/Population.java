@@ -0,0 +1,210 @@
+package com.gearsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * The customers, employees and service catalogue the workload acts as, discovered through the admin
+ * API and logged in before anything is measured. Appointments and time logs created during the run
+ * are remembered so {@link #cleanUp} can delete them and leave the dataset as it was found.
+ */
+final class Population {
+
+    private static final int CUSTOMER_PAGE_SIZE = 100;
+    private static final int LOGIN_BATCH = 8;
+
+    // Generated data only fills working hours, so time logs go into the evening and night before,
+    // which never overlap what is already there. 10 minutes logged per 15-minute slot.
+    private static final LocalTime NIGHT_START = LocalTime.of(18, 30);
+    private static final int NIGHT_SLOTS = 52;
+    private static final int SLOT_MINUTES = 15;
+    static final int LOG_MINUTES = 10;
+
+    record Customer(String token, long[] vehicleIds) {
+    }
+
+    static final class Employee {
+        final String token;
+        final long[] projectIds;
+        private int nextSlot;
+
+        Employee(String token, long[] projectIds) {
+            this.token = token;
+            this.projectIds = projectIds;
+        }
+
+        // Only the scheduler thread asks, so the cursor needs no synchronisation
+        LocalDateTime nextLogStart() {
+            int slot = nextSlot++;
+            LocalDate night = LocalDate.now().minusDays(2 + slot / NIGHT_SLOTS);
+            return night.atTime(NIGHT_START).plusMinutes((long) (slot % NIGHT_SLOTS) * SLOT_MINUTES);
+        }
+    }
+
+    final String adminToken;
+    final List<Customer> customers;
+    final List<Employee> employees;
+    final List<Employee> employeesWithProjects;
+    final long[] serviceIds;
+    final int customerPages;
+
+    private final Queue<String[]> created = new ConcurrentLinkedQueue<>();
+
+    private Population(String adminToken, List<Customer> customers, List<Employee> employees,
+                       long[] serviceIds, int customerPages) {
+        this.adminToken = adminToken;
+        this.customers = customers;
+        this.employees = employees;
+        this.employeesWithProjects = employees.stream().filter(employee -> employee.projectIds.length > 0).toList();
+        this.serviceIds = serviceIds;
+        this.customerPages = customerPages;
+    }
+
+    static Population load(ApiClient client, LoadTestOptions options) {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        String adminToken = client.login(options.adminEmail(), options.adminPassword());
+
+        JsonNode firstPage = client.call(client.get("/api/admin/customers?page=0&size=" + CUSTOMER_PAGE_SIZE, adminToken));
+        int totalPages = Math.max(1, firstPage.path("totalPages").asInt(1));
+        Map<String, long[]> vehiclesByEmail = new LinkedHashMap<>();
+        Set<Integer> visited = new HashSet<>();
+        while (vehiclesByEmail.size() < options.customers() && visited.size() < totalPages) {
+            int page = random.nextInt(totalPages);
+            if (!visited.add(page)) {
+                continue;
+            }
+            JsonNode content = client.call(client.get(
+                    "/api/admin/customers?page=" + page + "&size=" + CUSTOMER_PAGE_SIZE, adminToken)).path("content");
+            for (JsonNode customer : content) {
+                long[] vehicleIds = ids(customer.path("vehicles"));
+                if (vehicleIds.length > 0 && vehiclesByEmail.size() < options.customers()) {
+                    vehiclesByEmail.put(customer.path("email").asText(), vehicleIds);
+                }
+            }
+        }
+        if (vehiclesByEmail.isEmpty()) {
+            throw new IllegalStateException("No customers with vehicles found; load the dataset with the datagen profile first");
+        }
+
+        List<JsonNode> activeEmployees = new ArrayList<>();
+        for (JsonNode employee : client.call(client.get("/api/admin/employees", adminToken))) {
+            if (employee.path("isActive").asBoolean(true)) {
+                activeEmployees.add(employee);
+            }
+        }
+        Collections.shuffle(activeEmployees, new Random(options.seed()));
+        if (activeEmployees.isEmpty()) {
+            throw new IllegalStateException("No active employees found; load the dataset with the datagen profile first");
+        }
+
+        List<Customer> customers = loginCustomers(client, options, vehiclesByEmail);
+        List<Employee> employees = loginEmployees(client, options,
+                activeEmployees.subList(0, Math.min(options.employees(), activeEmployees.size())));
+
+        List<Long> serviceIds = new ArrayList<>();
+        for (JsonNode service : client.call(client.get("/api/service/view/all", null))) {
+            serviceIds.add(service.path("id").asLong());
+        }
+        Collections.sort(serviceIds);
+        return new Population(adminToken, customers, employees,
+                serviceIds.stream().mapToLong(Long::longValue).toArray(), totalPages);
+    }
+
+    private static List<Customer> loginCustomers(ApiClient client, LoadTestOptions options,
+                                                 Map<String, long[]> vehiclesByEmail) {
+        List<Supplier<CompletableFuture<Customer>>> logins = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : vehiclesByEmail.entrySet()) {
+            logins.add(() -> client.send(client.post("/api/auth/login", null,
+                            Map.of("email", entry.getKey(), "password", options.userPassword())))
+                    .thenApply(response -> new Customer(client.read(ok(response)).path("token").asText(),
+                            entry.getValue())));
+        }
+        return inBatches(logins);
+    }
+
+    private static List<Employee> loginEmployees(ApiClient client, LoadTestOptions options, List<JsonNode> employees) {
+        List<Supplier<CompletableFuture<Employee>>> logins = new ArrayList<>();
+        for (JsonNode employee : employees) {
+            logins.add(() -> client.send(client.post("/api/auth/login", null,
+                            Map.of("email", employee.path("email").asText(), "password", options.userPassword())))
+                    .thenApply(response -> client.read(ok(response)).path("token").asText())
+                    .thenCompose(token -> client.send(client.get("/api/employee/projects", token))
+                            .thenApply(response -> new Employee(token, ids(client.read(ok(response)))))));
+        }
+        return inBatches(logins);
+    }
+
+    // Logins are deliberately slow password hashes; hundreds at once would only time out
+    private static <T> List<T> inBatches(List<Supplier<CompletableFuture<T>>> calls) {
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < calls.size(); from += LOGIN_BATCH) {
+            List<CompletableFuture<T>> batch = calls.subList(from, Math.min(from + LOGIN_BATCH, calls.size()))
+                    .stream().map(Supplier::get).toList();
+            batch.forEach(call -> results.add(call.join()));
+        }
+        return results;
+    }
+
+    void track(String path, String token) {
+        created.add(new String[]{path, token});
+    }
+
+    int trackedCount() {
+        return created.size();
+    }
+
+    /**
+     * Deletes everything {@link #track} recorded, a batch at a time. Returns how many deletes failed,
+     * which happens when an employee or admin moved an appointment past the point customers may delete it.
+     */
+    int cleanUp(ApiClient client) {
+        int failed = 0;
+        List<CompletableFuture<HttpResponse<String>>> batch = new ArrayList<>();
+        String[] next;
+        while ((next = created.poll()) != null) {
+            batch.add(client.send(client.delete(next[0], next[1])));
+            if (batch.size() == 50 || created.isEmpty()) {
+                for (CompletableFuture<HttpResponse<String>> delete : batch) {
+                    if (delete.handle((response, e) -> e == null && response.statusCode() / 100 == 2).join() == Boolean.FALSE) {
+                        failed++;
+                    }
+                }
+                batch.clear();
+            }
+        }
+        return failed;
+    }
+
+    private static String ok(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(response.request().method() + " " + response.request().uri()
+                    + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static long[] ids(JsonNode array) {
+        long[] ids = new long[array.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = array.get(i).path("id").asLong();
+        }
+        return ids;
+    }
+}
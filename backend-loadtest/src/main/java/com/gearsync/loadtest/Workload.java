@@ -0,0 +1,200 @@
+package com.gearsync.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The traffic mix: every operation the run can issue, and how often relative to the others. The
+ * operations are fixed here; their weights and latency budgets come from {@code workload.properties}
+ * as {@code <operation>.weight}, {@code <operation>.p50-ms} and {@code <operation>.p99-ms}, and an
+ * operation with no weight is left out of the mix.
+ */
+final class Workload {
+
+    private static final String[] APPOINTMENT_STATUSES = {"SCHEDULED", "CONFIRMED", "IN_PROGRESS", "COMPLETED"};
+    private static final LocalTime FIRST_BOOKING = LocalTime.of(8, 0);
+    private static final int BOOKING_SLOTS = 17;
+    private static final int BOOKING_SLOT_MINUTES = 30;
+    private static final Set<String> KEY_SUFFIXES = Set.of(".weight", ".p50-ms", ".p99-ms");
+
+    /**
+     * One request of an operation. {@code conflictExpected} marks writes whose 409 is the API turning
+     * down a clash (a taken slot, an overlapping time log) rather than a failure; {@code onSuccess}
+     * sees the response of a successful write so what it created can be cleaned up.
+     */
+    record Call(HttpRequest request, boolean conflictExpected, Consumer<HttpResponse<String>> onSuccess) {
+    }
+
+    private final ApiClient client;
+    private final Population population;
+    private final Map<String, Function<SplittableRandom, Call>> operations = new LinkedHashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final double[] cumulativeWeights;
+
+    Workload(ApiClient client, Population population, Properties properties) {
+        this.client = client;
+        this.population = population;
+        register();
+
+        List<Double> weights = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            int dot = name.lastIndexOf('.');
+            if (dot > 0 && KEY_SUFFIXES.contains(name.substring(dot)) && !operations.containsKey(name.substring(0, dot))) {
+                throw new IllegalArgumentException("Unknown operation in workload: " + name);
+            }
+        }
+        double total = 0;
+        for (String operation : operations.keySet()) {
+            double weight = Double.parseDouble(properties.getProperty(operation + ".weight", "0"));
+            if (weight > 0) {
+                names.add(operation);
+                total += weight;
+                weights.add(total);
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("The workload gives no operation a weight");
+        }
+        cumulativeWeights = weights.stream().mapToDouble(w -> w).toArray();
+    }
+
+    static Properties load(String file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = file == null
+                ? Workload.class.getResourceAsStream("/workload.properties")
+                : Files.newInputStream(Path.of(file))) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    List<String> names() {
+        return names;
+    }
+
+    String pick(SplittableRandom random) {
+        double point = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return names.get(i);
+            }
+        }
+        return names.get(names.size() - 1);
+    }
+
+    Call call(String operation, SplittableRandom random) {
+        return operations.get(operation).apply(random);
+    }
+
+    private void register() {
+        operations.put("customer.appointments.page", random ->
+                read(client.get("/api/customer/appointments/page?limit=20", customer(random).token())));
+
+        operations.put("customer.availability", random ->
+                read(client.get("/api/service/availability?date=" + bookingDay(random)
+                        + "&serviceIds=" + service(random), null)));
+
+        operations.put("customer.appointment.book", random -> {
+            Population.Customer customer = customer(random);
+            long[] vehicles = customer.vehicleIds();
+            LocalDateTime start = bookingDay(random)
+                    .atTime(FIRST_BOOKING.plusMinutes((long) random.nextInt(BOOKING_SLOTS) * BOOKING_SLOT_MINUTES));
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("vehicleId", vehicles[random.nextInt(vehicles.length)]);
+            body.put("serviceIds", List.of(service(random)));
+            body.put("scheduledDateTime", start.toString());
+            body.put("customerNotes", "Load test booking");
+            return write(client.post("/api/customer/appointments", customer.token(), body),
+                    "/api/customer/appointments/", customer.token());
+        });
+
+        operations.put("employee.timelogs.page", random ->
+                read(client.get("/api/employee/timelogs/page?limit=20", employee(random).token)));
+
+        operations.put("employee.timesheet", random -> {
+            LocalDate today = LocalDate.now();
+            return read(client.get("/api/employee/timelogs/timesheet?from=" + today.minusDays(6)
+                    + "&to=" + today, employee(random).token));
+        });
+
+        operations.put("employee.timelog.create", random -> {
+            List<Population.Employee> withProjects = population.employeesWithProjects;
+            if (withProjects.isEmpty()) {
+                throw new IllegalStateException("None of the sampled employees has an assigned project to log time on");
+            }
+            Population.Employee employee = withProjects.get(random.nextInt(withProjects.size()));
+            LocalDateTime start = employee.nextLogStart();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("projectId", employee.projectIds[random.nextInt(employee.projectIds.length)]);
+            body.put("startTime", start.toString());
+            body.put("endTime", start.plusMinutes(Population.LOG_MINUTES).toString());
+            body.put("workDescription", "Load test time log entry");
+            return write(client.post("/api/employee/timelogs", employee.token, body),
+                    "/api/employee/timelogs/", employee.token);
+        });
+
+        operations.put("admin.appointments.page", random -> {
+            String status = random.nextBoolean() ? "" : "&status=" + APPOINTMENT_STATUSES[random.nextInt(APPOINTMENT_STATUSES.length)];
+            return read(client.get("/api/admin/appointments/page?limit=50" + status, population.adminToken));
+        });
+
+        operations.put("admin.customers", random ->
+                read(client.get("/api/admin/customers?size=50&page="
+                        + random.nextInt(Math.min(population.customerPages, 20)), population.adminToken)));
+
+        operations.put("admin.employees.page", random ->
+                read(client.get("/api/admin/employees/page?limit=50", population.adminToken)));
+
+        operations.put("admin.projects.page", random ->
+                read(client.get("/api/admin/projects/page?limit=50", population.adminToken)));
+
+        operations.put("admin.dashboard.summary", random ->
+                read(client.get("/api/admin/dashboard/summary", population.adminToken)));
+    }
+
+    private Call read(HttpRequest request) {
+        return new Call(request, false, response -> { });
+    }
+
+    private Call write(HttpRequest request, String deletePath, String token) {
+        return new Call(request, true, response -> population.track(
+                deletePath + client.read(response.body()).path("id").asLong(), token));
+    }
+
+    private Population.Customer customer(SplittableRandom random) {
+        return population.customers.get(random.nextInt(population.customers.size()));
+    }
+
+    private Population.Employee employee(SplittableRandom random) {
+        return population.employees.get(random.nextInt(population.employees.size()));
+    }
+
+    private long service(SplittableRandom random) {
+        // Favour the front of the catalogue, as the generated booking history does
+        long[] ids = population.serviceIds;
+        return ids[(int) (ids.length * random.nextDouble() * random.nextDouble())];
+    }
+
+    // Between two days and six weeks out, skipping the Sundays the workshop is closed
+    private static LocalDate bookingDay(SplittableRandom random) {
+        LocalDate day = LocalDate.now().plusDays(2 + random.nextInt(43));
+        return day.getDayOfWeek() == DayOfWeek.SUNDAY ? day.plusDays(1) : day;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gearsync.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class EmailOutboxConfig {
+
+    // One extra thread for the drain loop itself; the queue only ever holds claimed rows, which the worker caps at the pool size
+    @Bean
+    public ThreadPoolTaskExecutor emailOutboxExecutor(@Value("${app.mail.outbox.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers + 1);
+        executor.setMaxPoolSize(workers + 1);
+        executor.setQueueCapacity(workers * 2);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
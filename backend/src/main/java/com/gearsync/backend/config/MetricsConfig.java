@@ -0,0 +1,29 @@
+package com.gearsync.backend.config;
+
+import com.gearsync.backend.metrics.HibernateRequestMetrics;
+import com.gearsync.backend.metrics.QueryCountingStatementInspector;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final HibernateRequestMetrics hibernateRequestMetrics;
+
+    // Static so the EntityManagerFactory can be built without this class, whose interceptor needs it
+    @Bean
+    public static HibernatePropertiesCustomizer queryCountingStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(hibernateRequestMetrics);
+    }
+}
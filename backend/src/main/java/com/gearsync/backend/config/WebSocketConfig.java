@@ -0,0 +1,45 @@
+package com.gearsync.backend.config;
+
+import com.gearsync.backend.websocket.JwtHandshakeInterceptor;
+import com.gearsync.backend.websocket.ProgressWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ProgressWebSocketHandler progressWebSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    // Only the frontend's pages may open the socket; scripts on other sites are refused at the upgrade
+    @Value("${app.websocket.allowed-origins:http://localhost:8090}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(progressWebSocketHandler, "/ws/progress")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    // Fan-out runs here rather than on the request thread that committed the change; a full queue drops the update
+    @Bean
+    public ThreadPoolTaskExecutor progressPushExecutor(@Value("${app.websocket.push-threads:2}") int threads,
+                                                       @Value("${app.websocket.push-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("progress-push-");
+        executor.initialize();
+        return executor;
+    }
+}
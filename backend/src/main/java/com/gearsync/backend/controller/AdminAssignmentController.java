@@ -0,0 +1,29 @@
+package com.gearsync.backend.controller;
+
+import com.gearsync.backend.dto.AutoAssignmentResultDTO;
+import com.gearsync.backend.service.AutoAssignmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/assignments")
+public class AdminAssignmentController {
+
+    private final AutoAssignmentService autoAssignmentService;
+
+    // Dry run: what auto-assignment would do right now, without changing anything
+    @GetMapping("/proposals")
+    public ResponseEntity<AutoAssignmentResultDTO> proposals() {
+        return ResponseEntity.ok(autoAssignmentService.propose());
+    }
+
+    @PostMapping("/auto")
+    public ResponseEntity<AutoAssignmentResultDTO> autoAssign() {
+        return ResponseEntity.ok(autoAssignmentService.apply());
+    }
+}
@@ -3,16 +3,27 @@ package com.gearsync.backend.controller;
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.DuplicateResourceException;
 import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.ScheduleConflictException;
 import com.gearsync.backend.exception.UnauthorizedException;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.AdminServices;
+import com.gearsync.backend.service.NoteService;
+import com.gearsync.backend.service.ServiceProgressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -23,6 +34,8 @@ public class AdminController {
 
     public final AdminServices adminServices;
     private final UserRepository userRepository;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
 
     @PostMapping("/employees")
     public ResponseEntity<?> addEmployee(@Valid @RequestBody EmployeeRegisterDTO employeeRegisterDTO) {
@@ -77,12 +90,12 @@ public class AdminController {
 
     @PutMapping("/appointments/{id}/assign")
     public ResponseEntity<?> assignEmployeeToAppointment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody AssignAppointmentDTO request) {
         try {
             AppointmentResponseDTO response = adminServices.assignEmployeeToAppointment(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -90,7 +103,7 @@ public class AdminController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (IllegalStateException e) {
+        } catch (IllegalStateException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -104,13 +117,13 @@ public class AdminController {
 
     @PutMapping("/appointments/{id}/reassign")
     public ResponseEntity<?> reassignAppointmentEmployee(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody AssignAppointmentDTO request) {
 
         try {
             AppointmentResponseDTO response = adminServices.reassignAppointmentEmployee(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -118,7 +131,7 @@ public class AdminController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (IllegalStateException e) {
+        } catch (IllegalStateException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -131,13 +144,13 @@ public class AdminController {
 
     @DeleteMapping("/appointments/{id}/unassign")
     public ResponseEntity<?> unassignAppointmentEmployee(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
 
         try {
             AppointmentResponseDTO response = adminServices.unassignAppointmentEmployee(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
 
@@ -156,13 +169,13 @@ public class AdminController {
 
     @PutMapping("/projects/{id}/approve")
     public ResponseEntity<?> approveAndAssignProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody ApproveProjectDTO request) {
 
         try {
             ProjectResponseDTO response = adminServices.approveAndAssignProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -181,14 +194,14 @@ public class AdminController {
 
     @PutMapping("/projects/{id}/reject")
     public ResponseEntity<?> rejectProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody RejectProjectDTO request) {
 
 
         try {
             ProjectResponseDTO response = adminServices.rejectProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -208,13 +221,13 @@ public class AdminController {
 
     @PutMapping("/projects/{id}/assign")
     public ResponseEntity<?> assignEmployeeToProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody AssignProjectDTO request) {
 
         try {
             ProjectResponseDTO response = adminServices.assignEmployeeToProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -233,13 +246,13 @@ public class AdminController {
 
     @DeleteMapping("/projects/{id}/unassign")
     public ResponseEntity<?> unassignProjectEmployee(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
 
         try {
             ProjectResponseDTO response = adminServices.unassignProjectEmployee(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
 
@@ -256,10 +269,10 @@ public class AdminController {
     }
 
     @GetMapping("/appointments")
-    public ResponseEntity<?> getAllAppointments(Authentication authentication) {
+    public ResponseEntity<?> getAllAppointments(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<AppointmentSummaryDTO> appointments = adminServices.getAllAppointments(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(appointments);
         } catch (UnauthorizedException e) {
@@ -269,13 +282,40 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/appointments/page")
+    public ResponseEntity<?> getAppointmentsPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<AppointmentSummaryDTO> page = adminServices.getAppointmentsPage(
+                    currentUser.getId(),
+                    status,
+                    from,
+                    to,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/appointments/filter")
     public ResponseEntity<?> getAppointmentsByStatus(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam String status) {
         try {
             List<AppointmentSummaryDTO> appointments = adminServices.getAppointmentsByStatus(
-                    authentication.getName(),
+                    currentUser.getId(),
                     status
             );
             return ResponseEntity.ok(appointments);
@@ -289,10 +329,10 @@ public class AdminController {
     }
 
     @GetMapping("/appointments/pending")
-    public ResponseEntity<?> getPendingAppointments(Authentication authentication) {
+    public ResponseEntity<?> getPendingAppointments(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<AppointmentSummaryDTO> appointments = adminServices.getPendingAppointments(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(appointments);
         } catch (UnauthorizedException e) {
@@ -303,10 +343,10 @@ public class AdminController {
     }
 
     @GetMapping("/projects")
-    public ResponseEntity<?> getAllProjects(Authentication authentication) {
+    public ResponseEntity<?> getAllProjects(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<ProjectSummaryDTO> projects = adminServices.getAllProjects(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(projects);
         } catch (UnauthorizedException e) {
@@ -316,13 +356,40 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/projects/page")
+    public ResponseEntity<?> getProjectsPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<ProjectSummaryDTO> page = adminServices.getProjectsPage(
+                    currentUser.getId(),
+                    status,
+                    from,
+                    to,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/projects/filter")
     public ResponseEntity<?> getProjectsByStatus(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam String status) {
         try {
             List<ProjectSummaryDTO> projects = adminServices.getProjectsByStatus(
-                    authentication.getName(),
+                    currentUser.getId(),
                     status
             );
             return ResponseEntity.ok(projects);
@@ -336,10 +403,10 @@ public class AdminController {
     }
 
     @GetMapping("/projects/pending")
-    public ResponseEntity<?> getPendingProjects(Authentication authentication) {
+    public ResponseEntity<?> getPendingProjects(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<ProjectSummaryDTO> projects = adminServices.getPendingProjects(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(projects);
         } catch (UnauthorizedException e) {
@@ -351,11 +418,11 @@ public class AdminController {
 
     @GetMapping("/employees/{id}")
     public ResponseEntity<?> getEmployeeDetails(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
         try {
             EmployeeDetailDTO employee = adminServices.getEmployeeDetails(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(employee);
@@ -372,12 +439,12 @@ public class AdminController {
 
     @PutMapping("/employees/{id}")
     public ResponseEntity<?> updateEmployee(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody UpdateEmployeeDTO request) {
         try {
             EmployeeDetailDTO employee = adminServices.updateEmployee(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -393,11 +460,34 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/employees/page")
+    public ResponseEntity<?> getEmployeesPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<UserDto> page = adminServices.getEmployeesPage(
+                    currentUser.getId(),
+                    active,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/employees/active")
-    public ResponseEntity<?> getActiveEmployees(Authentication authentication) {
+    public ResponseEntity<?> getActiveEmployees(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<UserDto> employees = adminServices.getActiveEmployees(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(employees);
         } catch (UnauthorizedException e) {
@@ -408,10 +498,10 @@ public class AdminController {
     }
 
     @GetMapping("/vehicles")
-    public ResponseEntity<?> getAllVehicles(Authentication authentication) {
+    public ResponseEntity<?> getAllVehicles(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<VehicleSummaryDTO> vehicles = adminServices.getAllVehicles(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(vehicles);
         } catch (UnauthorizedException e) {
@@ -421,13 +511,39 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/vehicles/page")
+    public ResponseEntity<?> getVehiclesPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<VehicleSummaryDTO> page = adminServices.getVehiclesPage(
+                    currentUser.getId(),
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/customers")
-    public ResponseEntity<?> getAllCustomersWithVehicles(Authentication authentication) {
+    public ResponseEntity<?> getAllCustomersWithVehicles(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         try {
-            List<CustomerWithVehiclesDTO> customers = adminServices.getAllCustomersWithVehicles(
-                    authentication.getName()
+            Page<CustomerWithVehiclesDTO> customers = adminServices.getAllCustomersWithVehicles(
+                    currentUser.getId(),
+                    pageable
             );
             return ResponseEntity.ok(customers);
+        } catch (PropertyReferenceException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (UnauthorizedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
         } catch (Exception e) {
@@ -437,11 +553,11 @@ public class AdminController {
 
     @GetMapping("/customers/{id}")
     public ResponseEntity<?> getCustomerWithVehicles(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
         try {
             CustomerWithVehiclesDTO customer = adminServices.getCustomerWithVehicles(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(customer);
@@ -456,4 +572,127 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/appointments/{id}/progress")
+    public ResponseEntity<?> getAppointmentProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getAppointmentTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/projects/{id}/progress")
+    public ResponseEntity<?> getProjectProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getProjectTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/appointments/{id}/notes")
+    public ResponseEntity<?> getAppointmentNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getAppointmentNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/appointments/{id}/notes")
+    public ResponseEntity<?> addAppointmentNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addAppointmentNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/projects/{id}/notes")
+    public ResponseEntity<?> getProjectNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getProjectNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/projects/{id}/notes")
+    public ResponseEntity<?> addProjectNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addProjectNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
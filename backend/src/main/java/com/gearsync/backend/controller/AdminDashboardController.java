@@ -1,6 +1,7 @@
 package com.gearsync.backend.controller;
 
-import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.dto.AppointmentBoardDTO;
+import com.gearsync.backend.dto.DashboardSummaryDTO;
 import com.gearsync.backend.service.AdminDashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -19,6 +20,16 @@ public class AdminDashboardController {
 
     private final AdminDashboardService adminDashboardService;
 
+    @GetMapping("/summary")
+    public ResponseEntity<?> summary() {
+        try {
+            DashboardSummaryDTO summary = adminDashboardService.getSummary();
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/user/count")
     public ResponseEntity<?> userCount() {
         try{
@@ -75,7 +86,7 @@ public class AdminDashboardController {
     @GetMapping("/appointments/confirmed")
     public ResponseEntity<?> confirmedAppointments() {
         try {
-            List<Appointment> list = adminDashboardService.getConfirmedAppointments();
+            List<AppointmentBoardDTO> list = adminDashboardService.getConfirmedAppointments();
             return ResponseEntity.ok(list);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
@@ -86,7 +97,7 @@ public class AdminDashboardController {
     @GetMapping("/appointments/today")
     public ResponseEntity<?> todayAppointments() {
         try {
-            List<Appointment> list = adminDashboardService.getTodayScheduledAppointments();
+            List<AppointmentBoardDTO> list = adminDashboardService.getTodayScheduledAppointments();
             return ResponseEntity.ok(list);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
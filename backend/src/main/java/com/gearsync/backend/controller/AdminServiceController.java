@@ -2,12 +2,13 @@ package com.gearsync.backend.controller;
 
 import com.gearsync.backend.dto.ServiceDTO;
 import com.gearsync.backend.exception.DuplicateResourceException;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,7 +22,7 @@ public class AdminServiceController {
     private final TaskService taskService;
 
     @PostMapping
-    public ResponseEntity<?> addService(Authentication authentication, @Valid @RequestBody ServiceDTO serviceDTO){
+    public ResponseEntity<?> addService(@AuthenticationPrincipal UserDetailsImpl currentUser, @Valid @RequestBody ServiceDTO serviceDTO){
         try{
             taskService.newServiceAdd(serviceDTO);
             return ResponseEntity.ok("Service Update Successful.");
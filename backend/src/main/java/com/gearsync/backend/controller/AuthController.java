@@ -3,16 +3,15 @@ package com.gearsync.backend.controller;
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.model.User;
-import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.security.JwtUtil;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.AuthService;
-import com.gearsync.backend.service.EmailService;
 import com.gearsync.backend.service.PasswordManagementService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -26,8 +25,6 @@ public class AuthController {
     private final AuthService authService;
     private final PasswordManagementService passwordService;
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
-    private final EmailService emailService;
 
     @GetMapping("/test")
     public String test() {
@@ -41,8 +38,6 @@ public class AuthController {
             return ResponseEntity.badRequest().body("Email already registered");
         }
         User saved = authService.register(userRegisterDTO);
-        String customerName = saved.getFirstName() + " " + saved.getLastName();
-        emailService.sendCustomerWelcomeEmail(saved.getEmail(), customerName);
         return ResponseEntity.ok(saved);
     }
 
@@ -53,9 +48,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
         }
         User user = authService.findByEmail(loginRequest.getEmail());
-        user.setLastLoginAt(java.time.LocalDateTime.now());
-        userRepository.save(user);
-        String jwtToken = jwtUtil.generateToken(user.getEmail(), user.getRole());
+        authService.recordLogin(user.getId());
+        String jwtToken = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
         return ResponseEntity.ok(Map.of(
                 "isFirstLogin", user.getIsFirstLogin(),
                 "token", jwtToken,
@@ -64,10 +58,8 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<?> me(Authentication authentication) {
-        String email = authentication.getName();
-        System.out.println(authentication.getAuthorities());
-        User user = authService.findByEmail(email);
+    public ResponseEntity<?> me(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        User user = authService.findById(currentUser.getId());
         UserDto dto = new UserDto();
         dto.setId(user.getId());
         dto.setName(user.getFirstName() + user.getLastName());
@@ -78,10 +70,8 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<?> refresh(Authentication authentication) {
-        String email = authentication.getName();
-        User user = authService.findByEmail(email);
-        String token = jwtUtil.generateToken(user.getEmail(), user.getRole());
+    public ResponseEntity<?> refresh(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        String token = jwtUtil.generateToken(currentUser.getId(), currentUser.getEmail(), currentUser.getRole());
         return ResponseEntity.ok(Map.of("token", token));
     }
 
@@ -93,11 +83,11 @@ public class AuthController {
 
     @PostMapping("/change-password")
     public ResponseEntity<?> changePassword(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @Valid @RequestBody ChangePasswordRequestDTO request) {
 
         try {
-            passwordService.changePassword(authentication.getName(), request);
+            passwordService.changePassword(currentUser.getId(), request);
             return ResponseEntity.ok(Map.of(
                     "message", "Password changed successfully",
                     "success", true
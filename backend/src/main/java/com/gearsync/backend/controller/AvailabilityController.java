@@ -0,0 +1,50 @@
+package com.gearsync.backend.controller;
+
+import com.gearsync.backend.dto.AvailabilityDTO;
+import com.gearsync.backend.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/service/availability")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping
+    public ResponseEntity<?> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) List<Long> serviceIds,
+            @RequestParam(required = false) Integer durationMinutes) {
+        try {
+            AvailabilityDTO availability = availabilityService.getAvailability(date, serviceIds, durationMinutes);
+            return ResponseEntity.ok(availability);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/check")
+    public ResponseEntity<?> checkSlot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) List<Long> serviceIds,
+            @RequestParam(required = false) Integer durationMinutes) {
+        try {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("start", start);
+            response.put("available", availabilityService.isAvailable(start, serviceIds, durationMinutes));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
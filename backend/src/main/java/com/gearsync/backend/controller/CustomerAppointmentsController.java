@@ -2,17 +2,27 @@ package com.gearsync.backend.controller;
 
 import com.gearsync.backend.dto.AppointmentRequestDTO;
 import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.CursorPageDTO;
 import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.dto.NoteRequestDTO;
+import com.gearsync.backend.dto.ProgressTimelineDTO;
 import com.gearsync.backend.dto.UpdateAppointmentRequestDTO;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.metrics.BookingMetrics;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.AppointmentService;
+import com.gearsync.backend.service.NoteService;
+import com.gearsync.backend.service.ServiceProgressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -21,31 +31,37 @@ import java.util.List;
 public class CustomerAppointmentsController {
 
     private final AppointmentService appointmentService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
+    private final BookingMetrics bookingMetrics;
 
     @PostMapping
     public ResponseEntity<?> bookAppointment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @Valid @RequestBody AppointmentRequestDTO request) {
 
         try {
-            String email = authentication.getName();
-            AppointmentResponseDTO appointmentResponseDTO = appointmentService.bookAppointment(email, request);
+            AppointmentResponseDTO appointmentResponseDTO = appointmentService.bookAppointment(currentUser.getId(), request);
             return ResponseEntity.ok(appointmentResponseDTO);
-        } catch (UserNotFoundException | VehicleNotFoundException e) {
+        } catch (UserNotFoundException | VehicleNotFoundException | ResourceNotFoundException e) {
+            bookingMetrics.countRejected("invalid");
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (UnauthorizedException e) {
+            bookingMetrics.countRejected("invalid");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (DuplicateResourceException e) {
+        } catch (DuplicateResourceException | SlotUnavailableException | ScheduleConflictException e) {
+            bookingMetrics.countRejected("conflict");
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
+            bookingMetrics.countRejected("invalid");
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<MyAppointmentDTO>> getMyAppointments(Authentication authentication) {
+    public ResponseEntity<List<MyAppointmentDTO>> getMyAppointments(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
-            List<MyAppointmentDTO> response = appointmentService.getMyAppointments(authentication.getName());
+            List<MyAppointmentDTO> response = appointmentService.getMyAppointments(currentUser.getId());
             return ResponseEntity.ok(response);
         } catch (ResourceNotFoundException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -53,13 +69,37 @@ public class CustomerAppointmentsController {
 
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getMyAppointmentsPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<MyAppointmentDTO> page = appointmentService.getMyAppointmentsPage(
+                    currentUser.getId(),
+                    status,
+                    from,
+                    to,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MyAppointmentDTO> getAppointmentById(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
         try {
-            String email = authentication.getName();
-            MyAppointmentDTO appointmentDTO = appointmentService.getAppointmentById(email, id);
+            MyAppointmentDTO appointmentDTO = appointmentService.getAppointmentById(currentUser.getId(), id);
             return ResponseEntity.ok(appointmentDTO);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -70,13 +110,13 @@ public class CustomerAppointmentsController {
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAppointment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody UpdateAppointmentRequestDTO request) {
 
         try {
             UpdateAppointmentRequestDTO response = appointmentService.updateAppointment(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -86,19 +126,19 @@ public class CustomerAppointmentsController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (DuplicateResourceException e) {
+        } catch (DuplicateResourceException | SlotUnavailableException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 
     @PutMapping("/{id}/cancel")
     public ResponseEntity<?> cancelAppointment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
             AppointmentResponseDTO response = appointmentService.cancelAppointment(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id);
             return ResponseEntity.ok(response);
         } catch (ResourceNotFoundException | UnauthorizedException e) {
@@ -110,11 +150,11 @@ public class CustomerAppointmentsController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteAppointment(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
-            appointmentService.deleteAppointment(authentication.getName(), id);
+            appointmentService.deleteAppointment(currentUser.getId(), id);
             return ResponseEntity.noContent().build();
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -126,4 +166,66 @@ public class CustomerAppointmentsController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred.");
         }
     }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<?> getAppointmentProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getAppointmentTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/notes")
+    public ResponseEntity<?> getAppointmentNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getAppointmentNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/notes")
+    public ResponseEntity<?> addAppointmentNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addAppointmentNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
@@ -4,12 +4,13 @@ import com.gearsync.backend.dto.UpdateCustomerProfileDTO;
 import com.gearsync.backend.dto.UserDto;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.CustomerProfileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,10 +21,10 @@ public class CustomerController {
     private final CustomerProfileService profileService;
 
     @GetMapping
-    public ResponseEntity<?> getMyProfile(Authentication authentication) {
+    public ResponseEntity<?> getMyProfile(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
 
-            UserDto profile = profileService.getMyProfile(authentication.getName());
+            UserDto profile = profileService.getMyProfile(currentUser.getId());
 
             return ResponseEntity.ok(profile);
         } catch (ResourceNotFoundException e) {
@@ -35,12 +36,12 @@ public class CustomerController {
 
     @PutMapping
     public ResponseEntity<?> updateMyProfile(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @Valid @RequestBody UpdateCustomerProfileDTO request) {
         try {
 
             UserDto updatedProfile = profileService.updateMyProfile(
-                    authentication.getName(),
+                    currentUser.getId(),
                     request
             );
 
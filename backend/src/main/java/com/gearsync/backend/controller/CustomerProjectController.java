@@ -1,18 +1,27 @@
 package com.gearsync.backend.controller;
 
+import com.gearsync.backend.dto.CursorPageDTO;
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.dto.NoteRequestDTO;
+import com.gearsync.backend.dto.ProgressTimelineDTO;
 import com.gearsync.backend.dto.ProjectRequestDTO;
 import com.gearsync.backend.dto.ProjectResponseDTO;
 import com.gearsync.backend.dto.ProjectUpdateRequestDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.security.UserDetailsImpl;
+import com.gearsync.backend.service.NoteService;
 import com.gearsync.backend.service.ProjectService;
+import com.gearsync.backend.service.ServiceProgressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,15 +31,17 @@ import java.util.List;
 public class CustomerProjectController {
 
     private final ProjectService projectService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
 
     @PostMapping
     public ResponseEntity<?> createProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @Valid @RequestBody ProjectRequestDTO request) {
 
         try {
             ProjectResponseDTO response = projectService.createProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (UnauthorizedException | ResourceNotFoundException e) {
@@ -42,11 +53,11 @@ public class CustomerProjectController {
 
 
     @GetMapping
-    public ResponseEntity<List<?>> getMyProjects(Authentication authentication) {
+    public ResponseEntity<List<?>> getMyProjects(@AuthenticationPrincipal UserDetailsImpl currentUser) {
 
         try {
             List<ProjectResponseDTO> projects = projectService.getMyProjects(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(projects);
         } catch (ResourceNotFoundException e) {
@@ -55,22 +66,49 @@ public class CustomerProjectController {
     }
 
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getMyProjectsPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        try {
+            CursorPageDTO<ProjectResponseDTO> page = projectService.getMyProjectsPage(
+                    currentUser.getId(),
+                    status,
+                    from,
+                    to,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+
     @GetMapping("/active")
-    public ResponseEntity<List<ProjectResponseDTO>> getMyActiveProjects(Authentication authentication) {
+    public ResponseEntity<List<ProjectResponseDTO>> getMyActiveProjects(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         List<ProjectResponseDTO> projects = projectService.getMyActiveProjects(
-                authentication.getName()
+                currentUser.getId()
         );
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getProjectById(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
             ProjectResponseDTO project = projectService.getProjectById(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(project);
@@ -83,14 +121,14 @@ public class CustomerProjectController {
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody ProjectUpdateRequestDTO request) {
 
 
         try {
             ProjectResponseDTO response = projectService.updateProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -106,11 +144,11 @@ public class CustomerProjectController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProject(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
-            projectService.deleteProject(authentication.getName(), id);
+            projectService.deleteProject(currentUser.getId(), id);
             return ResponseEntity.noContent().build();
         } catch (ResourceNotFoundException | UnauthorizedException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -120,4 +158,66 @@ public class CustomerProjectController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred");
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<?> getProjectProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getProjectTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/notes")
+    public ResponseEntity<?> getProjectNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getProjectNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/notes")
+    public ResponseEntity<?> addProjectNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addProjectNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
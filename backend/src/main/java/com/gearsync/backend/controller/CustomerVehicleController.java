@@ -5,11 +5,12 @@ import com.gearsync.backend.exception.UserNotFoundException;
 import com.gearsync.backend.exception.VehicleAlreadyExistsException;
 import com.gearsync.backend.exception.VehicleNotFoundException;
 import com.gearsync.backend.model.Vehicle;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.VehicleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,22 +24,22 @@ public class CustomerVehicleController {
     private final VehicleService vehicleService;
 
     @GetMapping
-    public ResponseEntity<List<Vehicle>> list(Authentication authentication) {
-        return ResponseEntity.ok(vehicleService.listMyVehicles(authentication.getName()));
+    public ResponseEntity<List<Vehicle>> list(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        return ResponseEntity.ok(vehicleService.listMyVehicles(currentUser.getId()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Vehicle> get(Authentication authentication, @PathVariable Long id) {
-        return ResponseEntity.ok(vehicleService.getMyVehicle(authentication.getName(), id));
+    public ResponseEntity<Vehicle> get(@AuthenticationPrincipal UserDetailsImpl currentUser, @PathVariable Long id) {
+        return ResponseEntity.ok(vehicleService.getMyVehicle(currentUser.getId(), id));
     }
 
     @PostMapping
     public ResponseEntity<?> addMyVehicle(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestBody VehicleRequestDTO payload) {
 
         try {
-            VehicleResponseDTO response = vehicleService.addMyVehicle(authentication.getName(), payload);
+            VehicleResponseDTO response = vehicleService.addMyVehicle(currentUser.getId(), payload);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (VehicleAlreadyExistsException ex) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -53,22 +54,22 @@ public class CustomerVehicleController {
     }
 
     @PutMapping("/{id}")
-        public ResponseEntity<Vehicle> update(Authentication authentication, @PathVariable Long id, @RequestBody VehicleRequestDTO payload) {
-            return ResponseEntity.ok(vehicleService.updateMyVehicle(authentication.getName(), id, payload));
+        public ResponseEntity<Vehicle> update(@AuthenticationPrincipal UserDetailsImpl currentUser, @PathVariable Long id, @RequestBody VehicleRequestDTO payload) {
+            return ResponseEntity.ok(vehicleService.updateMyVehicle(currentUser.getId(), id, payload));
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Vehicle> patchUpdate(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @RequestBody VehicleRequestDTO payload) {
-        return ResponseEntity.ok(vehicleService.updateMyVehicle(authentication.getName(), id, payload));
+        return ResponseEntity.ok(vehicleService.updateMyVehicle(currentUser.getId(), id, payload));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(Authentication authentication, @PathVariable Long id) {
+    public ResponseEntity<?> delete(@AuthenticationPrincipal UserDetailsImpl currentUser, @PathVariable Long id) {
         try {
-            vehicleService.deleteMyVehicle(authentication.getName(), id);
+            vehicleService.deleteMyVehicle(currentUser.getId(), id);
             return ResponseEntity.noContent().build(); // 204 No Content
         } catch (UserNotFoundException | VehicleNotFoundException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
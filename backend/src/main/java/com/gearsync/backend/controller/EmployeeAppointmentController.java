@@ -1,17 +1,26 @@
 package com.gearsync.backend.controller;
 
 import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.CursorPageDTO;
 import com.gearsync.backend.dto.EmployeeStatusUpdateDTO;
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.dto.NoteRequestDTO;
+import com.gearsync.backend.dto.ProgressEntryDTO;
+import com.gearsync.backend.dto.ProgressEntryRequestDTO;
+import com.gearsync.backend.dto.ProgressTimelineDTO;
 import com.gearsync.backend.dto.TimeLogResponseDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.EmployeeAppointmentService;
 import com.gearsync.backend.service.EmployeeTimeLogService;
+import com.gearsync.backend.service.NoteService;
+import com.gearsync.backend.service.ServiceProgressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
@@ -23,12 +32,14 @@ import java.util.List;
 public class EmployeeAppointmentController {
     private final EmployeeAppointmentService appointmentService;
     private final EmployeeTimeLogService timeLogService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
 
     @GetMapping
-    public ResponseEntity<List<?>> getMyAssignedAppointments(Authentication authentication) {
+    public ResponseEntity<List<?>> getMyAssignedAppointments(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<AppointmentResponseDTO> appointments = appointmentService.getMyAssignedAppointments(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(appointments);
         } catch (UnauthorizedException | ResourceNotFoundException e) {
@@ -39,11 +50,11 @@ public class EmployeeAppointmentController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getAppointmentDetails(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
         try {
             AppointmentResponseDTO appointment = appointmentService.getAppointmentDetails(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(appointment);
@@ -57,13 +68,13 @@ public class EmployeeAppointmentController {
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<?> updateAppointmentStatus(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody EmployeeStatusUpdateDTO request) {
 
         try {
             AppointmentResponseDTO response = appointmentService.updateAppointmentStatus(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -81,12 +92,12 @@ public class EmployeeAppointmentController {
 
     @GetMapping("/{id}/timelogs")
     public ResponseEntity<List<?>> getAppointmentTimeLogs(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
             List<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogsForAppointment(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(timeLogs);
@@ -98,4 +109,83 @@ public class EmployeeAppointmentController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Collections.singletonList(e.getMessage()));
         }
     }
+
+    @PostMapping("/{id}/progress")
+    public ResponseEntity<?> addAppointmentProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody ProgressEntryRequestDTO request) {
+        try {
+            ProgressEntryDTO entry = serviceProgressService.addAppointmentEntry(
+                    currentUser.getId(),
+                    id,
+                    request
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<?> getAppointmentProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getAppointmentTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/notes")
+    public ResponseEntity<?> getAppointmentNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getAppointmentNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/notes")
+    public ResponseEntity<?> addAppointmentNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addAppointmentNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
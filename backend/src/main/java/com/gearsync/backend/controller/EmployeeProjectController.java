@@ -1,17 +1,26 @@
 package com.gearsync.backend.controller;
 
+import com.gearsync.backend.dto.CursorPageDTO;
 import com.gearsync.backend.dto.EmployeeStatusUpdateDTO;
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.dto.NoteRequestDTO;
+import com.gearsync.backend.dto.ProgressEntryDTO;
+import com.gearsync.backend.dto.ProgressEntryRequestDTO;
+import com.gearsync.backend.dto.ProgressTimelineDTO;
 import com.gearsync.backend.dto.ProjectResponseDTO;
 import com.gearsync.backend.dto.TimeLogResponseDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.EmployeeProjectService;
 import com.gearsync.backend.service.EmployeeTimeLogService;
+import com.gearsync.backend.service.NoteService;
+import com.gearsync.backend.service.ServiceProgressService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
@@ -24,12 +33,14 @@ class EmployeeProjectController {
 
     private final EmployeeProjectService projectService;
     private final EmployeeTimeLogService timeLogService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
 
     @GetMapping
-    public ResponseEntity<List<?>> getMyAssignedProjects(Authentication authentication) {
+    public ResponseEntity<List<?>> getMyAssignedProjects(@AuthenticationPrincipal UserDetailsImpl currentUser) {
         try {
             List<ProjectResponseDTO> projects = projectService.getMyAssignedProjects(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(projects);
         } catch (ResourceNotFoundException e) {
@@ -44,12 +55,12 @@ class EmployeeProjectController {
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getProjectDetails(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
         try {
             ProjectResponseDTO project = projectService.getProjectDetails(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(project);
@@ -65,14 +76,14 @@ class EmployeeProjectController {
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<?> updateProjectStatus(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody EmployeeStatusUpdateDTO request) {
 
 
         try {
             ProjectResponseDTO response = projectService.updateProjectStatus(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -93,13 +104,13 @@ class EmployeeProjectController {
 
     @GetMapping("/{id}/timelogs")
     public ResponseEntity<List<?>> getProjectTimeLogs(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
 
         try {
             List<TimeLogResponseDTO> timeLogs = timeLogService.getTimeLogsForProject(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id
             );
             return ResponseEntity.ok(timeLogs);
@@ -111,4 +122,83 @@ class EmployeeProjectController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Collections.singletonList(e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/{id}/progress")
+    public ResponseEntity<?> addProjectProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody ProgressEntryRequestDTO request) {
+        try {
+            ProgressEntryDTO entry = serviceProgressService.addProjectEntry(
+                    currentUser.getId(),
+                    id,
+                    request
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<?> getProjectProgress(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ProgressTimelineDTO timeline = serviceProgressService.getProjectTimeline(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    after,
+                    limit
+            );
+            return ResponseEntity.ok(timeline);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/notes")
+    public ResponseEntity<?> getProjectNotes(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPageDTO<NoteDTO> notes = noteService.getProjectNotes(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(notes);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/notes")
+    public ResponseEntity<?> addProjectNote(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @PathVariable Long id,
+            @Valid @RequestBody NoteRequestDTO request) {
+        try {
+            NoteDTO note = noteService.addProjectNote(
+                    currentUser.getId(),
+                    currentUser.getRole(),
+                    id,
+                    request.getBody()
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(note);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.gearsync.backend.controller;
+import com.gearsync.backend.dto.CursorPageDTO;
 import com.gearsync.backend.dto.TimeLogRequestDTO;
 import com.gearsync.backend.dto.TimeLogResponseDTO;
 import com.gearsync.backend.dto.TimeLogUpdateDTO;
+import com.gearsync.backend.dto.TimesheetDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.security.UserDetailsImpl;
 import com.gearsync.backend.service.EmployeeTimeLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,12 +29,12 @@ class EmployeeTimeLogController {
 
     @PostMapping
     public ResponseEntity<?> createTimeLog(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @Valid @RequestBody TimeLogRequestDTO request) {
 
         try {
             TimeLogResponseDTO response = timeLogService.createTimeLog(
-                    authentication.getName(),
+                    currentUser.getId(),
                     request
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -46,11 +52,11 @@ class EmployeeTimeLogController {
     }
 
     @GetMapping
-    public ResponseEntity<List<?>> getMyTimeLogs(Authentication authentication) {
+    public ResponseEntity<List<?>> getMyTimeLogs(@AuthenticationPrincipal UserDetailsImpl currentUser) {
 
         try {
             List<TimeLogResponseDTO> timeLogs = timeLogService.getMyTimeLogs(
-                    authentication.getName()
+                    currentUser.getId()
             );
             return ResponseEntity.ok(timeLogs);
         } catch (IllegalArgumentException e) {
@@ -67,14 +73,57 @@ class EmployeeTimeLogController {
     }
 
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getMyTimeLogsPage(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        try {
+            CursorPageDTO<TimeLogResponseDTO> page = timeLogService.getMyTimeLogsPage(
+                    currentUser.getId(),
+                    from,
+                    to,
+                    cursor,
+                    limit
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+
+    @GetMapping("/timesheet")
+    public ResponseEntity<?> getTimesheet(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        try {
+            TimesheetDTO timesheet = timeLogService.getTimesheet(currentUser.getId(), from, to);
+            return ResponseEntity.ok(timesheet);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTimeLog(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id,
             @Valid @RequestBody TimeLogUpdateDTO request) {
         try {
             TimeLogResponseDTO response = timeLogService.updateTimeLog(
-                    authentication.getName(),
+                    currentUser.getId(),
                     id,
                     request
             );
@@ -95,12 +144,12 @@ class EmployeeTimeLogController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTimeLog(
-            Authentication authentication,
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
             @PathVariable Long id) {
 
 
         try {
-            timeLogService.deleteTimeLog(authentication.getName(), id);
+            timeLogService.deleteTimeLog(currentUser.getId(), id);
             return ResponseEntity.noContent().build();
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonList(e.getMessage()));
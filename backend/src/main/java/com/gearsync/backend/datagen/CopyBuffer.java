@@ -0,0 +1,99 @@
+package com.gearsync.backend.datagen;
+
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Rows for one table in PostgreSQL's COPY text format, sent with a single COPY when flushed.
+ * Values are appended column by column in the order given to the constructor.
+ */
+final class CopyBuffer {
+
+    private final String table;
+    private final String copySql;
+    private final StringBuilder rows = new StringBuilder(1 << 16);
+    private boolean rowStart = true;
+    private long pendingRows;
+    private long totalRows;
+
+    CopyBuffer(String table, String columns) {
+        this.table = table;
+        this.copySql = "COPY " + table + " (" + columns + ") FROM STDIN";
+    }
+
+    CopyBuffer add(Object value) {
+        separate();
+        if (value == null) {
+            rows.append("\\N");
+        } else if (value instanceof String text) {
+            escape(text);
+        } else if (value instanceof BigDecimal amount) {
+            rows.append(amount.toPlainString());
+        } else {
+            rows.append(value);
+        }
+        return this;
+    }
+
+    CopyBuffer add(long value) {
+        separate();
+        rows.append(value);
+        return this;
+    }
+
+    void endRow() {
+        rows.append('\n');
+        rowStart = true;
+        pendingRows++;
+    }
+
+    int length() {
+        return rows.length();
+    }
+
+    String table() {
+        return table;
+    }
+
+    long totalRows() {
+        return totalRows;
+    }
+
+    void flush(CopyManager copyManager) {
+        if (pendingRows == 0) {
+            return;
+        }
+        try {
+            totalRows += copyManager.copyIn(copySql, new StringReader(rows.toString()));
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("COPY into " + table + " failed", e);
+        }
+        rows.setLength(0);
+        pendingRows = 0;
+    }
+
+    private void separate() {
+        if (!rowStart) {
+            rows.append('\t');
+        }
+        rowStart = false;
+    }
+
+    // Backslash, tab and line breaks are the only characters COPY text format gives a meaning
+    private void escape(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                default -> rows.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,865 @@
+package com.gearsync.backend.datagen;
+
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.ProjectStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.ServiceCategory;
+import com.gearsync.backend.model.ServiceProgress.ProgressStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Bulk-loads a synthetic dataset at production scale for load and capacity testing. Rows are
+ * streamed to PostgreSQL with COPY in one transaction, so millions of rows load in minutes and a
+ * failed run leaves nothing behind. Generation is deterministic for a given seed and start date.
+ *
+ * <p>The shape follows what a busy workshop sees: a few customers with fleets and most with one
+ * car, booking skewed towards long-standing customers; Mondays, mornings and random peak days
+ * busier than the rest; a handful of popular services; and projects that run for weeks with a
+ * time log and progress entries on most days. Appointments are placed day by day on the booking
+ * grid from {@code app.availability.*}, so the invariants the application enforces hold: no
+ * employee or vehicle is in two appointments at once, an employee's time logs never overlap, and
+ * nothing is booked outside business hours or beyond the number of employees.
+ */
+@Slf4j
+@Service
+@Profile("datagen")
+public class SyntheticDataGenerator {
+
+    private static final String[] SEQUENCED_TABLES =
+            {"users", "vehicles", "services", "appointments", "projects", "time_logs", "service_progress"};
+
+    // Share of bookings drawn by the top fraction f of customers is f^(1 / CUSTOMER_SKEW)
+    private static final double CUSTOMER_SKEW = 2.5;
+    // Catalogue position k is booked in proportion to 1 / (k + 1)^SERVICE_SKEW
+    private static final double SERVICE_SKEW = 1.1;
+    // Share of customers registered before the generated history begins
+    private static final double EXISTING_CUSTOMERS = 0.3;
+    private static final double FLEET_CUSTOMERS = 0.005;
+    private static final double PEAK_DAY_CHANCE = 0.05;
+    private static final double PEAK_DAY_FACTOR = 1.8;
+    // Future days are only partly booked yet; the booked share halves every week ahead
+    private static final double FUTURE_BOOKING_DECAY_DAYS = 10;
+    // Consecutive bookings that find no free employee before a day counts as full
+    private static final int FULL_DAY_MISSES = 25;
+
+    private static final double[] WEEKDAY_WEIGHTS = {1.25, 1.05, 1.0, 1.0, 1.15, 0.85, 0.6};
+
+    private record CatalogueEntry(String name, ServiceCategory category, int minutes, String price, String description) {
+    }
+
+    private record ServiceType(long id, String name, int minutes, BigDecimal price) {
+    }
+
+    private record ProjectType(String name, String description) {
+    }
+
+    public record DatasetSummary(LocalDate from, LocalDate to, Map<String, Long> rows, long unplacedAppointments) {
+    }
+
+    // Most popular first; entries whose name already exists reuse that service
+    private static final List<CatalogueEntry> CATALOGUE = List.of(
+            new CatalogueEntry("Oil Change", ServiceCategory.MAINTENANCE, 30, "4500.00", "Engine oil and filter replacement"),
+            new CatalogueEntry("Full Service", ServiceCategory.MAINTENANCE, 120, "18000.00", "Scheduled service with fluids, filters and a multi-point check"),
+            new CatalogueEntry("Tire Rotation", ServiceCategory.TIRE_SERVICE, 30, "2500.00", "Rotate tires to even out wear"),
+            new CatalogueEntry("Wheel Alignment", ServiceCategory.TIRE_SERVICE, 60, "6000.00", "Four-wheel alignment"),
+            new CatalogueEntry("Brake Pad Replacement", ServiceCategory.REPAIR, 90, "15000.00", "Front or rear brake pads and a disc check"),
+            new CatalogueEntry("Engine Diagnostics", ServiceCategory.DIAGNOSTIC, 60, "5000.00", "OBD scan and fault finding"),
+            new CatalogueEntry("Full Car Wash", ServiceCategory.OTHER, 30, "2000.00", "Exterior wash and interior vacuum"),
+            new CatalogueEntry("Battery Replacement", ServiceCategory.ELECTRICAL, 30, "25000.00", "Battery test and replacement"),
+            new CatalogueEntry("AC Regas", ServiceCategory.ELECTRICAL, 60, "9000.00", "Air conditioning leak test and regas"),
+            new CatalogueEntry("Wheel Balancing", ServiceCategory.TIRE_SERVICE, 30, "3000.00", "Balance all four wheels"),
+            new CatalogueEntry("Safety Inspection", ServiceCategory.INSPECTION, 60, "5000.00", "Brakes, lights, steering and suspension check"),
+            new CatalogueEntry("Emission Test", ServiceCategory.INSPECTION, 30, "3000.00", "Exhaust emission test and certificate"),
+            new CatalogueEntry("Tire Replacement", ServiceCategory.TIRE_SERVICE, 60, "4000.00", "Fit and balance new tires"),
+            new CatalogueEntry("Air Filter Replacement", ServiceCategory.MAINTENANCE, 30, "3500.00", "Engine and cabin air filters"),
+            new CatalogueEntry("Brake Fluid Flush", ServiceCategory.MAINTENANCE, 60, "6500.00", "Replace brake fluid and bleed the system"),
+            new CatalogueEntry("Coolant Flush", ServiceCategory.MAINTENANCE, 60, "7000.00", "Drain and refill the cooling system"),
+            new CatalogueEntry("Electrical Diagnostics", ServiceCategory.DIAGNOSTIC, 90, "7000.00", "Wiring, sensor and module fault finding"),
+            new CatalogueEntry("Suspension Repair", ServiceCategory.REPAIR, 180, "35000.00", "Shock absorber, bush and link replacement"),
+            new CatalogueEntry("Exhaust Repair", ServiceCategory.REPAIR, 120, "18000.00", "Exhaust pipe, muffler and mount repair"),
+            new CatalogueEntry("Pre-Purchase Inspection", ServiceCategory.INSPECTION, 60, "8000.00", "Full condition report before buying"),
+            new CatalogueEntry("Alternator Replacement", ServiceCategory.ELECTRICAL, 120, "30000.00", "Charging system test and alternator replacement"),
+            new CatalogueEntry("Headlight Restoration", ServiceCategory.ELECTRICAL, 60, "6000.00", "Polish and reseal headlight lenses"),
+            new CatalogueEntry("Interior Detailing", ServiceCategory.OTHER, 120, "12000.00", "Deep clean of seats, carpets and trim"),
+            new CatalogueEntry("Transmission Service", ServiceCategory.MAINTENANCE, 120, "22000.00", "Transmission fluid and filter change"),
+            new CatalogueEntry("Timing Belt Replacement", ServiceCategory.REPAIR, 180, "40000.00", "Timing belt, tensioner and water pump"),
+            new CatalogueEntry("Dent Repair", ServiceCategory.BODYWORK, 180, "20000.00", "Paintless dent removal"),
+            new CatalogueEntry("Paint Touch-Up", ServiceCategory.BODYWORK, 120, "15000.00", "Scratch and chip repair"),
+            new CatalogueEntry("Windscreen Replacement", ServiceCategory.BODYWORK, 120, "28000.00", "Remove and fit a new windscreen"),
+            new CatalogueEntry("Clutch Replacement", ServiceCategory.REPAIR, 240, "55000.00", "Clutch kit and flywheel check")
+    );
+
+    private static final List<ProjectType> PROJECT_TYPES = List.of(
+            new ProjectType("Engine Rebuild", "Strip, machine and rebuild the engine with new bearings, rings and gaskets"),
+            new ProjectType("Full Restoration", "Bare-metal restoration of body, interior and mechanicals"),
+            new ProjectType("Respray", "Full respray in the original colour after panel preparation"),
+            new ProjectType("Rust Repair", "Cut out and replace corroded sills, arches and floor sections"),
+            new ProjectType("Turbo Installation", "Fit a turbo kit with intercooler, fuel upgrades and a remap"),
+            new ProjectType("Suspension Upgrade", "Coilover conversion with new bushes and a full alignment"),
+            new ProjectType("Interior Retrim", "Retrim seats, door cards and headliner"),
+            new ProjectType("Custom Body Kit", "Fit and paint a custom body kit"),
+            new ProjectType("Audio System Install", "Head unit, amplifiers, speakers and sound deadening"),
+            new ProjectType("Hybrid Battery Rebuild", "Test and replace failing hybrid battery modules")
+    );
+
+    private static final String[] FIRST_NAMES = {"Nimal", "Kamal", "Sunil", "Ruwan", "Chamara", "Dilshan", "Kasun", "Tharindu",
+            "Nuwan", "Saman", "Amali", "Nadeesha", "Sanduni", "Dilani", "Ishara", "Hiruni", "Kavindi", "Piumi", "Ayesha",
+            "Fathima", "Mohamed", "Rizwan", "Arjun", "Priya", "Lakshmi", "Rajesh", "David", "Sarah", "Michael", "Emma",
+            "James", "Olivia", "Daniel", "Sophia", "Thomas", "Anna"};
+    private static final String[] LAST_NAMES = {"Perera", "Fernando", "Silva", "de Silva", "Jayasinghe", "Bandara",
+            "Wickramasinghe", "Gunawardena", "Rajapaksa", "Dissanayake", "Herath", "Karunaratne", "Senanayake",
+            "Weerasinghe", "Ranasinghe", "Kumara", "Rathnayake", "Mendis", "Peiris", "Cooray", "Nazeer", "Ismail",
+            "Sivakumar", "Rajendran", "Smith", "Brown", "Wilson", "Taylor"};
+    private static final String[][] MAKES_AND_MODELS = {
+            {"Toyota", "Corolla", "Axio", "Prius", "Aqua", "Vitz", "Premio", "Land Cruiser", "Hilux"},
+            {"Honda", "Civic", "Fit", "Vezel", "Grace", "CR-V"},
+            {"Nissan", "Sunny", "Leaf", "X-Trail", "March", "Navara"},
+            {"Suzuki", "Alto", "Wagon R", "Swift", "Every"},
+            {"Mitsubishi", "Lancer", "Montero", "Outlander"},
+            {"Mazda", "Axela", "Demio", "CX-5"},
+            {"Hyundai", "Elantra", "Tucson", "i10"},
+            {"Kia", "Sportage", "Picanto", "Sorento"},
+            {"BMW", "320d", "X1", "520d"},
+            {"Mercedes-Benz", "C200", "E250", "GLA"}
+    };
+    private static final String[] COLORS = {"White", "Black", "Silver", "Grey", "Blue", "Red", "Pearl White", "Dark Blue",
+            "Green", "Maroon"};
+    private static final String[] CUSTOMER_NOTES = {"Please call before starting any extra work",
+            "Strange noise from the front left wheel", "Car pulls to the right when braking",
+            "Check engine light came on last week", "Need the car back by 5pm", "Air conditioning is not cooling well",
+            "Please check the tire pressure as well", "Vibration at highway speed"};
+    private static final String[] PROJECT_UPDATES = {"Parts stripped and inspected", "Work progressing to plan",
+            "Machining completed, starting reassembly", "Panels prepared for paint", "Wiring loom routed and tested",
+            "Road test completed with minor adjustments"};
+    private static final String VIN_CHARACTERS = "ABCDEFGHJKLMNPRSTUVWXYZ0123456789";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private final int customers;
+    private final int employees;
+    private final long appointmentTarget;
+    private final int projectTarget;
+    private final int historyDays;
+    private final int futureDays;
+    private final long seed;
+    private final String password;
+    private final int flushChars;
+
+    private final LocalTime openTime;
+    private final int slotStepMinutes;
+    private final int slotsPerDay;
+    private final Set<DayOfWeek> closedDays;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${app.datagen.customers:100000}") int customers,
+                                  @Value("${app.datagen.employees:800}") int employees,
+                                  @Value("${app.datagen.appointments:1500000}") long appointmentTarget,
+                                  @Value("${app.datagen.projects:50000}") int projectTarget,
+                                  @Value("${app.datagen.history-days:730}") int historyDays,
+                                  @Value("${app.datagen.future-days:30}") int futureDays,
+                                  @Value("${app.datagen.seed:42}") long seed,
+                                  @Value("${app.datagen.password:Datagen@123}") String password,
+                                  @Value("${app.datagen.flush-chars:16000000}") int flushChars,
+                                  @Value("${app.availability.open-time:08:00}") String openTime,
+                                  @Value("${app.availability.close-time:18:00}") String closeTime,
+                                  @Value("${app.availability.slot-step-minutes:30}") int slotStepMinutes,
+                                  @Value("${app.availability.closed-days:SUNDAY}") Set<DayOfWeek> closedDays) {
+        this.openTime = LocalTime.parse(openTime);
+        long dayMinutes = ChronoUnit.MINUTES.between(this.openTime, LocalTime.parse(closeTime));
+        // One bit per booking slot of the day in a long
+        if (customers < 1 || employees < 1 || appointmentTarget < 0 || projectTarget < 0 || historyDays < 1
+                || futureDays < 0 || slotStepMinutes < 1 || dayMinutes < slotStepMinutes
+                || dayMinutes / slotStepMinutes > Long.SIZE - 1) {
+            throw new IllegalStateException("Invalid data generator configuration");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.customers = customers;
+        this.employees = employees;
+        this.appointmentTarget = appointmentTarget;
+        this.projectTarget = projectTarget;
+        this.historyDays = historyDays;
+        this.futureDays = futureDays;
+        this.seed = seed;
+        this.password = password;
+        this.flushChars = flushChars;
+        this.slotStepMinutes = slotStepMinutes;
+        this.slotsPerDay = (int) (dayMinutes / slotStepMinutes);
+        this.closedDays = closedDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(closedDays);
+    }
+
+    // The tables are locked for the whole load so rows written meanwhile cannot take the ids used here
+    @Transactional
+    public DatasetSummary generate() {
+        jdbcTemplate.execute("LOCK TABLE users, vehicles, services, appointments, appointment_services, projects, "
+                + "time_logs, service_progress IN SHARE ROW EXCLUSIVE MODE");
+        // The transaction's connection, which stays open until it commits
+        CopyManager copyManager = jdbcTemplate.execute(
+                (ConnectionCallback<CopyManager>) connection -> connection.unwrap(PGConnection.class).getCopyAPI());
+
+        Run run = new Run(copyManager);
+        run.load();
+
+        for (String table : SEQUENCED_TABLES) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "COALESCE(MAX(id), 0) + 1, false) FROM " + table, Long.class);
+        }
+        return run.summary();
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max + 1;
+    }
+
+    // Weighted choice by binary search over running totals
+    private static final class Cumulative {
+
+        private final double[] totals;
+
+        Cumulative(double[] weights) {
+            totals = new double[weights.length];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                totals[i] = total;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            double x = random.nextDouble() * totals[totals.length - 1];
+            int low = 0;
+            int high = totals.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (totals[mid] > x) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class ProjectPlan {
+        long id;
+        String name;
+        int employee;
+        long firstWorkDay;
+        long lastWorkDay;
+        int slots;
+        int workDays;
+        int loggedDays;
+        ProjectStatus status;
+    }
+
+    private final class Run {
+
+        private final CopyManager copyManager;
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final LocalDateTime now = LocalDateTime.now();
+        private final LocalDate today = now.toLocalDate();
+        private final LocalDate firstDay = today.minusDays(historyDays);
+        private final LocalDate lastDay = today.plusDays(futureDays);
+
+        private final CopyBuffer users = new CopyBuffer("users", "id, email, password, first_name, last_name, "
+                + "phone_number, role, is_active, created_at, updated_at, is_first_login, is_password_changed");
+        private final CopyBuffer vehicles = new CopyBuffer("vehicles", "id, registration_number, make, model, year, "
+                + "color, vin_number, mileage, created_at, updated_at, owner_id");
+        private final CopyBuffer services = new CopyBuffer("services", "id, service_name, description, base_price, "
+                + "estimated_duration_minutes, category, is_active, created_at, updated_at");
+        private final CopyBuffer projects = new CopyBuffer("projects", "id, project_name, description, status, "
+                + "estimated_cost, actual_cost, estimated_duration_hours, start_date, completion_date, "
+                + "expected_completion_date, progress_percentage, created_at, updated_at, customer_id, vehicle_id, "
+                + "assigned_employee_id");
+        private final CopyBuffer appointments = new CopyBuffer("appointments", "id, scheduled_date_time, status, "
+                + "customer_notes, final_cost, actual_start_time, actual_end_time, progress_percentage, created_at, "
+                + "updated_at, customer_id, vehicle_id, assigned_employee_id");
+        private final CopyBuffer appointmentServices = new CopyBuffer("appointment_services", "appointment_id, service_id");
+        private final CopyBuffer timeLogs = new CopyBuffer("time_logs", "id, start_time, end_time, duration_minutes, "
+                + "work_description, created_at, updated_at, employee_id, appointment_id, project_id");
+        private final CopyBuffer progress = new CopyBuffer("service_progress", "id, progress_percentage, status, message, "
+                + "timestamp, updated_by_employee_id, appointment_id, project_id");
+        // Referenced tables first, so every flush satisfies the foreign keys
+        private final List<CopyBuffer> buffers =
+                List.of(users, vehicles, services, projects, appointments, appointmentServices, timeLogs, progress);
+
+        private long employeeBaseId;
+        private long customerBaseId;
+        private long vehicleBaseId;
+        private long appointmentBaseId;
+        private long nextAppointmentId;
+        private long nextProjectId;
+        private long nextTimeLogId;
+        private long nextProgressId;
+
+        // Vehicles of one customer are contiguous
+        private final int[] firstVehicle = new int[customers];
+        private final int[] vehicleCount = new int[customers];
+        private int[] vehicleOwner;
+        private long[] vehicleBookedDay;
+
+        private final List<ServiceType> serviceTypes = new ArrayList<>();
+        private Cumulative servicePopularity;
+        private Cumulative startSlots;
+        private final List<ProjectPlan> plans = new ArrayList<>();
+
+        // Bit s is set when the employee is busy in slot s of the day being generated
+        private final long[] busy = new long[employees];
+        private long unplaced;
+
+        Run(CopyManager copyManager) {
+            this.copyManager = copyManager;
+        }
+
+        void load() {
+            long started = System.nanoTime();
+            employeeBaseId = nextId("users");
+            customerBaseId = employeeBaseId + employees;
+            vehicleBaseId = nextId("vehicles");
+            appointmentBaseId = nextId("appointments");
+            nextAppointmentId = appointmentBaseId;
+            nextProjectId = nextId("projects");
+            nextTimeLogId = nextId("time_logs");
+            nextProgressId = nextId("service_progress");
+
+            String passwordHash = passwordEncoder.encode(password);
+            writeEmployees(passwordHash);
+            writeCustomersAndVehicles(passwordHash);
+            writeServices();
+            startSlots = new Cumulative(startSlotWeights());
+            planProjects();
+
+            double[] weights = dayWeights();
+            double totalWeight = Arrays.stream(weights).sum();
+            int planIndex = 0;
+            List<ProjectPlan> active = new ArrayList<>();
+            for (int d = 0; d < weights.length; d++) {
+                LocalDate day = firstDay.plusDays(d);
+                long epochDay = day.toEpochDay();
+                while (planIndex < plans.size() && plans.get(planIndex).firstWorkDay <= epochDay) {
+                    active.add(plans.get(planIndex++));
+                }
+                active.removeIf(plan -> plan.lastWorkDay < epochDay);
+                if (day.getDayOfMonth() == 1) {
+                    log.info("Generated up to {}: {} appointments in {} s", day, nextAppointmentId - appointmentBaseId,
+                            (System.nanoTime() - started) / 1_000_000_000);
+                }
+                if (weights[d] == 0) {
+                    continue;
+                }
+
+                Arrays.fill(busy, 0L);
+                if (day.isBefore(today)) {
+                    for (ProjectPlan plan : active) {
+                        logProjectWork(plan, day);
+                    }
+                }
+                double expected = totalWeight == 0 ? 0 : appointmentTarget * weights[d] / totalWeight;
+                long demand = (long) expected + (random.nextDouble() < expected - Math.floor(expected) ? 1 : 0);
+                int misses = 0;
+                for (long i = 0; i < demand; i++) {
+                    if (bookAppointment(day, d)) {
+                        misses = 0;
+                        continue;
+                    }
+                    unplaced++;
+                    if (++misses == FULL_DAY_MISSES) {
+                        unplaced += demand - i - 1;
+                        break;
+                    }
+                }
+
+                if (buffers.stream().mapToLong(CopyBuffer::length).sum() > flushChars) {
+                    flushAll();
+                }
+            }
+            flushAll();
+            if (unplaced > 0) {
+                log.warn("{} appointments did not fit on their day; raise app.datagen.employees for more capacity", unplaced);
+            }
+        }
+
+        DatasetSummary summary() {
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (CopyBuffer buffer : buffers) {
+                rows.put(buffer.table(), buffer.totalRows());
+            }
+            return new DatasetSummary(firstDay, lastDay, rows, unplaced);
+        }
+
+        private void flushAll() {
+            for (CopyBuffer buffer : buffers) {
+                buffer.flush(copyManager);
+            }
+        }
+
+        private void writeEmployees(String passwordHash) {
+            for (int e = 0; e < employees; e++) {
+                LocalDateTime hired = firstDay.minusDays(30 + random.nextInt(1000)).atTime(openTime);
+                writeUser(employeeBaseId + e, Role.EMPLOYEE, hired, passwordHash);
+            }
+        }
+
+        private void writeCustomersAndVehicles(String passwordHash) {
+            // Fleet owners come first, as they have booked since long before the generated history
+            int fleets = Math.max(1, (int) (customers * FLEET_CUSTOMERS));
+            int totalVehicles = 0;
+            for (int c = 0; c < customers; c++) {
+                firstVehicle[c] = totalVehicles;
+                vehicleCount[c] = c < fleets ? 5 + random.nextInt(36) : 1 + geometric(0.3, 4);
+                totalVehicles += vehicleCount[c];
+            }
+            vehicleOwner = new int[totalVehicles];
+            vehicleBookedDay = new long[totalVehicles];
+            Arrays.fill(vehicleBookedDay, Long.MIN_VALUE);
+
+            for (int c = 0; c < customers; c++) {
+                LocalDateTime registered = registrationOf(c);
+                writeUser(customerBaseId + c, Role.CUSTOMER, registered, passwordHash);
+                for (int v = 0; v < vehicleCount[c]; v++) {
+                    int vehicle = firstVehicle[c] + v;
+                    vehicleOwner[vehicle] = c;
+                    writeVehicle(vehicleBaseId + vehicle, customerBaseId + c, registered.plusDays(v * 30L));
+                }
+            }
+        }
+
+        private void writeUser(long id, Role role, LocalDateTime created, String passwordHash) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = (firstName + "." + lastName.replace(" ", "") + id + "@example.com").toLowerCase(Locale.ROOT);
+            users.add(id).add(email).add(passwordHash).add(firstName).add(lastName)
+                    .add(String.format("07%08d", random.nextInt(100_000_000))).add(role.name()).add(true)
+                    .add(created).add(created).add(false).add(role == Role.EMPLOYEE)
+                    .endRow();
+        }
+
+        private void writeVehicle(long id, long ownerId, LocalDateTime created) {
+            String[] make = MAKES_AND_MODELS[random.nextInt(MAKES_AND_MODELS.length)];
+            int age = Math.min(25, (int) Math.abs(random.nextGaussian() * 7));
+            StringBuilder vin = new StringBuilder(17);
+            for (int i = 0; i < 17; i++) {
+                vin.append(VIN_CHARACTERS.charAt(random.nextInt(VIN_CHARACTERS.length())));
+            }
+            vehicles.add(id).add(registrationNumber(id)).add(make[0]).add(make[1 + random.nextInt(make.length - 1)])
+                    .add(today.getYear() - age).add(COLORS[random.nextInt(COLORS.length)]).add(vin.toString())
+                    .add((age + 1) * (8_000L + random.nextInt(12_000))).add(created).add(created).add(ownerId)
+                    .endRow();
+        }
+
+        // Three letters and four digits, unique for each of the first 175 million ids
+        private String registrationNumber(long id) {
+            long n = id % 175_760_000L;
+            long letters = n / 10_000;
+            return String.format("%c%c%c-%04d", (char) ('A' + letters / 676 % 26), (char) ('A' + letters / 26 % 26),
+                    (char) ('A' + letters % 26), n % 10_000);
+        }
+
+        private void writeServices() {
+            Map<String, ServiceType> existing = new HashMap<>();
+            jdbcTemplate.query("SELECT id, service_name, estimated_duration_minutes, base_price FROM services", row -> {
+                existing.put(row.getString("service_name"), new ServiceType(row.getLong("id"),
+                        row.getString("service_name"), row.getInt("estimated_duration_minutes"), row.getBigDecimal("base_price")));
+            });
+            long nextServiceId = nextId("services");
+            LocalDateTime created = firstDay.minusDays(60).atTime(openTime);
+            double[] popularity = new double[CATALOGUE.size()];
+            for (int i = 0; i < CATALOGUE.size(); i++) {
+                CatalogueEntry entry = CATALOGUE.get(i);
+                ServiceType type = existing.get(entry.name());
+                if (type == null) {
+                    type = new ServiceType(nextServiceId++, entry.name(), entry.minutes(), new BigDecimal(entry.price()));
+                    services.add(type.id()).add(entry.name()).add(entry.description()).add(type.price())
+                            .add(entry.minutes()).add(entry.category().name()).add(true).add(created).add(created)
+                            .endRow();
+                }
+                serviceTypes.add(type);
+                popularity[i] = 1 / Math.pow(i + 1, SERVICE_SKEW);
+            }
+            servicePopularity = new Cumulative(popularity);
+        }
+
+        // Mornings are busiest, with a second smaller wave after lunch
+        private double[] startSlotWeights() {
+            double[] weights = new double[slotsPerDay];
+            for (int s = 0; s < slotsPerDay; s++) {
+                int hour = openTime.plusMinutes((long) s * slotStepMinutes).getHour();
+                weights[s] = hour < 10 ? 3.0 : hour < 12 ? 2.0 : hour < 13 ? 1.0 : hour < 16 ? 1.5 : 0.6;
+            }
+            return weights;
+        }
+
+        private double[] dayWeights() {
+            double[] weights = new double[historyDays + futureDays + 1];
+            for (int d = 0; d < weights.length; d++) {
+                LocalDate day = firstDay.plusDays(d);
+                if (closedDays.contains(day.getDayOfWeek())) {
+                    continue;
+                }
+                double weight = WEEKDAY_WEIGHTS[day.getDayOfWeek().ordinal()]
+                        * (1 + 0.2 * Math.sin(2 * Math.PI * day.getDayOfYear() / 365.25));
+                if (d <= historyDays) {
+                    // The business grows over the generated history
+                    weight *= 0.6 + 0.4 * d / historyDays;
+                } else {
+                    weight *= Math.exp(-(d - historyDays) / FUTURE_BOOKING_DECAY_DAYS);
+                }
+                if (random.nextDouble() < PEAK_DAY_CHANCE) {
+                    weight *= PEAK_DAY_FACTOR;
+                }
+                weights[d] = weight;
+            }
+            return weights;
+        }
+
+        // Customer c registered before the history began or, for later customers, at a steady rate through it
+        private LocalDateTime registrationOf(int customer) {
+            double position = (double) customer / customers;
+            LocalDate day = position < EXISTING_CUSTOMERS
+                    ? firstDay.minusDays(1 + random.nextInt(730))
+                    : firstDay.plusDays((long) ((position - EXISTING_CUSTOMERS) / (1 - EXISTING_CUSTOMERS) * historyDays));
+            return day.atTime(openTime).plusMinutes(random.nextInt(600));
+        }
+
+        // Only customers registered by day d can book, and the longest-standing book most
+        private int pickCustomer(int d) {
+            double registered = Math.min(1, EXISTING_CUSTOMERS + (1 - EXISTING_CUSTOMERS) * d / historyDays);
+            int pool = Math.max(1, (int) (customers * registered));
+            return (int) (pool * Math.pow(random.nextDouble(), CUSTOMER_SKEW));
+        }
+
+        private int pickVehicle(int d, long epochDay) {
+            for (int attempt = 0; attempt < 5; attempt++) {
+                int customer = pickCustomer(d);
+                int vehicle = firstVehicle[customer] + random.nextInt(vehicleCount[customer]);
+                if (vehicleBookedDay[vehicle] != epochDay) {
+                    return vehicle;
+                }
+            }
+            return -1;
+        }
+
+        // Number of successes before the first failure, capped at max
+        private int geometric(double continueChance, int max) {
+            int n = 0;
+            while (n < max && random.nextDouble() < continueChance) {
+                n++;
+            }
+            return n;
+        }
+
+        // Returns false only when no employee was free for the appointment's length at any start on the day
+        private boolean bookAppointment(LocalDate day, int d) {
+            long epochDay = day.toEpochDay();
+            int vehicle = pickVehicle(d, epochDay);
+            if (vehicle < 0) {
+                return true;
+            }
+
+            int wanted = 1 + geometric(0.4, 3);
+            List<ServiceType> chosen = new ArrayList<>(wanted);
+            int minutes = 0;
+            for (int attempt = 0; attempt < wanted * 3 && chosen.size() < wanted; attempt++) {
+                ServiceType type = serviceTypes.get(servicePopularity.next(random));
+                if (!chosen.contains(type) && minutes + type.minutes() <= slotsPerDay * slotStepMinutes) {
+                    chosen.add(type);
+                    minutes += type.minutes();
+                }
+            }
+            if (chosen.isEmpty()) {
+                return true;
+            }
+            minutes = Math.max(minutes, slotStepMinutes);
+            int length = (minutes + slotStepMinutes - 1) / slotStepMinutes;
+            long need = (1L << length) - 1;
+
+            // Search outwards from the preferred start for the nearest slot with a free employee
+            int preferred = Math.min(startSlots.next(random), slotsPerDay - length);
+            for (int offset = 0; offset < 2 * slotsPerDay; offset++) {
+                int slot = preferred + ((offset & 1) == 0 ? offset / 2 : -(offset + 1) / 2);
+                if (slot < 0 || slot + length > slotsPerDay) {
+                    continue;
+                }
+                int employee = freeEmployee(need << slot);
+                if (employee >= 0) {
+                    busy[employee] |= need << slot;
+                    vehicleBookedDay[vehicle] = epochDay;
+                    LocalDateTime start = day.atTime(openTime).plusMinutes((long) slot * slotStepMinutes);
+                    writeAppointment(start, minutes, chosen, vehicle, employee);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int freeEmployee(long slots) {
+            int first = random.nextInt(employees);
+            for (int i = 0; i < employees; i++) {
+                int employee = first + i < employees ? first + i : first + i - employees;
+                if ((busy[employee] & slots) == 0) {
+                    return employee;
+                }
+            }
+            return -1;
+        }
+
+        private void writeAppointment(LocalDateTime start, int minutes, List<ServiceType> chosen, int vehicle, int employee) {
+            long id = nextAppointmentId++;
+            LocalDateTime end = start.plusMinutes(minutes);
+            AppointmentStatus status = appointmentStatus(start, end);
+            // Half of the bookings still waiting for confirmation are in the unassigned queue
+            boolean pending = status == AppointmentStatus.SCHEDULED || status == AppointmentStatus.RESCHEDULED;
+            Long employeeId = pending && random.nextBoolean() ? null : employeeBaseId + employee;
+            boolean completed = status == AppointmentStatus.COMPLETED;
+            boolean inProgress = status == AppointmentStatus.IN_PROGRESS;
+
+            BigDecimal cost = BigDecimal.ZERO;
+            for (ServiceType type : chosen) {
+                cost = cost.add(type.price());
+            }
+            LocalDateTime created = start.minusDays(1 + geometric(0.85, 60)).minusMinutes(random.nextInt(600));
+            String note = random.nextInt(100) < 12 ? CUSTOMER_NOTES[random.nextInt(CUSTOMER_NOTES.length)] : null;
+
+            appointments.add(id).add(start).add(status.name()).add(note).add(completed ? cost : null)
+                    .add(completed || inProgress ? start : null).add(completed ? end : null)
+                    .add(completed ? 100 : inProgress ? 50 : 0).add(created).add(completed ? end : created)
+                    .add(customerBaseId + vehicleOwner[vehicle]).add(vehicleBaseId + vehicle).add(employeeId)
+                    .endRow();
+            for (ServiceType type : chosen) {
+                appointmentServices.add(id).add(type.id()).endRow();
+            }
+
+            if (inProgress) {
+                writeProgress(0, ProgressStatus.STARTED, "Vehicle checked in and work started", start, employeeId, id, null);
+            } else if (completed) {
+                StringBuilder work = new StringBuilder();
+                for (ServiceType type : chosen) {
+                    work.append(work.isEmpty() ? "" : ", ").append(type.name());
+                }
+                writeTimeLog(start, end, work.toString(), employeeId, id, null);
+                writeProgress(0, ProgressStatus.STARTED, "Vehicle checked in and work started", start, employeeId, id, null);
+                writeProgress(50, ProgressStatus.IN_PROGRESS, work + " under way", start.plusMinutes(minutes / 2),
+                        employeeId, id, null);
+                if (random.nextInt(100) < 30) {
+                    writeProgress(90, ProgressStatus.QUALITY_CHECK, "Final quality check",
+                            end.minusMinutes(Math.min(10, minutes / 4)), employeeId, id, null);
+                }
+                writeProgress(100, ProgressStatus.COMPLETED, "Work completed, vehicle ready for collection", end,
+                        employeeId, id, null);
+            }
+        }
+
+        private AppointmentStatus appointmentStatus(LocalDateTime start, LocalDateTime end) {
+            int roll = random.nextInt(100);
+            if (!end.isAfter(now)) {
+                return roll < 90 ? AppointmentStatus.COMPLETED : roll < 96 ? AppointmentStatus.CANCELLED : AppointmentStatus.NO_SHOW;
+            }
+            if (start.isBefore(now)) {
+                return AppointmentStatus.IN_PROGRESS;
+            }
+            return roll < 5 ? AppointmentStatus.CANCELLED : roll < 10 ? AppointmentStatus.RESCHEDULED
+                    : roll < 55 ? AppointmentStatus.SCHEDULED : AppointmentStatus.CONFIRMED;
+        }
+
+        private void planProjects() {
+            long lastHistoryDay = today.minusDays(1).toEpochDay();
+            for (int p = 0; p < projectTarget; p++) {
+                ProjectType type = PROJECT_TYPES.get(random.nextInt(PROJECT_TYPES.size()));
+                // More recent days are likelier, as the business grows
+                int d = (int) ((historyDays + futureDays) * Math.sqrt(random.nextDouble()));
+                LocalDateTime created = firstDay.plusDays(d).atTime(openTime).plusMinutes(random.nextInt(600));
+                int customer = pickCustomer(d);
+                int vehicle = firstVehicle[customer] + random.nextInt(vehicleCount[customer]);
+
+                int hours = (int) Math.max(8, Math.min(400, Math.round(Math.exp(3.4 + 0.8 * random.nextGaussian()))));
+                int spanDays = Math.max(3, Math.min(180, (int) (hours / (2.0 + random.nextDouble() * 2) * 1.6)));
+                LocalDate start = nextOpenDay(created.toLocalDate().plusDays(1 + random.nextInt(7)));
+                LocalDate end = previousOpenDay(start.plusDays(spanDays), start);
+
+                ProjectPlan plan = new ProjectPlan();
+                plan.id = nextProjectId++;
+                plan.name = type.name();
+                plan.employee = random.nextInt(employees);
+                plan.firstWorkDay = start.toEpochDay();
+                plan.lastWorkDay = end.toEpochDay();
+
+                int roll = random.nextInt(100);
+                if (roll < 5) {
+                    plan.status = ProjectStatus.REJECTED;
+                } else if (start.isAfter(today.minusDays(1))) {
+                    plan.status = roll < 50 ? ProjectStatus.PENDING : ProjectStatus.APPROVED;
+                } else if (roll < 9) {
+                    plan.status = ProjectStatus.CANCELLED;
+                    plan.lastWorkDay = Math.min(plan.firstWorkDay + random.nextInt(spanDays / 2 + 1), lastHistoryDay);
+                } else if (plan.lastWorkDay <= lastHistoryDay) {
+                    plan.status = ProjectStatus.COMPLETED;
+                } else if (roll < 24) {
+                    plan.status = ProjectStatus.ON_HOLD;
+                    plan.lastWorkDay = plan.firstWorkDay + random.nextInt((int) (lastHistoryDay - plan.firstWorkDay) + 1);
+                } else {
+                    plan.status = ProjectStatus.IN_PROGRESS;
+                }
+
+                plan.workDays = openDaysBetween(start, end);
+                plan.slots = (int) Math.max(1, Math.min(slotsPerDay / 2,
+                        Math.round(hours * 60.0 / plan.workDays / slotStepMinutes)));
+                writeProject(plan, type, created, hours, start, end, customer, vehicle, lastHistoryDay);
+                if (plan.status != ProjectStatus.REJECTED && plan.status != ProjectStatus.PENDING
+                        && plan.status != ProjectStatus.APPROVED) {
+                    plans.add(plan);
+                }
+            }
+            plans.sort(Comparator.comparingLong(plan -> plan.firstWorkDay));
+        }
+
+        private void writeProject(ProjectPlan plan, ProjectType type, LocalDateTime created, int hours, LocalDate start,
+                                  LocalDate end, int customer, int vehicle, long lastHistoryDay) {
+            ProjectStatus status = plan.status;
+            boolean started = status != ProjectStatus.REJECTED && status != ProjectStatus.PENDING
+                    && status != ProjectStatus.APPROVED;
+            BigDecimal estimate = BigDecimal.valueOf(hours * (5_000L + random.nextInt(4_000)))
+                    .setScale(-3, RoundingMode.HALF_UP).setScale(2, RoundingMode.UNNECESSARY);
+            BigDecimal actual = status == ProjectStatus.COMPLETED
+                    ? estimate.multiply(BigDecimal.valueOf(0.9 + random.nextDouble() * 0.45)).setScale(2, RoundingMode.HALF_UP)
+                    : null;
+            int percentage = status == ProjectStatus.COMPLETED ? 100 : started
+                    ? (int) Math.min(95, 100 * (Math.min(plan.lastWorkDay, lastHistoryDay) - plan.firstWorkDay + 1)
+                    / Math.max(1, end.toEpochDay() - plan.firstWorkDay + 1))
+                    : 0;
+            LocalDateTime updated = started ? closingOf(LocalDate.ofEpochDay(Math.min(plan.lastWorkDay, lastHistoryDay))) : created;
+
+            projects.add(plan.id).add(type.name()).add(type.description()).add(status.name()).add(estimate).add(actual)
+                    .add(hours).add(started ? start.atTime(openTime) : null)
+                    .add(status == ProjectStatus.COMPLETED ? closingOf(end) : null)
+                    .add(status == ProjectStatus.REJECTED ? null : closingOf(end))
+                    .add(percentage).add(created).add(updated.isBefore(created) ? created : updated)
+                    .add(customerBaseId + customer).add(vehicleBaseId + vehicle)
+                    .add(status == ProjectStatus.REJECTED || status == ProjectStatus.PENDING ? null : employeeBaseId + plan.employee)
+                    .endRow();
+        }
+
+        // Project work is planned ahead, so it takes its block of the employee's day before bookings fill the rest
+        private void logProjectWork(ProjectPlan plan, LocalDate day) {
+            long epochDay = day.toEpochDay();
+            boolean lastDay = epochDay == plan.lastWorkDay;
+            if (plan.loggedDays > 0 && !lastDay && random.nextInt(100) >= 80) {
+                return;
+            }
+            long employeeId = employeeBaseId + plan.employee;
+            for (int length = plan.slots; length > 0; length--) {
+                long need = (1L << length) - 1;
+                int positions = slotsPerDay - length + 1;
+                int first = random.nextInt(positions);
+                for (int i = 0; i < positions; i++) {
+                    int slot = first + i < positions ? first + i : first + i - positions;
+                    if ((busy[plan.employee] & need << slot) != 0) {
+                        continue;
+                    }
+                    busy[plan.employee] |= need << slot;
+                    LocalDateTime start = day.atTime(openTime).plusMinutes((long) slot * slotStepMinutes);
+                    LocalDateTime end = start.plusMinutes((long) length * slotStepMinutes);
+                    writeTimeLog(start, end, plan.name + " work", employeeId, null, plan.id);
+                    writeProjectProgress(plan, end, lastDay, employeeId);
+                    plan.loggedDays++;
+                    return;
+                }
+            }
+        }
+
+        private void writeProjectProgress(ProjectPlan plan, LocalDateTime at, boolean lastDay, long employeeId) {
+            int percentage = (int) Math.min(95, 100L * (plan.loggedDays + 1) / Math.max(1, plan.workDays));
+            if (plan.loggedDays == 0) {
+                writeProgress(0, ProgressStatus.STARTED, "Work started on " + plan.name, at, employeeId, null, plan.id);
+            } else if (lastDay && plan.status == ProjectStatus.COMPLETED) {
+                writeProgress(100, ProgressStatus.COMPLETED, plan.name + " completed", at, employeeId, null, plan.id);
+            } else if (lastDay && plan.status == ProjectStatus.ON_HOLD) {
+                writeProgress(percentage, ProgressStatus.ON_HOLD, "Work paused pending customer decision", at,
+                        employeeId, null, plan.id);
+            } else if (plan.loggedDays % 3 == 0) {
+                int roll = random.nextInt(100);
+                ProgressStatus status = percentage >= 85 ? ProgressStatus.QUALITY_CHECK
+                        : roll < 75 ? ProgressStatus.IN_PROGRESS : roll < 87 ? ProgressStatus.AWAITING_PARTS
+                        : roll < 95 ? ProgressStatus.ISSUE_FOUND : ProgressStatus.CUSTOMER_APPROVAL_NEEDED;
+                String message = switch (status) {
+                    case AWAITING_PARTS -> "Waiting on parts from the supplier";
+                    case ISSUE_FOUND -> "Found additional wear that needs attention";
+                    case CUSTOMER_APPROVAL_NEEDED -> "Extra work quoted, waiting for customer approval";
+                    case QUALITY_CHECK -> "Final checks and road test";
+                    default -> PROJECT_UPDATES[random.nextInt(PROJECT_UPDATES.length)];
+                };
+                writeProgress(percentage, status, message, at, employeeId, null, plan.id);
+            }
+        }
+
+        private void writeTimeLog(LocalDateTime start, LocalDateTime end, String description, Long employeeId,
+                                  Long appointmentId, Long projectId) {
+            if (employeeId == null) {
+                return;
+            }
+            LocalDateTime created = end.plusMinutes(5 + random.nextInt(120));
+            timeLogs.add(nextTimeLogId++).add(start).add(end).add(ChronoUnit.MINUTES.between(start, end))
+                    .add(description).add(created).add(created).add(employeeId).add(appointmentId).add(projectId)
+                    .endRow();
+        }
+
+        private void writeProgress(int percentage, ProgressStatus status, String message, LocalDateTime at,
+                                   Long employeeId, Long appointmentId, Long projectId) {
+            if (employeeId == null) {
+                return;
+            }
+            progress.add(nextProgressId++).add(percentage).add(status.name()).add(message).add(at).add(employeeId)
+                    .add(appointmentId).add(projectId)
+                    .endRow();
+        }
+
+        private LocalDateTime closingOf(LocalDate day) {
+            return day.atTime(openTime).plusMinutes((long) slotsPerDay * slotStepMinutes);
+        }
+
+        private LocalDate nextOpenDay(LocalDate day) {
+            while (closedDays.contains(day.getDayOfWeek())) {
+                day = day.plusDays(1);
+            }
+            return day;
+        }
+
+        private LocalDate previousOpenDay(LocalDate day, LocalDate notBefore) {
+            while (day.isAfter(notBefore) && closedDays.contains(day.getDayOfWeek())) {
+                day = day.minusDays(1);
+            }
+            return day;
+        }
+
+        private int openDaysBetween(LocalDate from, LocalDate to) {
+            int open = 0;
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                if (!closedDays.contains(day.getDayOfWeek())) {
+                    open++;
+                }
+            }
+            return Math.max(1, open);
+        }
+    }
+}
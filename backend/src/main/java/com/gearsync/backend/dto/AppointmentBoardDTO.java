@@ -0,0 +1,26 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentBoardDTO {
+    private Long id;
+    private LocalDateTime scheduledDateTime;
+    private String status;
+    private String customerName;
+    private String customerPhone;
+    private String vehicleRegistrationNumber;
+    private String vehicleMake;
+    private String vehicleModel;
+    private Long assignedEmployeeId;
+    private String assignedEmployeeName;
+    private Integer progressPercentage;
+    private List<String> services;
+}
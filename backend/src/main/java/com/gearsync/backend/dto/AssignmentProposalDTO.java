@@ -0,0 +1,20 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentProposalDTO {
+    private String itemType;
+    private Long itemId;
+    private LocalDateTime scheduledDateTime;
+    private Integer durationMinutes;
+    private Long employeeId;
+    private String employeeName;
+    private Long loadScore;
+}
@@ -0,0 +1,16 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignmentResultDTO {
+    private Boolean applied;
+    private List<AssignmentProposalDTO> assignments;
+    private List<AssignmentProposalDTO> unassigned;
+}
@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookedIntervalDTO {
+    private Long appointmentId;
+    private LocalDateTime start;
+    private Long durationMinutes;
+    private Long assignedEmployeeId;
+}
@@ -0,0 +1,16 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryVolumeDTO {
+    private LocalDate periodStart;
+    private String category;
+    private Long appointmentCount;
+}
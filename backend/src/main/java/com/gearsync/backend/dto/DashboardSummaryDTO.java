@@ -0,0 +1,22 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+    private Long userCount;
+    private Long vehicleCount;
+    private Long appointmentCount;
+    private Long activeServiceCount;
+    private BigDecimal totalEarningsCompleted;
+    private Map<String, Long> appointmentsByStatus;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,18 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LabourReportDTO {
+    private LocalDate periodStart;
+    private Long employeeId;
+    private String employeeName;
+    private Long minutes;
+    private Long logCount;
+}
@@ -0,0 +1,19 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteDTO {
+    private Long id;
+    private String type;
+    private String body;
+    private Long authorId;
+    private String authorName;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.gearsync.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoteRequestDTO {
+    @NotBlank(message = "Note cannot be empty")
+    @Size(max = 2000, message = "Note cannot exceed 2000 characters")
+    private String body;
+}
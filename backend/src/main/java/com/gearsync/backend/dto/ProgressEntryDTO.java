@@ -0,0 +1,20 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEntryDTO {
+    private Long id;
+    private String status;
+    private Integer progressPercentage;
+    private String message;
+    private String technicalNotes;
+    private String employeeName;
+    private LocalDateTime timestamp;
+}
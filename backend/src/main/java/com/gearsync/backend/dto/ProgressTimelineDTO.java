@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// lastId is what the client passes back as ?after= on its next refresh, even when no new entries arrived
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressTimelineDTO {
+    private List<ProgressEntryDTO> items;
+    private Long lastId;
+    private boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressUpdateDTO {
+    private String topic;
+    private Long id;
+    private String status;
+    private Integer progressPercentage;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimesheetDTO {
+    private Long employeeId;
+    private LocalDate from;
+    private LocalDate to;
+    // Minutes actually worked: overlapping logs are counted once
+    private Long totalMinutes;
+    // Sum of the individual logs; larger than totalMinutes only when older logs overlap
+    private Long loggedMinutes;
+    private List<TimesheetIntervalDTO> intervals;
+}
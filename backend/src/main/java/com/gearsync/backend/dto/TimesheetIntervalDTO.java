@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimesheetIntervalDTO {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long minutes;
+    private Long logCount;
+}
@@ -0,0 +1,7 @@
+package com.gearsync.backend.exception;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
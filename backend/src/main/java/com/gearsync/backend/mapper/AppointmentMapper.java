@@ -0,0 +1,45 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.ServiceSummaryDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.Services;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Appointment conversions. The full response reads the customer, vehicle and assigned employee,
+ * so callers load them with the appointment; its services are passed in as the list the caller
+ * already holds. The customer's own view reads only the appointment and its services.
+ */
+@Mapper(config = MappingConfig.class, uses = MappingSupport.class)
+public interface AppointmentMapper {
+
+    @Mapping(target = "id", source = "appointment.id")
+    @Mapping(target = "createdAt", source = "appointment.createdAt")
+    @Mapping(target = "updatedAt", source = "appointment.updatedAt")
+    @Mapping(target = "customerId", source = "appointment.customer.id")
+    @Mapping(target = "customerName", source = "appointment.customer", qualifiedByName = "fullName")
+    @Mapping(target = "customerEmail", source = "appointment.customer.email")
+    @Mapping(target = "customerPhone", source = "appointment.customer.phoneNumber")
+    @Mapping(target = "vehicleId", source = "appointment.vehicle.id")
+    @Mapping(target = "vehicleRegistrationNumber", source = "appointment.vehicle.registrationNumber")
+    @Mapping(target = "vehicleMake", source = "appointment.vehicle.make")
+    @Mapping(target = "vehicleModel", source = "appointment.vehicle.model")
+    @Mapping(target = "vehicleYear", source = "appointment.vehicle.year")
+    @Mapping(target = "services", source = "services")
+    @Mapping(target = "estimatedCost", source = "services", qualifiedByName = "totalPrice")
+    @Mapping(target = "assignedEmployeeId", source = "appointment.assignedEmployee.id")
+    @Mapping(target = "assignedEmployeeName", source = "appointment.assignedEmployee", qualifiedByName = "fullName")
+    @Mapping(target = "assignedEmployeeEmail", source = "appointment.assignedEmployee.email")
+    AppointmentResponseDTO toResponseDTO(Appointment appointment, List<Services> services);
+
+    @Mapping(target = "services", source = "appointmentServices")
+    @Mapping(target = "estimatedCost", source = "appointmentServices", qualifiedByName = "totalPrice")
+    MyAppointmentDTO toMyAppointmentDTO(Appointment appointment);
+
+    ServiceSummaryDTO toServiceSummary(Services service);
+}
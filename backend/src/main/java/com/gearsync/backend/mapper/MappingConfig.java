@@ -0,0 +1,20 @@
+package com.gearsync.backend.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for the generated mappers. A DTO field that no mapping fills fails the build
+ * instead of silently staying null. Mappers that build entities from request DTOs set
+ * {@code ignoreByDefault} and list every field they copy, so ids, audit columns and associations
+ * are never written from client input.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MappingConfig {
+}
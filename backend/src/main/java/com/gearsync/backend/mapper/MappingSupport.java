@@ -0,0 +1,30 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.User;
+import org.mapstruct.Named;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+// Derived values several mappers share; static, so the generated code calls them directly
+final class MappingSupport {
+
+    private MappingSupport() {
+    }
+
+    @Named("fullName")
+    static String fullName(User user) {
+        return user != null ? user.getFirstName() + " " + user.getLastName() : null;
+    }
+
+    @Named("totalPrice")
+    static BigDecimal totalPrice(Collection<Services> services) {
+        if (services == null) {
+            return BigDecimal.ZERO;
+        }
+        return services.stream()
+                .map(Services::getBasePrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
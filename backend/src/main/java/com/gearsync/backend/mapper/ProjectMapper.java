@@ -0,0 +1,30 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.ProjectResponseDTO;
+import com.gearsync.backend.model.Project;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Project conversions. Reads the customer, vehicle and assigned employee, so callers load them
+ * with the project.
+ */
+@Mapper(config = MappingConfig.class, uses = MappingSupport.class)
+public interface ProjectMapper {
+
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "customerName", source = "customer", qualifiedByName = "fullName")
+    @Mapping(target = "customerEmail", source = "customer.email")
+    @Mapping(target = "customerPhone", source = "customer.phoneNumber")
+    @Mapping(target = "vehicleId", source = "vehicle.id")
+    @Mapping(target = "vehicleRegistrationNumber", source = "vehicle.registrationNumber")
+    @Mapping(target = "vehicleMake", source = "vehicle.make")
+    @Mapping(target = "vehicleModel", source = "vehicle.model")
+    @Mapping(target = "vehicleYear", source = "vehicle.year")
+    @Mapping(target = "assignedEmployeeId", source = "assignedEmployee.id")
+    @Mapping(target = "assignedEmployeeName", source = "assignedEmployee", qualifiedByName = "fullName")
+    @Mapping(target = "assignedEmployeeEmail", source = "assignedEmployee.email")
+    // Notes live in their own table and are not part of the project response
+    @Mapping(target = "additionalNotes", ignore = true)
+    ProjectResponseDTO toResponseDTO(Project project);
+}
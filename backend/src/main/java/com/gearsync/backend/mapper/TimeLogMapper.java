@@ -0,0 +1,32 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.TimeLogResponseDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.TimeLog;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Time log conversions. Reads the employee, the project's name, and the appointment's vehicle for
+ * its description, so callers load those with the log.
+ */
+@Mapper(config = MappingConfig.class, uses = MappingSupport.class)
+public interface TimeLogMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    @Mapping(target = "employeeName", source = "employee", qualifiedByName = "fullName")
+    @Mapping(target = "employeeEmail", source = "employee.email")
+    @Mapping(target = "appointmentId", source = "appointment.id")
+    @Mapping(target = "appointmentDescription", source = "appointment", qualifiedByName = "appointmentDescription")
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "projectName", source = "project.projectName")
+    TimeLogResponseDTO toResponseDTO(TimeLog timeLog);
+
+    @Named("appointmentDescription")
+    default String appointmentDescription(Appointment appointment) {
+        return appointment != null
+                ? "Appointment #" + appointment.getId() + " - " + appointment.getVehicle().getRegistrationNumber()
+                : null;
+    }
+}
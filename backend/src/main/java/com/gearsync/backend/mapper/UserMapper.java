@@ -0,0 +1,53 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.AdminRegisterDTO;
+import com.gearsync.backend.dto.CustomerWithVehiclesDTO;
+import com.gearsync.backend.dto.EmployeeRegisterDTO;
+import com.gearsync.backend.dto.UserDto;
+import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.model.User;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * User conversions. Reads only the user's own columns, never its collections. Passwords are not
+ * copied from registration payloads; the services store the encoded one.
+ */
+@Mapper(config = MappingConfig.class, uses = MappingSupport.class)
+public interface UserMapper {
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User fromRegistration(UserRegisterDTO registration);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User fromRegistration(EmployeeRegisterDTO registration);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User fromRegistration(AdminRegisterDTO registration);
+
+    @Mapping(target = "name", source = "user", qualifiedByName = "fullName")
+    UserDto toUserDto(User user);
+
+    // Vehicles and totals come from batched queries in the caller
+    @Mapping(target = "vehicles", ignore = true)
+    @Mapping(target = "totalVehicles", ignore = true)
+    @Mapping(target = "totalAppointments", ignore = true)
+    @Mapping(target = "totalProjects", ignore = true)
+    CustomerWithVehiclesDTO toCustomerWithVehicles(User customer);
+}
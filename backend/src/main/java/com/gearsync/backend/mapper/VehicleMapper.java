@@ -0,0 +1,38 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.VehicleInfoDTO;
+import com.gearsync.backend.dto.VehicleRequestDTO;
+import com.gearsync.backend.dto.VehicleResponseDTO;
+import com.gearsync.backend.dto.VehicleSummaryDTO;
+import com.gearsync.backend.model.Vehicle;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Vehicle conversions. The response and summary read the owner, which must be loaded; the info
+ * view reads only the vehicle's own columns.
+ */
+@Mapper(config = MappingConfig.class, uses = MappingSupport.class)
+public interface VehicleMapper {
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "registrationNumber", source = "registrationNumber")
+    @Mapping(target = "make", source = "make")
+    @Mapping(target = "model", source = "model")
+    @Mapping(target = "year", source = "year")
+    @Mapping(target = "color", source = "color")
+    @Mapping(target = "vinNumber", source = "vinNumber")
+    @Mapping(target = "mileage", source = "mileage")
+    Vehicle fromRequest(VehicleRequestDTO request);
+
+    @Mapping(target = "ownerEmail", source = "owner.email")
+    VehicleResponseDTO toResponseDTO(Vehicle vehicle);
+
+    @Mapping(target = "ownerName", source = "owner", qualifiedByName = "fullName")
+    @Mapping(target = "ownerEmail", source = "owner.email")
+    @Mapping(target = "ownerPhone", source = "owner.phoneNumber")
+    VehicleSummaryDTO toSummaryDTO(Vehicle vehicle);
+
+    VehicleInfoDTO toInfoDTO(Vehicle vehicle);
+}
@@ -0,0 +1,41 @@
+package com.gearsync.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts booking attempts as {@code gearsync.appointments.bookings}, tagged by outcome. A saved
+ * booking counts as {@code booked} once its transaction commits, or as {@code error} if it rolls
+ * back at flush or commit. Rejections are counted by the controller where it maps them to a
+ * status, so the outcome always matches the response the customer got.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void countSavedAfterCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            count("booked");
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                count(status == STATUS_COMMITTED ? "booked" : "error");
+            }
+        });
+    }
+
+    public void countRejected(String outcome) {
+        count(outcome);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("gearsync.appointments.bookings", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,111 @@
+package com.gearsync.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements, entity loads and lazy collection fetches Hibernate performs while
+ * one request is handled, and records them per endpoint as {@code gearsync.request.queries},
+ * {@code gearsync.request.entity.loads} and {@code gearsync.request.collection.fetches}. The
+ * session-factory wide totals come from Hibernate's own statistics; these show which endpoint
+ * they belong to, so an N+1 shows up as a high average on one URI.
+ *
+ * <p>Counting is per thread and only happens between {@link #preHandle} and
+ * {@link #afterCompletion}, so scheduled jobs and mail workers are left out. Statements are
+ * counted by {@link QueryCountingStatementInspector}; SQL sent through {@code JdbcTemplate} is not.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateRequestMetrics implements HandlerInterceptor, PostLoadEventListener, InitializeCollectionEventListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    private static final class Counts {
+        int queries;
+        int entityLoads;
+        int collectionFetches;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    static void countQuery() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.queries++;
+        }
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionFetches++;
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CURRENT.set(new Counts());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        if (counts == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        record("gearsync.request.queries", "SQL statements Hibernate ran for one request", "statements",
+                request.getMethod(), uri, counts.queries);
+        record("gearsync.request.entity.loads", "Entities Hibernate loaded for one request", "entities",
+                request.getMethod(), uri, counts.entityLoads);
+        record("gearsync.request.collection.fetches", "Lazy collections Hibernate fetched for one request", "collections",
+                request.getMethod(), uri, counts.collectionFetches);
+    }
+
+    private void record(String name, String description, String unit, String method, String uri, int amount) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
@@ -0,0 +1,16 @@
+package com.gearsync.backend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every SQL string Hibernate is about to prepare and counts it towards the current request
+ * in {@link HibernateRequestMetrics}. The statement itself is passed through unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        HibernateRequestMetrics.countQuery();
+        return sql;
+    }
+}
@@ -0,0 +1,50 @@
+package com.gearsync.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dashboard_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@IdClass(DashboardCounter.Key.class)
+public class DashboardCounter {
+
+    // "users", "vehicles" or "appointments:<STATUS>"
+    @Id
+    @Column(length = 64)
+    private String counterKey;
+
+    // One of the rows the counter is spread over; its value is the sum of all of them
+    @Id
+    private Short slot;
+
+    @Column(nullable = false)
+    private Long itemCount;
+
+    // Sum of final cost for appointment counters, zero elsewhere
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime reconciledAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String counterKey;
+        private Short slot;
+    }
+}
@@ -1,10 +1,16 @@
 package com.gearsync.backend.repository;
 
+import com.gearsync.backend.dto.AppointmentSummaryDTO;
+import com.gearsync.backend.dto.BookedIntervalDTO;
+import com.gearsync.backend.dto.CustomerCountDTO;
+import com.gearsync.backend.dto.StatusTotalDTO;
 import com.gearsync.backend.model.Appointment;
 import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.Services;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.service.AppointmentService;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +19,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,9 +75,101 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
 
     long countByStatus(AppointmentStatus status);
 
-    List<Appointment> findByStatusOrderByScheduledDateTimeAsc(AppointmentStatus status);
+    // Work booked on one day, with each appointment's length taken from its services
+    @Query("""
+        select new com.gearsync.backend.dto.BookedIntervalDTO(
+            a.id, a.scheduledDateTime, coalesce(sum(s.estimatedDurationMinutes), 0), e.id)
+        from Appointment a
+        left join a.appointmentServices s
+        left join a.assignedEmployee e
+        where a.scheduledDateTime >= :start and a.scheduledDateTime < :end
+        and a.status not in :excludedStatuses
+        group by a.id, a.scheduledDateTime, e.id
+    """)
+    List<BookedIntervalDTO> findBookedIntervals(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludedStatuses") Collection<AppointmentStatus> excludedStatuses
+    );
+
+    // One employee's work starting in [start, end); served by idx_appointments_employee_scheduled
+    @Query("""
+        select new com.gearsync.backend.dto.BookedIntervalDTO(
+            a.id, a.scheduledDateTime, coalesce(sum(s.estimatedDurationMinutes), 0), a.assignedEmployee.id)
+        from Appointment a
+        left join a.appointmentServices s
+        where a.assignedEmployee.id = :employeeId
+        and a.scheduledDateTime >= :start and a.scheduledDateTime < :end
+        and a.status not in :excludedStatuses
+        group by a.id, a.scheduledDateTime, a.assignedEmployee.id
+    """)
+    List<BookedIntervalDTO> findEmployeeIntervals(
+            @Param("employeeId") Long employeeId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludedStatuses") Collection<AppointmentStatus> excludedStatuses
+    );
+
+    // One vehicle's bookings starting in [start, end); served by idx_appointments_vehicle_scheduled
+    @Query("""
+        select new com.gearsync.backend.dto.BookedIntervalDTO(
+            a.id, a.scheduledDateTime, coalesce(sum(s.estimatedDurationMinutes), 0), e.id)
+        from Appointment a
+        left join a.appointmentServices s
+        left join a.assignedEmployee e
+        where a.vehicle.id = :vehicleId
+        and a.scheduledDateTime >= :start and a.scheduledDateTime < :end
+        and a.status not in :excludedStatuses
+        group by a.id, a.scheduledDateTime, e.id
+    """)
+    List<BookedIntervalDTO> findVehicleIntervals(
+            @Param("vehicleId") Long vehicleId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludedStatuses") Collection<AppointmentStatus> excludedStatuses
+    );
 
-    List<Appointment> findByScheduledDateTimeBetweenOrderByScheduledDateTimeAsc(LocalDateTime start, LocalDateTime end);
+    // Unassigned appointments from a point in time onwards, oldest first: the auto-assignment queue
+    @Query("""
+        select new com.gearsync.backend.dto.BookedIntervalDTO(
+            a.id, a.scheduledDateTime, coalesce(sum(s.estimatedDurationMinutes), 0), cast(null as Long))
+        from Appointment a
+        left join a.appointmentServices s
+        where a.assignedEmployee is null
+        and a.scheduledDateTime >= :from
+        and a.status in :statuses
+        group by a.id, a.scheduledDateTime
+        order by a.scheduledDateTime asc, a.id asc
+    """)
+    List<BookedIntervalDTO> findUnassignedIntervals(
+            @Param("from") LocalDateTime from,
+            @Param("statuses") Collection<AppointmentStatus> statuses
+    );
+
+    // Dashboard boards: everything the board rows show in one query
+    @Query("""
+        select distinct a
+        from Appointment a
+        join fetch a.customer c
+        join fetch a.vehicle v
+        left join fetch a.assignedEmployee e
+        left join fetch a.appointmentServices s
+        where a.status = :status
+        order by a.scheduledDateTime asc
+    """)
+    List<Appointment> findBoardByStatus(@Param("status") AppointmentStatus status);
+
+    @Query("""
+        select distinct a
+        from Appointment a
+        join fetch a.customer c
+        join fetch a.vehicle v
+        left join fetch a.assignedEmployee e
+        left join fetch a.appointmentServices s
+        where a.scheduledDateTime >= :start and a.scheduledDateTime < :end
+        order by a.scheduledDateTime asc
+    """)
+    List<Appointment> findBoardBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("""
            select coalesce(sum(a.finalCost), 0)
@@ -79,6 +178,14 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
            """)
     BigDecimal sumFinalCostByStatus(AppointmentStatus status);
 
+    // Source of truth for the dashboard counters, read when they are reconciled
+    @Query("""
+           select new com.gearsync.backend.dto.StatusTotalDTO(cast(a.status as String), count(a), coalesce(sum(a.finalCost), 0))
+           from Appointment a
+           group by a.status
+           """)
+    List<StatusTotalDTO> totalsByStatus();
+
      @Query("""
         select distinct a
         from Appointment a
@@ -91,4 +198,160 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     List<Appointment> findAllWithDetails();
 
     List<Appointment> findByCustomerId(Long customerId);
+
+    @Query("""
+        select new com.gearsync.backend.dto.AppointmentSummaryDTO(
+            a.id, a.scheduledDateTime, cast(a.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber, v.make, v.model,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            a.progressPercentage, a.createdAt)
+        from Appointment a
+        join a.customer c
+        join a.vehicle v
+        left join a.assignedEmployee e
+        order by a.createdAt desc
+    """)
+    List<AppointmentSummaryDTO> findAllSummaries();
+
+    @Query("""
+        select new com.gearsync.backend.dto.AppointmentSummaryDTO(
+            a.id, a.scheduledDateTime, cast(a.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber, v.make, v.model,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            a.progressPercentage, a.createdAt)
+        from Appointment a
+        join a.customer c
+        join a.vehicle v
+        left join a.assignedEmployee e
+        where a.status = :status
+        order by a.createdAt desc
+    """)
+    List<AppointmentSummaryDTO> findSummariesByStatus(@Param("status") AppointmentStatus status);
+
+    @Query("""
+        select new com.gearsync.backend.dto.AppointmentSummaryDTO(
+            a.id, a.scheduledDateTime, cast(a.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber, v.make, v.model,
+            'Unassigned',
+            a.progressPercentage, a.createdAt)
+        from Appointment a
+        join a.customer c
+        join a.vehicle v
+        where a.status = :status
+        and a.assignedEmployee is null
+        order by a.createdAt desc
+    """)
+    List<AppointmentSummaryDTO> findUnassignedSummariesByStatus(@Param("status") AppointmentStatus status);
+
+    @Query("""
+        select new com.gearsync.backend.dto.CustomerCountDTO(a.customer.id, count(a))
+        from Appointment a
+        where a.customer.id in :customerIds
+        group by a.customer.id
+    """)
+    List<CustomerCountDTO> countByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+    @Query("""
+        select new com.gearsync.backend.dto.AppointmentSummaryDTO(
+            a.id, a.scheduledDateTime, cast(a.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber, v.make, v.model,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            a.progressPercentage, a.createdAt)
+        from Appointment a
+        join a.customer c
+        join a.vehicle v
+        left join a.assignedEmployee e
+        where a.status in :statuses
+        and a.scheduledDateTime between :from and :to
+        and (a.createdAt, a.id) < (:cursorTime, :cursorId)
+        order by a.createdAt desc, a.id desc
+    """)
+    List<AppointmentSummaryDTO> findSummariesPage(
+            @Param("statuses") Collection<AppointmentStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+
+    @Query("""
+        select a
+        from Appointment a
+        where a.customer.id = :customerId
+        and a.status in :statuses
+        and a.scheduledDateTime between :from and :to
+        and (a.scheduledDateTime, a.id) < (:cursorTime, :cursorId)
+        order by a.scheduledDateTime desc, a.id desc
+    """)
+    List<Appointment> findCustomerPage(
+            @Param("customerId") Long customerId,
+            @Param("statuses") Collection<AppointmentStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+
+    @Query("SELECT DISTINCT a FROM Appointment a LEFT JOIN FETCH a.appointmentServices WHERE a.id IN :ids")
+    List<Appointment> findWithServicesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Everything the assignment confirmation email reads, for a batch of appointments
+    @Query("""
+        select a
+        from Appointment a
+        join fetch a.customer
+        join fetch a.vehicle
+        where a.id in :ids
+    """)
+    List<Appointment> findWithCustomerAndVehicleByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Ownership-scoped detail loads: a foreign id yields empty, and everything the response DTO reads is fetched
+    @Query("""
+        select distinct a
+        from Appointment a
+        join fetch a.customer
+        join fetch a.vehicle
+        left join fetch a.assignedEmployee
+        left join fetch a.appointmentServices
+        where a.id = :appointmentId
+        and a.customer.id = :customerId
+    """)
+    Optional<Appointment> findByIdAndCustomerId(
+            @Param("appointmentId") Long appointmentId,
+            @Param("customerId") Long customerId
+    );
+
+    @Query("""
+        select distinct a
+        from Appointment a
+        join fetch a.customer
+        join fetch a.vehicle
+        join fetch a.assignedEmployee e
+        left join fetch a.appointmentServices
+        where a.id = :appointmentId
+        and e.id = :employeeId
+    """)
+    Optional<Appointment> findByIdAndAssignedEmployeeId(
+            @Param("appointmentId") Long appointmentId,
+            @Param("employeeId") Long employeeId
+    );
+
+    boolean existsByIdAndAssignedEmployeeId(Long appointmentId, Long employeeId);
+
+    boolean existsByIdAndCustomerId(Long appointmentId, Long customerId);
+
+    // Admins see every appointment, employees their assigned ones, customers their own
+    default boolean isVisibleTo(Long appointmentId, Long userId, Role role) {
+        return switch (role) {
+            case ADMIN -> existsById(appointmentId);
+            case EMPLOYEE -> existsByIdAndAssignedEmployeeId(appointmentId, userId);
+            case CUSTOMER -> existsByIdAndCustomerId(appointmentId, userId);
+        };
+    }
 }
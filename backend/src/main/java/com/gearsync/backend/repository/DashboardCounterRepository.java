@@ -0,0 +1,19 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.model.DashboardCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, DashboardCounter.Key> {
+
+    // Locked in key order, the same order DashboardCounterListener applies deltas in
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from DashboardCounter c order by c.counterKey, c.slot")
+    List<DashboardCounter> lockAll();
+}
@@ -0,0 +1,50 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.model.Note;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NoteRepository extends JpaRepository<Note, Long> {
+
+    // Keyset page of an appointment's notes, newest first
+    @Query("""
+        select new com.gearsync.backend.dto.NoteDTO(
+            n.id, cast(n.type as String), n.body, a.id, concat(a.firstName, ' ', a.lastName), n.createdAt)
+        from Note n
+        join n.author a
+        where n.appointment.id = :appointmentId
+        and (n.createdAt, n.id) < (:cursorTime, :cursorId)
+        order by n.createdAt desc, n.id desc
+    """)
+    List<NoteDTO> findAppointmentPage(
+            @Param("appointmentId") Long appointmentId,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+
+    // Keyset page of a project's notes, newest first
+    @Query("""
+        select new com.gearsync.backend.dto.NoteDTO(
+            n.id, cast(n.type as String), n.body, a.id, concat(a.firstName, ' ', a.lastName), n.createdAt)
+        from Note n
+        join n.author a
+        where n.project.id = :projectId
+        and (n.createdAt, n.id) < (:cursorTime, :cursorId)
+        order by n.createdAt desc, n.id desc
+    """)
+    List<NoteDTO> findProjectPage(
+            @Param("projectId") Long projectId,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+}
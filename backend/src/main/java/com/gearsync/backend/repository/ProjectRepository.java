@@ -1,14 +1,20 @@
 package com.gearsync.backend.repository;
 
+import com.gearsync.backend.dto.CustomerCountDTO;
+import com.gearsync.backend.dto.ProjectSummaryDTO;
 import com.gearsync.backend.model.Project;
 import com.gearsync.backend.model.ProjectStatus;
+import com.gearsync.backend.model.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -54,4 +60,144 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     // Find projects by customer and vehicle
     List<Project> findByCustomerIdAndVehicleId(Long customerId, Long vehicleId);
-}
\ No newline at end of file
+
+    // Admin list rows projected straight into the summary DTO (single query, no lazy loads)
+    @Query("""
+        select new com.gearsync.backend.dto.ProjectSummaryDTO(
+            p.id, p.projectName, cast(p.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            p.estimatedCost, p.progressPercentage, p.createdAt)
+        from Project p
+        join p.customer c
+        join p.vehicle v
+        left join p.assignedEmployee e
+        order by p.createdAt desc
+    """)
+    List<ProjectSummaryDTO> findAllSummaries();
+
+    // Admin list rows for a single status
+    @Query("""
+        select new com.gearsync.backend.dto.ProjectSummaryDTO(
+            p.id, p.projectName, cast(p.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            p.estimatedCost, p.progressPercentage, p.createdAt)
+        from Project p
+        join p.customer c
+        join p.vehicle v
+        left join p.assignedEmployee e
+        where p.status = :status
+        order by p.createdAt desc
+    """)
+    List<ProjectSummaryDTO> findSummariesByStatus(@Param("status") ProjectStatus status);
+
+    // Approved projects waiting for an employee, oldest first: the auto-assignment queue
+    @Query("select p.id from Project p where p.assignedEmployee is null and p.status in :statuses order by p.createdAt asc, p.id asc")
+    List<Long> findUnassignedIds(@Param("statuses") Collection<ProjectStatus> statuses);
+
+    // Count projects per customer for a batch of customers
+    @Query("""
+        select new com.gearsync.backend.dto.CustomerCountDTO(p.customer.id, count(p))
+        from Project p
+        where p.customer.id in :customerIds
+        group by p.customer.id
+    """)
+    List<CustomerCountDTO> countByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+    // Keyset page of admin list rows, newest first
+    @Query("""
+        select new com.gearsync.backend.dto.ProjectSummaryDTO(
+            p.id, p.projectName, cast(p.status as String),
+            concat(c.firstName, ' ', c.lastName), c.email,
+            v.registrationNumber,
+            coalesce(concat(e.firstName, ' ', e.lastName), 'Unassigned'),
+            p.estimatedCost, p.progressPercentage, p.createdAt)
+        from Project p
+        join p.customer c
+        join p.vehicle v
+        left join p.assignedEmployee e
+        where p.status in :statuses
+        and p.createdAt between :from and :to
+        and (p.createdAt, p.id) < (:cursorTime, :cursorId)
+        order by p.createdAt desc, p.id desc
+    """)
+    List<ProjectSummaryDTO> findSummariesPage(
+            @Param("statuses") Collection<ProjectStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+
+    // Keyset page of a customer's projects, newest first
+    @Query("""
+        select p
+        from Project p
+        join fetch p.customer
+        join fetch p.vehicle
+        left join fetch p.assignedEmployee
+        where p.customer.id = :customerId
+        and p.status in :statuses
+        and p.createdAt between :from and :to
+        and (p.createdAt, p.id) < (:cursorTime, :cursorId)
+        order by p.createdAt desc, p.id desc
+    """)
+    List<Project> findCustomerPage(
+            @Param("customerId") Long customerId,
+            @Param("statuses") Collection<ProjectStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
+
+    // Ownership-scoped detail load for the customer; a foreign id yields empty
+    @Query("""
+        select p
+        from Project p
+        join fetch p.customer
+        join fetch p.vehicle
+        left join fetch p.assignedEmployee
+        where p.id = :projectId
+        and p.customer.id = :customerId
+    """)
+    Optional<Project> findByIdAndCustomerId(
+            @Param("projectId") Long projectId,
+            @Param("customerId") Long customerId
+    );
+
+    // Ownership-scoped detail load for the assigned employee; a foreign id yields empty
+    @Query("""
+        select p
+        from Project p
+        join fetch p.customer
+        join fetch p.vehicle
+        join fetch p.assignedEmployee e
+        where p.id = :projectId
+        and e.id = :employeeId
+    """)
+    Optional<Project> findByIdAndAssignedEmployeeId(
+            @Param("projectId") Long projectId,
+            @Param("employeeId") Long employeeId
+    );
+
+    // Check the assignment without loading the project
+    boolean existsByIdAndAssignedEmployeeId(Long projectId, Long employeeId);
+
+    // Check ownership without loading the project
+    boolean existsByIdAndCustomerId(Long projectId, Long customerId);
+
+    // Admins see every project, employees their assigned ones, customers their own
+    default boolean isVisibleTo(Long projectId, Long userId, Role role) {
+        return switch (role) {
+            case ADMIN -> existsById(projectId);
+            case EMPLOYEE -> existsByIdAndAssignedEmployeeId(projectId, userId);
+            case CUSTOMER -> existsByIdAndCustomerId(projectId, userId);
+        };
+    }
+}
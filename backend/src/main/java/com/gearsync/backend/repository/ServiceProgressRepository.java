@@ -0,0 +1,49 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.dto.ProgressEntryDTO;
+import com.gearsync.backend.model.ServiceProgress;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ServiceProgressRepository extends JpaRepository<ServiceProgress, Long> {
+
+    // Entries of an appointment newer than afterId, oldest first
+    @Query("""
+        select new com.gearsync.backend.dto.ProgressEntryDTO(
+            sp.id, cast(sp.status as String), sp.progressPercentage, sp.message, sp.technicalNotes,
+            concat(e.firstName, ' ', e.lastName), sp.timestamp)
+        from ServiceProgress sp
+        join sp.updatedByEmployee e
+        where sp.appointment.id = :appointmentId
+        and sp.id > :afterId
+        order by sp.id asc
+    """)
+    List<ProgressEntryDTO> findAppointmentTimeline(
+            @Param("appointmentId") Long appointmentId,
+            @Param("afterId") Long afterId,
+            Pageable window
+    );
+
+    // Entries of a project newer than afterId, oldest first
+    @Query("""
+        select new com.gearsync.backend.dto.ProgressEntryDTO(
+            sp.id, cast(sp.status as String), sp.progressPercentage, sp.message, sp.technicalNotes,
+            concat(e.firstName, ' ', e.lastName), sp.timestamp)
+        from ServiceProgress sp
+        join sp.updatedByEmployee e
+        where sp.project.id = :projectId
+        and sp.id > :afterId
+        order by sp.id asc
+    """)
+    List<ProgressEntryDTO> findProjectTimeline(
+            @Param("projectId") Long projectId,
+            @Param("afterId") Long afterId,
+            Pageable window
+    );
+}
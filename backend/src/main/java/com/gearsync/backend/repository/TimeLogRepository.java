@@ -1,6 +1,8 @@
 package com.gearsync.backend.repository;
 
 import com.gearsync.backend.model.TimeLog;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TimeLogRepository extends JpaRepository<TimeLog, Long> {
@@ -28,6 +31,45 @@ public interface TimeLogRepository extends JpaRepository<TimeLog, Long> {
     // Find all time logs for a project
     List<TimeLog> findByProjectId(Long projectId);
 
+    // Time logs for an appointment with everything the response DTO reads
+    @Query("""
+        select t
+        from TimeLog t
+        join fetch t.employee
+        join fetch t.appointment a
+        join fetch a.vehicle
+        where a.id = :appointmentId
+        order by t.startTime desc
+    """)
+    List<TimeLog> findDetailedByAppointmentId(@Param("appointmentId") Long appointmentId);
+
+    // Time logs for a project with everything the response DTO reads
+    @Query("""
+        select t
+        from TimeLog t
+        join fetch t.employee
+        join fetch t.project p
+        where p.id = :projectId
+        order by t.startTime desc
+    """)
+    List<TimeLog> findDetailedByProjectId(@Param("projectId") Long projectId);
+
+    // Ownership-scoped load of a single time log; a foreign id yields empty
+    @Query("""
+        select t
+        from TimeLog t
+        join fetch t.employee e
+        left join fetch t.appointment a
+        left join fetch a.vehicle
+        left join fetch t.project
+        where t.id = :timeLogId
+        and e.id = :employeeId
+    """)
+    Optional<TimeLog> findByIdAndEmployeeId(
+            @Param("timeLogId") Long timeLogId,
+            @Param("employeeId") Long employeeId
+    );
+
     // Find time logs by employee for a specific appointment
     List<TimeLog> findByEmployeeIdAndAppointmentId(Long employeeId, Long appointmentId);
 
@@ -66,4 +108,48 @@ public interface TimeLogRepository extends JpaRepository<TimeLog, Long> {
             @Param("employeeId") Long employeeId,
             @Param("startDate") LocalDateTime startDate
     );
+
+    // Logs of the employee that share any time with [start, end); served by idx_time_logs_employee_start
+    @Query("""
+        select t
+        from TimeLog t
+        where t.employee.id = :employeeId
+        and t.startTime < :end
+        and t.endTime > :start
+        and (:excludedId is null or t.id <> :excludedId)
+        order by t.startTime, t.id
+    """)
+    List<TimeLog> findOverlappingWindow(
+            @Param("employeeId") Long employeeId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludedId") Long excludedId,
+            Pageable window
+    );
+
+    default Optional<TimeLog> findOverlapping(Long employeeId, LocalDateTime start, LocalDateTime end, Long excludedId) {
+        return findOverlappingWindow(employeeId, start, end, excludedId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    // Keyset page of an employee's time logs, most recent first
+    @Query("""
+        select t
+        from TimeLog t
+        join fetch t.employee
+        left join fetch t.appointment a
+        left join fetch a.vehicle
+        left join fetch t.project
+        where t.employee.id = :employeeId
+        and t.startTime between :from and :to
+        and (t.startTime, t.id) < (:cursorTime, :cursorId)
+        order by t.startTime desc, t.id desc
+    """)
+    List<TimeLog> findEmployeePage(
+            @Param("employeeId") Long employeeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
 }
\ No newline at end of file
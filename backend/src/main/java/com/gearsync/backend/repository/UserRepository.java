@@ -1,9 +1,16 @@
 package com.gearsync.backend.repository;
 import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +20,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPasswordResetToken(String resetToken);
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
+    Page<User> findByRole(Role role, Pageable pageable);
     default List<User> findAllEmployees() {
         return findByRole(Role.EMPLOYEE);
     }
     List<User> findByRoleAndIsActiveTrue(Role role);
+
+    long countByRoleAndIsActiveTrue(Role role);
     default List<User> findActiveEmployees() {
         return findByRoleAndIsActiveTrue(Role.EMPLOYEE);
     }
+
+    // A bulk update rather than save(): merging a detached user cascades into all of its collections
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginAt = :at, u.updatedAt = :at WHERE u.id = :id")
+    int updateLastLoginAt(@Param("id") Long id, @Param("at") LocalDateTime at);
+
+    @Query("""
+        select u
+        from User u
+        where u.role = :role
+        and u.isActive in :activeStates
+        and (u.createdAt, u.id) < (:cursorTime, :cursorId)
+        order by u.createdAt desc, u.id desc
+    """)
+    List<User> findRolePage(
+            @Param("role") Role role,
+            @Param("activeStates") Collection<Boolean> activeStates,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
 }
\ No newline at end of file
@@ -1,13 +1,37 @@
 package com.gearsync.backend.repository;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.model.Vehicle;
+import com.gearsync.backend.dto.VehicleSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     List<Vehicle> findByOwner(User owner);
     boolean existsByRegistrationNumber(String registrationNumber);
     List<Vehicle> findByOwnerId(Long ownerId);
+    List<Vehicle> findByOwnerIdIn(Collection<Long> ownerIds);
+    Optional<Vehicle> findByIdAndOwnerId(Long id, Long ownerId);
+
+    @Query("""
+        select new com.gearsync.backend.dto.VehicleSummaryDTO(
+            v.id, v.registrationNumber, v.make, v.model, v.year, v.color, v.vinNumber, v.mileage,
+            concat(o.firstName, ' ', o.lastName), o.email, o.phoneNumber, v.createdAt)
+        from Vehicle v
+        join v.owner o
+        where (v.createdAt, v.id) < (:cursorTime, :cursorId)
+        order by v.createdAt desc, v.id desc
+    """)
+    List<VehicleSummaryDTO> findSummariesPage(
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable window
+    );
 }
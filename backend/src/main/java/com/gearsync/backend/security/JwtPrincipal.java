@@ -0,0 +1,10 @@
+package com.gearsync.backend.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have already been checked.
+ * {@code userId} is null for tokens issued before the uid claim was added.
+ */
+public record JwtPrincipal(Long userId, String email, String role, Instant expiresAt) {
+}
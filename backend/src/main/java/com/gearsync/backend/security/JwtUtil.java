@@ -1,6 +1,11 @@
 package com.gearsync.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,51 +14,114 @@ import org.springframework.stereotype.Component;
 import com.gearsync.backend.model.Role;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    // Keyed by SHA-256 of the token so raw bearer tokens are never retained in memory; null when disabled
+    private final Cache<ByteBuffer, JwtPrincipal> verifiedTokens;
+    private final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(JwtUtil::newSha256);
 
     private long expirationMs = 7 * 24 * 60 * 60 * 1000;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.cache.max-entries:10000}") long cacheMaxEntries,
+                   @Value("${jwt.cache.max-ttl-seconds:300}") long cacheMaxTtlSeconds) {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        long maxTtlNanos = Duration.ofSeconds(cacheMaxTtlSeconds).toNanos();
+        this.verifiedTokens = cacheMaxEntries <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfter(new Expiry<ByteBuffer, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, JwtPrincipal principal, long currentTime) {
+                        // Never serve a token from cache past its own exp claim
+                        long untilExpiry = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    public String generateToken(String email, Role role) {
+    public String generateToken(Long userId, String email, Role role) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim("uid", userId)
                 .claim("role", "ROLE_" + role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String validateTokenAndGetEmail(String token) {
+    /**
+     * Verifies signature and expiry once and returns the token's claims, or {@code null} if the
+     * token is invalid. Successful results are cached; failures are not, so garbage tokens cannot
+     * crowd out real ones.
+     */
+    public JwtPrincipal verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        ByteBuffer key = hash(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        JwtPrincipal principal = parse(token);
+        if (principal != null) {
+            verifiedTokens.put(key, principal);
+        }
+        return principal;
+    }
+
+    private JwtPrincipal parse(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
-        } catch (Exception e) {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            String role = claims.get("role", String.class);
+            if (claims.getSubject() == null || role == null || expiration == null) {
+                return null;
+            }
+            Number userId = claims.get("uid", Number.class);
+            return new JwtPrincipal(userId != null ? userId.longValue() : null,
+                    claims.getSubject(), role, expiration.toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
     }
 
-    public String extractRole(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+    private ByteBuffer hash(String token) {
+        MessageDigest digest = sha256.get();
+        digest.reset();
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,4 +1,73 @@
 package com.gearsync.backend.security;
-public class UserDetailsImpl {
-    
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated principal. Controllers hand {@link #getId()} to the services so they can work
+ * with ids directly instead of resolving the caller by email on every request.
+ */
+@Getter
+public class UserDetailsImpl implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final boolean active;
+    private final List<GrantedAuthority> authorities;
+
+    public UserDetailsImpl(Long id, String email, Role role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.active = active;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public static UserDetailsImpl from(User user) {
+        return new UserDetailsImpl(user.getId(), user.getEmail(), user.getRole(), Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // Credentials are checked by AuthService at login; the principal only ever comes from a verified token
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
 }
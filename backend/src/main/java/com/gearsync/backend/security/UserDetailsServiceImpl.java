@@ -1,5 +1,95 @@
 package com.gearsync.backend.security;
 
-public class UserDetailsServiceImpl {
-    
+import com.gearsync.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Resolves the current state (role, active flag) of a token's user. Results are cached for a
+ * few seconds so a deactivated account or changed role takes effect quickly without a users
+ * lookup on every request; call {@link #evictAfterCommit(Long)} after changing either.
+ */
+@Service
+public class UserDetailsServiceImpl implements UserDetailsService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserDetailsImpl> usersById;
+    // Tokens without a uid claim name their user by email only; an email resolves to its id once per TTL
+    private final Cache<String, Long> idsByEmail;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${app.security.user-cache.ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${app.security.user-cache.max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public UserDetailsImpl loadUserById(Long userId) {
+        UserDetailsImpl cached = usersById.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetailsImpl user = userRepository.findById(userId)
+                .map(UserDetailsImpl::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        usersById.put(userId, user);
+        return user;
+    }
+
+    @Override
+    public UserDetailsImpl loadUserByUsername(String email) {
+        UserDetailsImpl user = userRepository.findByEmail(email)
+                .map(UserDetailsImpl::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        usersById.put(user.getId(), user);
+        idsByEmail.put(email, user.getId());
+        return user;
+    }
+
+    // Role and active flag come from this cache rather than the token, so deactivation applies to tokens already issued.
+    // Returns null when the user no longer exists or the token's email no longer matches the account.
+    public UserDetailsImpl loadUserByToken(JwtPrincipal token) {
+        try {
+            Long userId = token.userId() != null ? token.userId() : idsByEmail.getIfPresent(token.email());
+            UserDetailsImpl user = userId != null
+                    ? loadUserById(userId)
+                    : loadUserByUsername(token.email());
+            return user.getEmail().equals(token.email()) ? user : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    // Evicting before commit would let a concurrent request cache the old role or active flag again
+    public void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    public void evict(Long userId) {
+        usersById.invalidate(userId);
+    }
 }
@@ -1,63 +1,57 @@
 package com.gearsync.backend.service;
 
-import com.gearsync.backend.dto.AdminDashboardCountsDTO;
-import com.gearsync.backend.model.Appointment;
-import com.gearsync.backend.model.AppointmentStatus;
-import com.gearsync.backend.repository.AppointmentRepository;
-import com.gearsync.backend.repository.UserRepository;
-import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.dto.AppointmentBoardDTO;
+import com.gearsync.backend.dto.DashboardSummaryDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
 
-    private final UserRepository userRepository;
-    private final AppointmentRepository appointmentRepository;
-    private final VehicleRepository vehicleRepository;
+    private final AppointmentBoardService appointmentBoardService;
+    private final DashboardCounterService dashboardCounterService;
+
+    // The counters are maintained incrementally, so every figure here is a primary-key lookup
+    @Transactional(readOnly = true)
+    public DashboardSummaryDTO getSummary() {
+        return dashboardCounterService.getSummary();
+    }
 
     @Transactional(readOnly = true)
     public Long getUserCount() {
-        return userRepository.count();
+        return getSummary().getUserCount();
     }
 
     @Transactional(readOnly = true)
     public Long getAppointmentCount() {
-        return appointmentRepository.count();
+        return getSummary().getAppointmentCount();
     }
 
     @Transactional(readOnly = true)
     public Long getVehicleCount() {
-        return vehicleRepository.count();
+        return getSummary().getVehicleCount();
     }
 
     @Transactional(readOnly = true)
     public BigDecimal getTotalEarningsCompleted() {
-        return appointmentRepository.sumFinalCostByStatus(AppointmentStatus.COMPLETED);
+        return getSummary().getTotalEarningsCompleted();
     }
 
     @Transactional(readOnly = true)
     public Long getActiveServiceCountInProgress() {
-        return appointmentRepository.countByStatus(AppointmentStatus.IN_PROGRESS);
+        return getSummary().getActiveServiceCount();
     }
 
-    @Transactional(readOnly = true)
-    public List<Appointment> getConfirmedAppointments() {
-        return appointmentRepository.findByStatusOrderByScheduledDateTimeAsc(AppointmentStatus.CONFIRMED);
+    public List<AppointmentBoardDTO> getConfirmedAppointments() {
+        return appointmentBoardService.getConfirmedBoard();
     }
 
-    @Transactional(readOnly = true)
-    public List<Appointment> getTodayScheduledAppointments() {
-        LocalDate today = LocalDate.now();
-        LocalDateTime start = today.atStartOfDay();
-        LocalDateTime end = today.plusDays(1).atStartOfDay().minusNanos(1);
-        return appointmentRepository.findByScheduledDateTimeBetweenOrderByScheduledDateTimeAsc(start, end);
+    public List<AppointmentBoardDTO> getTodayScheduledAppointments() {
+        return appointmentBoardService.getTodayBoard();
     }
 }
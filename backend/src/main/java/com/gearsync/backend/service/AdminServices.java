@@ -4,14 +4,23 @@ import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.DuplicateResourceException;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.mapper.ProjectMapper;
+import com.gearsync.backend.mapper.UserMapper;
+import com.gearsync.backend.mapper.VehicleMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.ProjectRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.security.UserDetailsImpl;
+import com.gearsync.backend.security.UserDetailsServiceImpl;
+import com.gearsync.backend.util.KeysetCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -32,7 +41,6 @@ public class AdminServices {
 //    private static final SecureRandom random = new SecureRandom();
 
 
-    private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final EmailService emailService;
@@ -40,6 +48,13 @@ public class AdminServices {
     private final AppointmentRepository appointmentRepository;
     private final ProjectRepository projectRepository;
     private final VehicleRepository vehicleRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final NoteService noteService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final UserMapper userMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final ProjectMapper projectMapper;
+    private final VehicleMapper vehicleMapper;
 
 
     @Transactional
@@ -48,7 +63,7 @@ public class AdminServices {
             if (userRepository.existsByEmail(employeeRegisterDTO.getEmail())) {
                 throw new IllegalArgumentException("Email already registered");
             }
-            User user = modelMapper.map(employeeRegisterDTO, User.class);
+            User user = userMapper.fromRegistration(employeeRegisterDTO);
             String generatedPassword = passwordManagementService.generateTemporaryPassword();
             user.setPassword(passwordEncoder.encode(generatedPassword));
             user.setIsFirstLogin(true);
@@ -70,7 +85,7 @@ public class AdminServices {
             if (userRepository.existsByEmail(adminRegisterDTO.getEmail())) {
                 throw new IllegalArgumentException("Email already registered");
             }
-            User user = modelMapper.map(adminRegisterDTO, User.class);
+            User user = userMapper.fromRegistration(adminRegisterDTO);
             String generatedPassword = passwordManagementService.generateTemporaryPassword();
             user.setPassword(passwordEncoder.encode(generatedPassword));
             user.setIsFirstLogin(true);
@@ -88,16 +103,11 @@ public class AdminServices {
 
     @Transactional
     public AppointmentResponseDTO assignEmployeeToAppointment(
-            String adminEmail,
+            Long adminId,
             Long appointmentId,
             AssignAppointmentDTO request) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can assign employees to appointments");
-        }
+        validateAdmin(adminId);
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
@@ -122,6 +132,8 @@ public class AdminServices {
             throw new IllegalArgumentException("Cannot assign inactive employee");
         }
 
+        scheduleConflictService.assertEmployeeFree(employee.getId(), appointment);
+
         appointment.setAssignedEmployee(employee);
 
         if (appointment.getStatus() == AppointmentStatus.SCHEDULED) {
@@ -132,17 +144,10 @@ public class AdminServices {
             appointment.setFinalCost(request.getFinalCost());
         }
 
-        if (request.getAdminNotes() != null && !request.getAdminNotes().isEmpty()) {
-            String timestamp = LocalDateTime.now().toString();
-            String note = String.format("[%s] Admin: %s", timestamp, request.getAdminNotes());
-
-            String existingNotes = appointment.getEmployeeNotes() != null ?
-                    appointment.getEmployeeNotes() : "";
-            appointment.setEmployeeNotes(
-                    existingNotes.isEmpty() ? note : existingNotes + "\n" + note
-            );
-        }
         Appointment updated = appointmentRepository.save(appointment);
+        if (request.getAdminNotes() != null && !request.getAdminNotes().isBlank()) {
+            noteService.appendToAppointment(appointmentId, adminId, Note.NoteType.ADMIN, request.getAdminNotes());
+        }
         String customerEmail = appointment.getCustomer().getEmail();
         String vehicleRegistrationNumber = appointment.getVehicle().getRegistrationNumber();
         String customerName = appointment.getCustomer().getFirstName() + " " + appointment.getCustomer().getLastName();
@@ -151,29 +156,24 @@ public class AdminServices {
         LocalDateTime scheduledDateTime = appointment.getScheduledDateTime();
         emailService.sendCustomerAppointmentConfirmation(customerEmail,vehicleRegistrationNumber,customerName,scheduledDateTime,finalCost);
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertAppointmentToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
 
     @Transactional
     public AppointmentResponseDTO reassignAppointmentEmployee(
-            String adminEmail,
+            Long adminId,
             Long appointmentId,
             AssignAppointmentDTO request) {
 
-        return assignEmployeeToAppointment(adminEmail, appointmentId, request);
+        return assignEmployeeToAppointment(adminId, appointmentId, request);
     }
 
 
     @Transactional
-    public AppointmentResponseDTO unassignAppointmentEmployee(String adminEmail, Long appointmentId) {
+    public AppointmentResponseDTO unassignAppointmentEmployee(Long adminId, Long appointmentId) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can unassign employees");
-        }
+        validateAdmin(adminId);
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
@@ -191,22 +191,17 @@ public class AdminServices {
         Appointment updated = appointmentRepository.save(appointment);
 
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertAppointmentToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
 
     @Transactional
     public ProjectResponseDTO approveAndAssignProject(
-            String adminEmail,
+            Long adminId,
             Long projectId,
             ApproveProjectDTO request) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can approve projects");
-        }
+        validateAdmin(adminId);
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -237,42 +232,31 @@ public class AdminServices {
             project.setExpectedCompletionDate(request.getExpectedCompletionDate());
         }
 
-        if (request.getApprovalNotes() != null && !request.getApprovalNotes().isEmpty()) {
-            String timestamp = LocalDateTime.now().toString();
+        Project updated = projectRepository.save(project);
+        if (request.getApprovalNotes() != null && !request.getApprovalNotes().isBlank()) {
             String approvalNote = String.format(
-                    "\n\n[%s] APPROVED by Admin - Assigned to: %s %s\n" +
-                            "Estimated Cost: $%.2f | Duration: %d hours\n" +
-                            "Notes: %s",
-                    timestamp,
+                    "Assigned to: %s %s\nEstimated Cost: $%.2f | Duration: %d hours\nNotes: %s",
                     employee.getFirstName(),
                     employee.getLastName(),
                     request.getEstimatedCost(),
                     request.getEstimatedDurationHours(),
-                    request.getApprovalNotes()
+                    request.getApprovalNotes().trim()
             );
-
-            project.setDescription(project.getDescription() + approvalNote);
+            noteService.appendToProject(projectId, adminId, Note.NoteType.APPROVAL, approvalNote);
         }
 
-        Project updated = projectRepository.save(project);
-
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
     @Transactional
     public ProjectResponseDTO rejectProject(
-            String adminEmail,
+            Long adminId,
             Long projectId,
             RejectProjectDTO request) {
 
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can reject projects");
-        }
+        validateAdmin(adminId);
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -285,16 +269,8 @@ public class AdminServices {
 
         project.setStatus(ProjectStatus.REJECTED);
 
-        String timestamp = LocalDateTime.now().toString();
-        String rejectionNote = String.format(
-                "\n\n[%s] REJECTED by Admin\nReason: %s",
-                timestamp,
-                request.getRejectionReason()
-        );
-
-        project.setDescription(project.getDescription() + rejectionNote);
-
         Project updated = projectRepository.save(project);
+        noteService.appendToProject(projectId, adminId, Note.NoteType.REJECTION, request.getRejectionReason());
         String customerEmail = project.getCustomer().getEmail();
         String customerName = project.getCustomer().getFirstName() + " " + project.getCustomer().getLastName();
         String projectName = project.getProjectName();
@@ -303,23 +279,18 @@ public class AdminServices {
         BigDecimal estimatedCost = project.getEstimatedCost() != null ?
                 project.getEstimatedCost() : BigDecimal.ZERO;
         emailService.sendCustomerProjectConfirmation(customerEmail,customerName,projectName,estimatedCost,estimatedDuration);
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
     @Transactional
     public ProjectResponseDTO assignEmployeeToProject(
-            String adminEmail,
+            Long adminId,
             Long projectId,
             AssignProjectDTO request) {
 
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
-
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can assign employees to projects");
-        }
+        validateAdmin(adminId);
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -348,34 +319,25 @@ public class AdminServices {
         project.setEstimatedCost(request.getEstimatedCost());
         project.setEstimatedDurationHours(request.getEstimatedDurationHours());
 
-        if (request.getAdminNotes() != null && !request.getAdminNotes().isEmpty()) {
-            String timestamp = LocalDateTime.now().toString();
+        Project updated = projectRepository.save(project);
+        if (request.getAdminNotes() != null && !request.getAdminNotes().isBlank()) {
             String note = String.format(
-                    "\n\n[%s] Assignment Update - Assigned to: %s %s\nNotes: %s",
-                    timestamp,
+                    "Assigned to: %s %s\nNotes: %s",
                     employee.getFirstName(),
                     employee.getLastName(),
-                    request.getAdminNotes()
+                    request.getAdminNotes().trim()
             );
-
-            project.setDescription(project.getDescription() + note);
+            noteService.appendToProject(projectId, adminId, Note.NoteType.ASSIGNMENT, note);
         }
 
-        Project updated = projectRepository.save(project);
-
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
     @Transactional
-    public ProjectResponseDTO unassignProjectEmployee(String adminEmail, Long projectId) {
-
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+    public ProjectResponseDTO unassignProjectEmployee(Long adminId, Long projectId) {
 
-        if (admin.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only admins can unassign employees");
-        }
+        validateAdmin(adminId);
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -388,131 +350,25 @@ public class AdminServices {
 
         Project updated = projectRepository.save(project);
 
-        return convertProjectToResponseDTO(updated);
-    }
-
-    private AppointmentResponseDTO convertAppointmentToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
-
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
-
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-
-        return dto;
-    }
-
-    private ProjectResponseDTO convertProjectToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
+        return projectMapper.toResponseDTO(updated);
     }
 
     @Transactional
-    public List<AppointmentSummaryDTO> getAllAppointments(String adminEmail) {
-        validateAdmin(adminEmail);
-        List<Appointment> appointments = appointmentRepository.findAll();
-        return appointments.stream()
-                .map(this::convertToAppointmentSummary)
-                .collect(Collectors.toList());
+    public List<AppointmentSummaryDTO> getAllAppointments(Long adminId) {
+        validateAdmin(adminId);
+        return appointmentRepository.findAllSummaries();
     }
 
     @Transactional
     public List<AppointmentSummaryDTO> getAppointmentsByStatus(
-            String adminEmail,
+            Long adminId,
             String status) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         try {
             AppointmentStatus appointmentStatus = AppointmentStatus.valueOf(status.toUpperCase());
-            List<Appointment> appointments = appointmentRepository.findByStatus(appointmentStatus);
-
-            return appointments.stream()
-                    .map(this::convertToAppointmentSummary)
-                    .collect(Collectors.toList());
+            return appointmentRepository.findSummariesByStatus(appointmentStatus);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid status: " + status +
                     ". Valid statuses: SCHEDULED, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED, NO_SHOW, RESCHEDULED");
@@ -520,31 +376,23 @@ public class AdminServices {
     }
 
     @Transactional
-    public List<ProjectSummaryDTO> getAllProjects(String adminEmail) {
+    public List<ProjectSummaryDTO> getAllProjects(Long adminId) {
 
-        validateAdmin(adminEmail);
-        List<Project> projects = projectRepository.findAll();
-
-        return projects.stream()
-                .map(this::convertToProjectSummary)
-                .collect(Collectors.toList());
+        validateAdmin(adminId);
+        return projectRepository.findAllSummaries();
     }
 
 
     @Transactional
     public List<ProjectSummaryDTO> getProjectsByStatus(
-            String adminEmail,
+            Long adminId,
             String status) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         try {
             ProjectStatus projectStatus = ProjectStatus.valueOf(status.toUpperCase());
-            List<Project> projects = projectRepository.findByStatus(projectStatus);
-
-            return projects.stream()
-                    .map(this::convertToProjectSummary)
-                    .collect(Collectors.toList());
+            return projectRepository.findSummariesByStatus(projectStatus);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid status: " + status +
                     ". Valid statuses: PENDING, APPROVED, IN_PROGRESS, ON_HOLD, COMPLETED, CANCELLED, REJECTED");
@@ -552,33 +400,143 @@ public class AdminServices {
     }
 
     @Transactional
-    public List<AppointmentSummaryDTO> getPendingAppointments(String adminEmail) {
-        validateAdmin(adminEmail);
-        List<Appointment> appointments = appointmentRepository.findByStatus(AppointmentStatus.SCHEDULED);
+    public CursorPageDTO<AppointmentSummaryDTO> getAppointmentsPage(
+            Long adminId,
+            String status,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit) {
+
+        validateAdmin(adminId);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<AppointmentSummaryDTO> rows = appointmentRepository.findSummariesPage(
+                parseAppointmentStatuses(status),
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
 
-        return appointments.stream()
-                .filter(a -> a.getAssignedEmployee() == null)
-                .map(this::convertToAppointmentSummary)
-                .collect(Collectors.toList());
+        return KeysetCursor.toPage(rows, pageSize,
+                AppointmentSummaryDTO::getCreatedAt, AppointmentSummaryDTO::getId, row -> row);
     }
 
     @Transactional
-    public List<ProjectSummaryDTO> getPendingProjects(String adminEmail) {
+    public CursorPageDTO<ProjectSummaryDTO> getProjectsPage(
+            Long adminId,
+            String status,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit) {
+
+        validateAdmin(adminId);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<ProjectSummaryDTO> rows = projectRepository.findSummariesPage(
+                parseProjectStatuses(status),
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
 
-        validateAdmin(adminEmail);
+        return KeysetCursor.toPage(rows, pageSize,
+                ProjectSummaryDTO::getCreatedAt, ProjectSummaryDTO::getId, row -> row);
+    }
 
-        List<Project> projects = projectRepository.findByStatus(ProjectStatus.PENDING);
+    @Transactional
+    public CursorPageDTO<UserDto> getEmployeesPage(
+            Long adminId,
+            Boolean active,
+            String cursor,
+            Integer limit) {
+
+        validateAdmin(adminId);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<User> rows = userRepository.findRolePage(
+                Role.EMPLOYEE,
+                active != null ? List.of(active) : List.of(true, false),
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
 
-        return projects.stream()
-                .map(this::convertToProjectSummary)
-                .collect(Collectors.toList());
+        return KeysetCursor.toPage(rows, pageSize,
+                User::getCreatedAt, User::getId, userMapper::toUserDto);
     }
 
+    @Transactional
+    public CursorPageDTO<VehicleSummaryDTO> getVehiclesPage(Long adminId, String cursor, Integer limit) {
+
+        validateAdmin(adminId);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<VehicleSummaryDTO> rows = vehicleRepository.findSummariesPage(
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
+
+        return KeysetCursor.toPage(rows, pageSize,
+                VehicleSummaryDTO::getCreatedAt, VehicleSummaryDTO::getId, row -> row);
+    }
+
+    private Set<AppointmentStatus> parseAppointmentStatuses(String status) {
+        if (status == null || status.isBlank()) {
+            return EnumSet.allOf(AppointmentStatus.class);
+        }
+        try {
+            return EnumSet.of(AppointmentStatus.valueOf(status.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status +
+                    ". Valid statuses: SCHEDULED, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED, NO_SHOW, RESCHEDULED");
+        }
+    }
+
+    private Set<ProjectStatus> parseProjectStatuses(String status) {
+        if (status == null || status.isBlank()) {
+            return EnumSet.allOf(ProjectStatus.class);
+        }
+        try {
+            return EnumSet.of(ProjectStatus.valueOf(status.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status +
+                    ". Valid statuses: PENDING, APPROVED, IN_PROGRESS, ON_HOLD, COMPLETED, CANCELLED, REJECTED");
+        }
+    }
 
     @Transactional
-    public EmployeeDetailDTO getEmployeeDetails(String adminEmail, Long employeeId) {
+    public List<AppointmentSummaryDTO> getPendingAppointments(Long adminId) {
+        validateAdmin(adminId);
+        return appointmentRepository.findUnassignedSummariesByStatus(AppointmentStatus.SCHEDULED);
+    }
+
+    @Transactional
+    public List<ProjectSummaryDTO> getPendingProjects(Long adminId) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
+        return projectRepository.findSummariesByStatus(ProjectStatus.PENDING);
+    }
+
+
+    @Transactional
+    public EmployeeDetailDTO getEmployeeDetails(Long adminId, Long employeeId) {
+
+        validateAdmin(adminId);
 
         User employee = userRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
@@ -620,12 +578,12 @@ public class AdminServices {
 
     @Transactional
     public EmployeeDetailDTO updateEmployee(
-            String adminEmail,
+            Long adminId,
             Long employeeId,
             UpdateEmployeeDTO request) {
 
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         User employee = userRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
@@ -640,14 +598,15 @@ public class AdminServices {
         employee.setIsActive(request.getIsActive());
 
         userRepository.save(employee);
+        userDetailsService.evictAfterCommit(employeeId);
 
-        return getEmployeeDetails(adminEmail, employeeId);
+        return getEmployeeDetails(adminId, employeeId);
     }
 
     @Transactional
-    public List<UserDto> getAllEmployees(String adminEmail) {
+    public List<UserDto> getAllEmployees(Long adminId) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         List<User> employees = userRepository.findAllEmployees();
 
@@ -666,9 +625,9 @@ public class AdminServices {
 
 
     @Transactional
-    public List<UserDto> getActiveEmployees(String adminEmail) {
+    public List<UserDto> getActiveEmployees(Long adminId) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         List<User> employees = userRepository.findActiveEmployees();
 
@@ -685,66 +644,15 @@ public class AdminServices {
                 .collect(Collectors.toList());
     }
 
-    private void validateAdmin(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    // Served from the short-lived user state cache, so this no longer costs a users query per call
+    private void validateAdmin(Long adminId) {
+        UserDetailsImpl admin = userDetailsService.loadUserById(adminId);
 
-        if (user.getRole() != Role.ADMIN) {
+        if (admin.getRole() != Role.ADMIN || !admin.isEnabled()) {
             throw new UnauthorizedException("Only admins can access this resource");
         }
     }
 
-    private AppointmentSummaryDTO convertToAppointmentSummary(Appointment appointment) {
-        AppointmentSummaryDTO dto = new AppointmentSummaryDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerName(appointment.getCustomer().getFirstName() + " " + appointment.getCustomer().getLastName());
-        dto.setCustomerEmail(appointment.getCustomer().getEmail());
-        dto.setVehicleRegistrationNumber(appointment.getVehicle().getRegistrationNumber());
-        dto.setVehicleMake(appointment.getVehicle().getMake());
-        dto.setVehicleModel(appointment.getVehicle().getModel());
-
-        if (appointment.getAssignedEmployee() != null) {
-            dto.setAssignedEmployeeName(
-                    appointment.getAssignedEmployee().getFirstName() + " " +
-                            appointment.getAssignedEmployee().getLastName()
-            );
-        } else {
-            dto.setAssignedEmployeeName("Unassigned");
-        }
-
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-        dto.setCreatedAt(appointment.getCreatedAt());
-
-        return dto;
-    }
-
-    private ProjectSummaryDTO convertToProjectSummary(Project project) {
-        ProjectSummaryDTO dto = new ProjectSummaryDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setStatus(project.getStatus().name());
-        dto.setCustomerName(project.getCustomer().getFirstName() + " " + project.getCustomer().getLastName());
-        dto.setCustomerEmail(project.getCustomer().getEmail());
-        dto.setVehicleRegistrationNumber(project.getVehicle().getRegistrationNumber());
-
-        if (project.getAssignedEmployee() != null) {
-            dto.setAssignedEmployeeName(
-                    project.getAssignedEmployee().getFirstName() + " " +
-                            project.getAssignedEmployee().getLastName()
-            );
-        } else {
-            dto.setAssignedEmployeeName("Unassigned");
-        }
-
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setProgressPercentage(project.getProgressPercentage());
-        dto.setCreatedAt(project.getCreatedAt());
-
-        return dto;
-    }
-
     @Transactional
     public List<AppointmentResponseDTO> getAllAppointments() {
         List<Appointment> all = appointmentRepository.findAllWithDetails();
@@ -756,39 +664,38 @@ public class AdminServices {
                     if (svcSet != null && !svcSet.isEmpty()) {
                         services = new ArrayList<>(svcSet);
                     }
-                    return convertAppointmentToResponseDTO(a, services);
+                    return appointmentMapper.toResponseDTO(a, services);
                 })
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    public List<VehicleSummaryDTO> getAllVehicles(String adminEmail) {
+    public List<VehicleSummaryDTO> getAllVehicles(Long adminId) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         List<Vehicle> vehicles = vehicleRepository.findAll();
 
         return vehicles.stream()
-                .map(this::convertToVehicleSummary)
+                .map(vehicleMapper::toSummaryDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    public List<CustomerWithVehiclesDTO> getAllCustomersWithVehicles(String adminEmail) {
+    public Page<CustomerWithVehiclesDTO> getAllCustomersWithVehicles(Long adminId, Pageable pageable) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
-        List<User> customers = userRepository.findByRole(Role.CUSTOMER);
+        Page<User> customers = userRepository.findByRole(Role.CUSTOMER, pageable);
 
-        return customers.stream()
-                .map(this::convertToCustomerWithVehicles)
-                .collect(Collectors.toList());
+        List<CustomerWithVehiclesDTO> content = convertToCustomersWithVehicles(customers.getContent());
+        return new PageImpl<>(content, pageable, customers.getTotalElements());
     }
 
     @Transactional
-    public CustomerWithVehiclesDTO getCustomerWithVehicles(String adminEmail, Long customerId) {
+    public CustomerWithVehiclesDTO getCustomerWithVehicles(Long adminId, Long customerId) {
 
-        validateAdmin(adminEmail);
+        validateAdmin(adminId);
 
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
@@ -797,62 +704,41 @@ public class AdminServices {
             throw new IllegalArgumentException("User is not a customer");
         }
 
-        return convertToCustomerWithVehicles(customer);
+        return convertToCustomersWithVehicles(List.of(customer)).get(0);
     }
 
-    private VehicleSummaryDTO convertToVehicleSummary(Vehicle vehicle) {
-        VehicleSummaryDTO dto = new VehicleSummaryDTO();
-        dto.setId(vehicle.getId());
-        dto.setRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setMake(vehicle.getMake());
-        dto.setModel(vehicle.getModel());
-        dto.setYear(vehicle.getYear());
-        dto.setColor(vehicle.getColor());
-        dto.setVinNumber(vehicle.getVinNumber());
-        dto.setMileage(vehicle.getMileage());
-
-        User owner = vehicle.getOwner();
-        dto.setOwnerName(owner.getFirstName() + " " + owner.getLastName());
-        dto.setOwnerEmail(owner.getEmail());
-        dto.setOwnerPhone(owner.getPhoneNumber());
-        dto.setCreatedAt(vehicle.getCreatedAt());
-
-        return dto;
-    }
+    private List<CustomerWithVehiclesDTO> convertToCustomersWithVehicles(List<User> customers) {
+        if (customers.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-    private CustomerWithVehiclesDTO convertToCustomerWithVehicles(User customer) {
-        CustomerWithVehiclesDTO dto = new CustomerWithVehiclesDTO();
-        dto.setId(customer.getId());
-        dto.setEmail(customer.getEmail());
-        dto.setFirstName(customer.getFirstName());
-        dto.setLastName(customer.getLastName());
-        dto.setPhoneNumber(customer.getPhoneNumber());
-        dto.setIsActive(customer.getIsActive());
-        dto.setCreatedAt(customer.getCreatedAt());
-
-        List<Vehicle> vehicles = vehicleRepository.findByOwnerId(customer.getId());
-        List<VehicleInfoDTO> vehicleInfos = vehicles.stream()
-                .map(vehicle -> {
-                    VehicleInfoDTO vDto = new VehicleInfoDTO();
-                    vDto.setId(vehicle.getId());
-                    vDto.setRegistrationNumber(vehicle.getRegistrationNumber());
-                    vDto.setMake(vehicle.getMake());
-                    vDto.setModel(vehicle.getModel());
-                    vDto.setYear(vehicle.getYear());
-                    vDto.setColor(vehicle.getColor());
-                    return vDto;
-                })
+        List<Long> customerIds = customers.stream()
+                .map(User::getId)
                 .collect(Collectors.toList());
 
-        dto.setVehicles(vehicleInfos);
-        dto.setTotalVehicles(vehicles.size());
+        Map<Long, List<VehicleInfoDTO>> vehiclesByOwner = vehicleRepository.findByOwnerIdIn(customerIds).stream()
+                .collect(Collectors.groupingBy(
+                        vehicle -> vehicle.getOwner().getId(),
+                        Collectors.mapping(vehicleMapper::toInfoDTO, Collectors.toList())
+                ));
 
-        List<Appointment> appointments = appointmentRepository.findByCustomerId(customer.getId());
-        List<Project> projects = projectRepository.findByCustomerId(customer.getId());
+        Map<Long, Long> appointmentCounts = appointmentRepository.countByCustomerIds(customerIds).stream()
+                .collect(Collectors.toMap(CustomerCountDTO::getCustomerId, CustomerCountDTO::getCount));
 
-        dto.setTotalAppointments(appointments.size());
-        dto.setTotalProjects(projects.size());
+        Map<Long, Long> projectCounts = projectRepository.countByCustomerIds(customerIds).stream()
+                .collect(Collectors.toMap(CustomerCountDTO::getCustomerId, CustomerCountDTO::getCount));
 
-        return dto;
+        return customers.stream()
+                .map(customer -> {
+                    CustomerWithVehiclesDTO dto = userMapper.toCustomerWithVehicles(customer);
+
+                    List<VehicleInfoDTO> vehicleInfos = vehiclesByOwner.getOrDefault(customer.getId(), new ArrayList<>());
+                    dto.setVehicles(vehicleInfos);
+                    dto.setTotalVehicles(vehicleInfos.size());
+                    dto.setTotalAppointments(appointmentCounts.getOrDefault(customer.getId(), 0L).intValue());
+                    dto.setTotalProjects(projectCounts.getOrDefault(customer.getId(), 0L).intValue());
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 }
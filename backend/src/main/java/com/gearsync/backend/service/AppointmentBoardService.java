@@ -0,0 +1,97 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AppointmentBoardDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Confirmed and today's appointment boards for the admin dashboard. Each board is built from a
+ * single fetch-joined query and cached for a few seconds, so screens polling the boards share
+ * one query per refresh window; {@link AppointmentCacheInvalidator} drops the boards as soon as
+ * an appointment write commits.
+ */
+@Service
+public class AppointmentBoardService {
+
+    private static final String CONFIRMED_BOARD = "confirmed";
+    private static final String TODAY_BOARD_PREFIX = "today:";
+
+    private final AppointmentRepository appointmentRepository;
+    private final Cache<String, List<AppointmentBoardDTO>> boards;
+
+    public AppointmentBoardService(AppointmentRepository appointmentRepository,
+                                   @Value("${app.dashboard.board-cache-ttl-seconds:5}") long ttlSeconds) {
+        this.appointmentRepository = appointmentRepository;
+        this.boards = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(16)
+                .build();
+    }
+
+    // Concurrent misses for the same board wait for a single load instead of each querying
+    public List<AppointmentBoardDTO> getConfirmedBoard() {
+        return boards.get(CONFIRMED_BOARD, key -> toBoard(
+                appointmentRepository.findBoardByStatus(AppointmentStatus.CONFIRMED)));
+    }
+
+    public List<AppointmentBoardDTO> getTodayBoard() {
+        LocalDate today = LocalDate.now();
+        return boards.get(TODAY_BOARD_PREFIX + today, key -> toBoard(
+                appointmentRepository.findBoardBetween(today.atStartOfDay(), today.plusDays(1).atStartOfDay())));
+    }
+
+    // Invalidating before commit would let a concurrent read cache the old rows again
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        boards.invalidate(CONFIRMED_BOARD);
+        boards.invalidate(TODAY_BOARD_PREFIX + LocalDate.now());
+    }
+
+    private List<AppointmentBoardDTO> toBoard(List<Appointment> appointments) {
+        return appointments.stream().map(this::convertToBoardDTO).toList();
+    }
+
+    private AppointmentBoardDTO convertToBoardDTO(Appointment appointment) {
+        User customer = appointment.getCustomer();
+        User employee = appointment.getAssignedEmployee();
+        return new AppointmentBoardDTO(
+                appointment.getId(),
+                appointment.getScheduledDateTime(),
+                appointment.getStatus().name(),
+                customer.getFirstName() + " " + customer.getLastName(),
+                customer.getPhoneNumber(),
+                appointment.getVehicle().getRegistrationNumber(),
+                appointment.getVehicle().getMake(),
+                appointment.getVehicle().getModel(),
+                employee != null ? employee.getId() : null,
+                employee != null ? employee.getFirstName() + " " + employee.getLastName() : "Unassigned",
+                appointment.getProgressPercentage(),
+                appointment.getAppointmentServices().stream().map(Services::getServiceName).sorted().toList()
+        );
+    }
+}
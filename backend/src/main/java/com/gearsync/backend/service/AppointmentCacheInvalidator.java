@@ -0,0 +1,121 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Drops the cached appointment boards and availability days whenever Hibernate writes an
+ * appointment, whichever service made the change. A rescheduled appointment drops both its old
+ * and its new day. Service and employee writes reset the availability engine's duration and
+ * capacity lookups. Changes to related rows (a customer's name, a vehicle) show up on the boards
+ * once the short board TTL runs out.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AppointmentBoardService appointmentBoardService;
+    private final AvailabilityService availabilityService;
+
+    private int appointmentScheduled;
+
+    @PostConstruct
+    public void register() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        appointmentScheduled = sessionFactory.getMappingMetamodel().getEntityDescriptor(Appointment.class)
+                .findAttributeMapping("scheduledDateTime").getStateArrayPosition();
+
+        EventListenerRegistry registry = sessionFactory
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onWrite(event.getEntity(), null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        LocalDateTime oldScheduled = null;
+        if (event.getEntity() instanceof Appointment && event.getOldState() != null) {
+            oldScheduled = (LocalDateTime) event.getOldState()[appointmentScheduled];
+        }
+        onWrite(event.getEntity(), oldScheduled);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onWrite(event.getEntity(), null);
+    }
+
+    // Changing an appointment's services changes how long it occupies its day
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onWrite(event.getAffectedOwnerOrNull(), null);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onWrite(event.getAffectedOwnerOrNull(), null);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onWrite(Object entity, LocalDateTime oldScheduled) {
+        if (entity instanceof Appointment appointment) {
+            appointmentBoardService.invalidateAfterCommit();
+            Set<LocalDate> days = new HashSet<>();
+            if (appointment.getScheduledDateTime() != null) {
+                days.add(appointment.getScheduledDateTime().toLocalDate());
+            }
+            if (oldScheduled != null) {
+                days.add(oldScheduled.toLocalDate());
+            }
+            afterCommit(() -> days.forEach(availabilityService::invalidateDay));
+        } else if (entity instanceof Services) {
+            afterCommit(availabilityService::invalidateServices);
+        } else if (entity instanceof User) {
+            afterCommit(availabilityService::invalidateCapacity);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,19 +2,22 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.metrics.BookingMetrics;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.ServiceRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -28,23 +31,22 @@ public class AppointmentService {
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
     private final ServiceRepository serviceRepository;
-    private final ModelMapper modelMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final AvailabilityService availabilityService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final BookingMetrics bookingMetrics;
 
     private static final Set<String> ALLOWED_CUSTOMER_STATUSES = new HashSet<>( List.of("SCHEDULED", "CONFIRMED", "RESCHEDULED") );
 
     @Transactional
-    public AppointmentResponseDTO bookAppointment(String customerEmail, AppointmentRequestDTO request) {
+    public AppointmentResponseDTO bookAppointment(Long customerId, AppointmentRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
+        User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new UserNotFoundException("Customer not found"));
 
-        Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
+        Vehicle vehicle = vehicleRepository.findByIdAndOwnerId(request.getVehicleId(), customerId)
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with ID: " + request.getVehicleId()));
 
-        if (!vehicle.getOwner().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only book appointments for your own vehicles");
-        }
-
         if (request.getScheduledDateTime().isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("Cannot schedule appointment in the past");
         }
@@ -80,6 +82,8 @@ public class AppointmentService {
                 .mapToInt(Services::getEstimatedDurationMinutes)
                 .sum();
 
+        availabilityService.assertBookable(request.getScheduledDateTime(), totalDuration, null);
+        scheduleConflictService.assertVehicleFree(vehicle.getId(), request.getScheduledDateTime(), totalDuration, null);
 
         Appointment appointment = new Appointment();
         appointment.setCustomer(customer);
@@ -93,129 +97,81 @@ public class AppointmentService {
         appointment.setAppointmentServices(new HashSet<>(services));
 
         Appointment savedAppointment = appointmentRepository.save(appointment);
+        bookingMetrics.countSavedAfterCompletion();
 
-        return convertToResponseDTO(savedAppointment, services);
+        return appointmentMapper.toResponseDTO(savedAppointment, services);
     }
 
-    private AppointmentResponseDTO convertToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
+    @Transactional
+    public List<MyAppointmentDTO> getMyAppointments(Long customerId) {
+        List<Appointment> appointments = appointmentRepository.findAllByCustomerId(customerId);
 
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
+        return appointments.stream()
+                .map(appointmentMapper::toMyAppointmentDTO)
+                .collect(Collectors.toList());
+    }
 
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MyAppointmentDTO> getMyAppointmentsPage(
+            Long customerId,
+            String status,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit) {
+
+        Set<AppointmentStatus> statuses;
+        if (status == null || status.isBlank()) {
+            statuses = EnumSet.allOf(AppointmentStatus.class);
+        } else {
+            try {
+                statuses = EnumSet.of(AppointmentStatus.valueOf(status.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status);
+            }
         }
 
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-
-        return dto;
-    }
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<Appointment> rows = appointmentRepository.findCustomerPage(
+                customerId,
+                statuses,
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
 
-    @Transactional
-    public List<MyAppointmentDTO> getMyAppointments(String customerEmail) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        List<Appointment> appointments = appointmentRepository.findAllByCustomerId(customer.getId());
-
-        return appointments.stream().map(appointment -> {
-            MyAppointmentDTO dto = new MyAppointmentDTO();
-            dto.setId(appointment.getId());
-            dto.setScheduledDateTime(appointment.getScheduledDateTime());
-            dto.setStatus(appointment.getStatus().name());
-            dto.setCustomerNotes(appointment.getCustomerNotes());
-            dto.setFinalCost(appointment.getFinalCost());
-            dto.setServices(
-                    appointment.getAppointmentServices().stream().map(service -> {
-                        ServiceSummaryDTO sDto = new ServiceSummaryDTO();
-                        sDto.setId(service.getId());
-                        sDto.setServiceName(service.getServiceName());
-                        sDto.setBasePrice(service.getBasePrice());
-                        return sDto;
-                    }).collect(Collectors.toSet())
+        if (!rows.isEmpty()) {
+            // initialise every page row's services in one query instead of one per row
+            appointmentRepository.findWithServicesByIdIn(
+                    rows.stream().map(Appointment::getId).collect(Collectors.toList())
             );
+        }
 
-            return dto;
-        }).collect(Collectors.toList());
+        return KeysetCursor.toPage(rows, pageSize,
+                Appointment::getScheduledDateTime, Appointment::getId, appointmentMapper::toMyAppointmentDTO);
     }
 
     @Transactional
-    public MyAppointmentDTO getAppointmentById(String customerEmail, Long appointmentId) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+    public MyAppointmentDTO getAppointmentById(Long customerId, Long appointmentId) {
+        Appointment appointment = appointmentRepository.findByIdAndCustomerId(appointmentId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
-        if (!appointment.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only view your own appointments");
-        }
-
-        MyAppointmentDTO response = modelMapper.map(appointment, MyAppointmentDTO.class);
-        return response;
+        return appointmentMapper.toMyAppointmentDTO(appointment);
     }
 
     @Transactional
     public UpdateAppointmentRequestDTO updateAppointment(
-            String customerEmail,
+            Long customerId,
             Long appointmentId,
             UpdateAppointmentRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdAndCustomerId(appointmentId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
 
-        if (!appointment.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only update your own appointments");
-        }
-
         if (appointment.getStatus() == AppointmentStatus.IN_PROGRESS) {
             throw new IllegalStateException("Cannot update appointment that is currently in progress");
         }
@@ -229,17 +185,16 @@ public class AppointmentService {
         }
 
         boolean isUpdated = false;
+        boolean isSlotChanged = false;
+        boolean isVehicleChanged = false;
 
         if (request.getVehicleId() != null && !request.getVehicleId().equals(appointment.getVehicle().getId())) {
-            Vehicle newVehicle = vehicleRepository.findById(request.getVehicleId())
+            Vehicle newVehicle = vehicleRepository.findByIdAndOwnerId(request.getVehicleId(), customerId)
                     .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found with ID: " + request.getVehicleId()));
 
-            if (!newVehicle.getOwner().getId().equals(customer.getId())) {
-                throw new UnauthorizedException("You can only select your own vehicles");
-            }
-
             appointment.setVehicle(newVehicle);
             isUpdated = true;
+            isVehicleChanged = true;
         }
 
         if (request.getServiceIds() != null && !request.getServiceIds().isEmpty()) {
@@ -257,6 +212,7 @@ public class AppointmentService {
             appointment.getAppointmentServices().clear();
             appointment.setAppointmentServices(new HashSet<>(newServices));
             isUpdated = true;
+            isSlotChanged = true;
         }
 
         if (request.getScheduledDateTime() != null &&
@@ -267,11 +223,11 @@ public class AppointmentService {
             }
 
             boolean hasConflict = appointmentRepository.existsByCustomerAndScheduledDateTime(
-                    customer.getId(), request.getScheduledDateTime());
+                    customerId, request.getScheduledDateTime());
 
             if (hasConflict) {
                 List<Appointment> conflictingAppointments = appointmentRepository
-                        .findByCustomerIdAndStatus(customer.getId(), AppointmentStatus.SCHEDULED);
+                        .findByCustomerIdAndStatus(customerId, AppointmentStatus.SCHEDULED);
 
                 boolean isDifferentAppointment = conflictingAppointments.stream()
                         .filter(a -> a.getScheduledDateTime().equals(request.getScheduledDateTime()))
@@ -288,6 +244,7 @@ public class AppointmentService {
                 appointment.setStatus(AppointmentStatus.RESCHEDULED);
             }
             isUpdated = true;
+            isSlotChanged = true;
         }
 
         if (request.getCustomerNotes() != null) {
@@ -299,6 +256,23 @@ public class AppointmentService {
             throw new IllegalArgumentException("No valid fields provided for update");
         }
 
+        // The appointment's own booking is left out so it does not compete with itself
+        int duration = availabilityService.durationOf(appointment.getAppointmentServices());
+        if (isSlotChanged) {
+            availabilityService.assertBookable(appointment.getScheduledDateTime(), duration, appointmentId);
+        }
+        if (isSlotChanged || isVehicleChanged) {
+            scheduleConflictService.assertVehicleFree(
+                    appointment.getVehicle().getId(), appointment.getScheduledDateTime(), duration, appointmentId);
+        }
+
+        // An assigned employee who is busy at the new time is released so an admin can reassign
+        User employee = appointment.getAssignedEmployee();
+        if (isSlotChanged && employee != null && !scheduleConflictService.isEmployeeFree(
+                employee.getId(), appointment.getScheduledDateTime(), duration, appointmentId)) {
+            appointment.setAssignedEmployee(null);
+        }
+
         Appointment updatedAppointment = appointmentRepository.save(appointment);
         UpdateAppointmentRequestDTO updateAppointmentRequestDTO = new UpdateAppointmentRequestDTO();
         updateAppointmentRequestDTO.setVehicleId(updatedAppointment.getVehicle().getId());
@@ -313,18 +287,11 @@ public class AppointmentService {
     }
 
     @Transactional
-    public AppointmentResponseDTO cancelAppointment(String customerEmail, Long appointmentId) {
+    public AppointmentResponseDTO cancelAppointment(Long customerId, Long appointmentId) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdAndCustomerId(appointmentId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
-        if (!appointment.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only cancel your own appointments");
-        }
-
         if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
             throw new IllegalStateException("Appointment is already cancelled");
         }
@@ -336,15 +303,12 @@ public class AppointmentService {
         appointment.setStatus(AppointmentStatus.CANCELLED);
         Appointment updated = appointmentRepository.save(appointment);
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
     @Transactional
-    public void deleteAppointment(String customerEmail, Long appointmentId) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+    public void deleteAppointment(Long customerId, Long appointmentId) {
+        Appointment appointment = appointmentRepository.findByIdAndCustomerId(appointmentId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         String normalizedStatus = String.valueOf(appointment.getStatus()).trim().toUpperCase();
@@ -353,10 +317,6 @@ public class AppointmentService {
             throw new IllegalStateException("Only appointments with status SCHEDULED, CONFIRMED, or RESCHEDULED can be deleted");
         }
 
-        if (!appointment.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only delete your own appointments");
-        }
-
         appointmentRepository.deleteById(appointment.getId());
         appointmentRepository.flush();
     }
@@ -0,0 +1,115 @@
+package com.gearsync.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Greedy workload-balanced assignment of a pending queue. Each task goes to the free employee
+ * with the lowest load score (open items, minutes logged this week, and minutes already booked
+ * on the task's day), and that employee's load is raised before the next task is scored, so one
+ * batch spreads work instead of piling it on whoever was idle at the start.
+ *
+ * <p>Plain Java with no persistence, so the planning cost can be measured on its own.
+ */
+public final class AssignmentPlanner {
+
+    // One open appointment or project weighs as much as four logged hours
+    public static final long OPEN_ITEM_WEIGHT_MINUTES = 240;
+
+    public enum TaskType {
+        APPOINTMENT,
+        PROJECT
+    }
+
+    public record Candidate(Long employeeId, String name, int openItems, long weekMinutes) {
+    }
+
+    // Work an employee is already booked for
+    public record Booking(Long employeeId, LocalDateTime start, int durationMinutes) {
+    }
+
+    // Projects have no booked window; their start is null
+    public record Task(TaskType type, Long id, LocalDateTime start, int durationMinutes) {
+    }
+
+    // employee is null when nobody was free for the task's window
+    public record Assignment(Task task, Candidate employee, long score) {
+    }
+
+    public List<Assignment> plan(List<Candidate> candidates, List<Booking> bookings, List<Task> tasks) {
+        Map<Long, Load> loads = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            loads.put(candidate.employeeId(), new Load(candidate));
+        }
+        for (Booking booking : bookings) {
+            Load load = loads.get(booking.employeeId());
+            if (load != null) {
+                load.book(booking.start(), booking.durationMinutes());
+            }
+        }
+
+        List<Assignment> assignments = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Load best = null;
+            long bestScore = Long.MAX_VALUE;
+            for (Load load : loads.values()) {
+                if (task.start() != null && !load.isFree(task.start(), task.durationMinutes())) {
+                    continue;
+                }
+                long score = load.score(task.start());
+                if (score < bestScore) {
+                    best = load;
+                    bestScore = score;
+                }
+            }
+
+            if (best == null) {
+                assignments.add(new Assignment(task, null, 0));
+                continue;
+            }
+            best.openItems++;
+            if (task.start() != null) {
+                best.book(task.start(), task.durationMinutes());
+            }
+            assignments.add(new Assignment(task, best.candidate, bestScore));
+        }
+        return assignments;
+    }
+
+    private static final class Load {
+
+        private final Candidate candidate;
+        private final Map<LocalDate, List<LocalDateTime[]>> intervalsByDay = new HashMap<>();
+        private final Map<LocalDate, Long> bookedMinutesByDay = new HashMap<>();
+        private int openItems;
+
+        private Load(Candidate candidate) {
+            this.candidate = candidate;
+            this.openItems = candidate.openItems();
+        }
+
+        private long score(LocalDateTime start) {
+            long dayMinutes = start != null ? bookedMinutesByDay.getOrDefault(start.toLocalDate(), 0L) : 0L;
+            return openItems * OPEN_ITEM_WEIGHT_MINUTES + candidate.weekMinutes() + dayMinutes;
+        }
+
+        // Half-open intervals, matching ScheduleConflictService
+        private boolean isFree(LocalDateTime start, int durationMinutes) {
+            LocalDateTime end = start.plusMinutes(durationMinutes);
+            for (LocalDateTime[] interval : intervalsByDay.getOrDefault(start.toLocalDate(), List.of())) {
+                if (interval[0].isBefore(end) && interval[1].isAfter(start)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void book(LocalDateTime start, int durationMinutes) {
+            LocalDate day = start.toLocalDate();
+            intervalsByDay.computeIfAbsent(day, key -> new ArrayList<>())
+                    .add(new LocalDateTime[]{start, start.plusMinutes(durationMinutes)});
+            bookedMinutesByDay.merge(day, (long) durationMinutes, Long::sum);
+        }
+    }
+}
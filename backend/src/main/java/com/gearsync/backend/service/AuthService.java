@@ -1,11 +1,13 @@
 package com.gearsync.backend.service;
 import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.mapper.UserMapper;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -14,16 +16,20 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final EmailService emailService;
 
     public boolean isEmailRegistered(String email) {
         return userRepository.findByEmail(email).isPresent();
     }
 
+    @Transactional
     public User register(UserRegisterDTO userRegisterDTO) {
-        User user = modelMapper.map(userRegisterDTO, User.class);
+        User user = userMapper.fromRegistration(userRegisterDTO);
         user.setPassword(passwordEncoder.encode(userRegisterDTO.getPassword()));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        emailService.sendCustomerWelcomeEmail(saved.getEmail(), saved.getFirstName() + " " + saved.getLastName());
+        return saved;
     }
 
     public boolean authenticate(String email, String rawPassword) {
@@ -33,6 +39,16 @@ public class AuthService {
         return passwordEncoder.matches(rawPassword, user.getPassword());
     }
 
+    @Transactional
+    public void recordLogin(Long userId) {
+        userRepository.updateLastLoginAt(userId, LocalDateTime.now());
+    }
+
+    public User findById(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+    }
+
     public User findByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
@@ -0,0 +1,193 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AssignmentProposalDTO;
+import com.gearsync.backend.dto.AutoAssignmentResultDTO;
+import com.gearsync.backend.dto.BookedIntervalDTO;
+import com.gearsync.backend.model.*;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Proposes or applies employee assignments for the whole pending queue in one pass: unassigned
+ * upcoming appointments and approved projects without an employee. Loads, bookings and the queue
+ * are read with a fixed handful of queries whatever the queue length, then
+ * {@link AssignmentPlanner} balances the batch in memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoAssignmentService {
+
+    private static final Set<AppointmentStatus> PENDING_APPOINTMENT_STATUSES =
+            EnumSet.of(AppointmentStatus.SCHEDULED, AppointmentStatus.RESCHEDULED);
+    private static final Set<ProjectStatus> PENDING_PROJECT_STATUSES =
+            EnumSet.of(ProjectStatus.APPROVED, ProjectStatus.ON_HOLD);
+
+    // Open work and this week's logged minutes for every active employee, in one round trip
+    private static final String EMPLOYEE_LOADS = """
+            SELECT u.id, u.first_name || ' ' || u.last_name AS name,
+                   (SELECT count(*) FROM appointments a
+                    WHERE a.assigned_employee_id = u.id AND a.status IN ('CONFIRMED', 'IN_PROGRESS', 'RESCHEDULED'))
+                 + (SELECT count(*) FROM projects p
+                    WHERE p.assigned_employee_id = u.id AND p.status IN ('APPROVED', 'IN_PROGRESS')) AS open_items,
+                   (SELECT COALESCE(sum(t.duration_minutes), 0) FROM time_logs t
+                    WHERE t.employee_id = u.id AND t.start_time >= :weekStart) AS week_minutes
+            FROM users u
+            WHERE u.role = 'EMPLOYEE' AND u.is_active = TRUE
+            ORDER BY u.id
+            """;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final AvailabilityService availabilityService;
+    private final EmailService emailService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final AssignmentPlanner planner = new AssignmentPlanner();
+
+    @Transactional(readOnly = true)
+    public AutoAssignmentResultDTO propose() {
+        return toResult(false, plan(buildQueue(), false));
+    }
+
+    // Every affected day is locked before bookings are read, so the plan cannot race manual assignments
+    @Transactional
+    public AutoAssignmentResultDTO apply() {
+        List<AssignmentPlanner.Task> queue = buildQueue();
+        List<AssignmentPlanner.Assignment> plan = plan(queue, true);
+
+        Map<Long, User> employees = new HashMap<>();
+        Map<Long, Long> appointmentAssignments = new LinkedHashMap<>();
+        Map<Long, Long> projectAssignments = new LinkedHashMap<>();
+        for (AssignmentPlanner.Assignment assignment : plan) {
+            if (assignment.employee() == null) {
+                continue;
+            }
+            Long employeeId = assignment.employee().employeeId();
+            employees.computeIfAbsent(employeeId, userRepository::getReferenceById);
+            if (assignment.task().type() == AssignmentPlanner.TaskType.APPOINTMENT) {
+                appointmentAssignments.put(assignment.task().id(), employeeId);
+            } else {
+                projectAssignments.put(assignment.task().id(), employeeId);
+            }
+        }
+
+        int appliedAppointments = 0;
+        int appliedProjects = 0;
+        if (!appointmentAssignments.isEmpty()) {
+            for (Appointment appointment : appointmentRepository.findWithCustomerAndVehicleByIdIn(appointmentAssignments.keySet())) {
+                // Skipped if someone assigned, cancelled or completed it between reading the queue and taking the locks
+                if (appointment.getAssignedEmployee() != null
+                        || !PENDING_APPOINTMENT_STATUSES.contains(appointment.getStatus())) {
+                    continue;
+                }
+                appointment.setAssignedEmployee(employees.get(appointmentAssignments.get(appointment.getId())));
+                if (appointment.getStatus() == AppointmentStatus.SCHEDULED) {
+                    appointment.setStatus(AppointmentStatus.CONFIRMED);
+                }
+                appliedAppointments++;
+                User customer = appointment.getCustomer();
+                emailService.sendCustomerAppointmentConfirmation(
+                        customer.getEmail(),
+                        appointment.getVehicle().getRegistrationNumber(),
+                        customer.getFirstName() + " " + customer.getLastName(),
+                        appointment.getScheduledDateTime(),
+                        appointment.getFinalCost() != null ? appointment.getFinalCost() : BigDecimal.ZERO);
+            }
+        }
+        if (!projectAssignments.isEmpty()) {
+            for (Project project : projectRepository.findAllById(projectAssignments.keySet())) {
+                if (project.getAssignedEmployee() == null && PENDING_PROJECT_STATUSES.contains(project.getStatus())) {
+                    project.setAssignedEmployee(employees.get(projectAssignments.get(project.getId())));
+                    appliedProjects++;
+                }
+            }
+        }
+
+        log.info("Auto-assigned {} appointments and {} projects", appliedAppointments, appliedProjects);
+        return toResult(true, plan);
+    }
+
+    private List<AssignmentPlanner.Task> buildQueue() {
+        List<AssignmentPlanner.Task> queue = new ArrayList<>();
+        for (BookedIntervalDTO pending : appointmentRepository.findUnassignedIntervals(LocalDateTime.now(), PENDING_APPOINTMENT_STATUSES)) {
+            queue.add(new AssignmentPlanner.Task(AssignmentPlanner.TaskType.APPOINTMENT,
+                    pending.getAppointmentId(), pending.getStart(), pending.getDurationMinutes().intValue()));
+        }
+        for (Long projectId : projectRepository.findUnassignedIds(PENDING_PROJECT_STATUSES)) {
+            queue.add(new AssignmentPlanner.Task(AssignmentPlanner.TaskType.PROJECT, projectId, null, 0));
+        }
+        return queue;
+    }
+
+    private List<AssignmentPlanner.Assignment> plan(List<AssignmentPlanner.Task> queue, boolean lockDays) {
+        if (queue.isEmpty()) {
+            return List.of();
+        }
+
+        SortedSet<LocalDate> days = queue.stream()
+                .filter(task -> task.start() != null)
+                .map(task -> task.start().toLocalDate())
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (lockDays) {
+            days.forEach(availabilityService::lockDay);
+        }
+
+        List<AssignmentPlanner.Booking> bookings = days.isEmpty() ? List.of() : appointmentRepository.findBookedIntervals(
+                        days.first().atStartOfDay(), days.last().plusDays(1).atStartOfDay(), AvailabilityService.NON_BLOCKING_STATUSES)
+                .stream()
+                .filter(interval -> interval.getAssignedEmployeeId() != null)
+                .map(interval -> new AssignmentPlanner.Booking(
+                        interval.getAssignedEmployeeId(), interval.getStart(), interval.getDurationMinutes().intValue()))
+                .toList();
+
+        return planner.plan(loadCandidates(), bookings, queue);
+    }
+
+    private List<AssignmentPlanner.Candidate> loadCandidates() {
+        LocalDateTime weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        return jdbcTemplate.query(EMPLOYEE_LOADS, new MapSqlParameterSource("weekStart", weekStart),
+                (rs, rowNum) -> new AssignmentPlanner.Candidate(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getInt("open_items"),
+                        rs.getLong("week_minutes")));
+    }
+
+    private AutoAssignmentResultDTO toResult(boolean applied, List<AssignmentPlanner.Assignment> plan) {
+        Map<Boolean, List<AssignmentProposalDTO>> split = plan.stream()
+                .collect(Collectors.partitioningBy(assignment -> assignment.employee() != null,
+                        Collectors.mapping(this::toProposal, Collectors.toList())));
+        return new AutoAssignmentResultDTO(applied, split.get(true), split.get(false));
+    }
+
+    private AssignmentProposalDTO toProposal(AssignmentPlanner.Assignment assignment) {
+        AssignmentPlanner.Task task = assignment.task();
+        AssignmentPlanner.Candidate employee = assignment.employee();
+        return new AssignmentProposalDTO(
+                task.type().name(),
+                task.id(),
+                task.start(),
+                task.start() != null ? task.durationMinutes() : null,
+                employee != null ? employee.employeeId() : null,
+                employee != null ? employee.name() : null,
+                employee != null ? assignment.score() : null
+        );
+    }
+}
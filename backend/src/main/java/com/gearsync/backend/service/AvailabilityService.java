@@ -0,0 +1,274 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AvailabilityDTO;
+import com.gearsync.backend.dto.AvailableSlotDTO;
+import com.gearsync.backend.dto.BookedIntervalDTO;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.SlotUnavailableException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ServiceRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Answers "when can these services be done on day D" from an in-memory occupancy index. Each day
+ * is loaded once with a single query into a per-minute count of booked work over business hours,
+ * so a slot check is a scan of a small int array. Capacity is the number of active employees.
+ *
+ * <p>Cached days are dropped by {@link AppointmentCacheInvalidator} once an appointment write
+ * commits. A read that loads a day between that commit and the invalidation can still cache the old
+ * schedule, so entries also expire after a short TTL. Booking validation does not trust the cache: it takes a per-day advisory lock and
+ * re-reads the day, so two concurrent bookings cannot both take the last free place.
+ */
+@Service
+public class AvailabilityService {
+
+    // Statuses whose appointments no longer occupy a bay
+    public static final Set<AppointmentStatus> NON_BLOCKING_STATUSES =
+            EnumSet.of(AppointmentStatus.CANCELLED, AppointmentStatus.COMPLETED, AppointmentStatus.NO_SHOW);
+
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+    private static final int BOOKING_LOCK_NAMESPACE = 0x41564C42;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LocalTime openTime;
+    private final LocalTime closeTime;
+    private final int slotStepMinutes;
+    private final Set<DayOfWeek> closedDays;
+    private final Cache<LocalDate, DaySchedule> days;
+
+    private volatile Map<Long, Services> servicesById;
+    private volatile Integer capacity;
+
+    public AvailabilityService(AppointmentRepository appointmentRepository,
+                               ServiceRepository serviceRepository,
+                               UserRepository userRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${app.availability.open-time:08:00}") String openTime,
+                               @Value("${app.availability.close-time:18:00}") String closeTime,
+                               @Value("${app.availability.slot-step-minutes:30}") int slotStepMinutes,
+                               @Value("${app.availability.closed-days:SUNDAY}") Set<DayOfWeek> closedDays,
+                               @Value("${app.availability.cached-days:400}") long cachedDays,
+                               @Value("${app.availability.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.openTime = LocalTime.parse(openTime);
+        this.closeTime = LocalTime.parse(closeTime);
+        if (!this.openTime.isBefore(this.closeTime) || slotStepMinutes < 1) {
+            throw new IllegalStateException("Invalid business hours configuration");
+        }
+        this.appointmentRepository = appointmentRepository;
+        this.serviceRepository = serviceRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.slotStepMinutes = slotStepMinutes;
+        this.closedDays = closedDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(closedDays);
+        this.days = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cachedDays)
+                .build();
+    }
+
+    public AvailabilityDTO getAvailability(LocalDate date, Collection<Long> serviceIds, Integer durationMinutes) {
+        int duration = resolveDuration(serviceIds, durationMinutes);
+        int capacity = capacity();
+        List<AvailableSlotDTO> slots = new ArrayList<>();
+
+        if (isOpen(date) && duration <= windowMinutes()) {
+            DaySchedule schedule = days.get(date, this::loadDay);
+            LocalDateTime dayOpen = date.atTime(openTime);
+            LocalDateTime now = LocalDateTime.now();
+
+            for (int offset = 0; offset + duration <= windowMinutes(); offset += slotStepMinutes) {
+                LocalDateTime start = dayOpen.plusMinutes(offset);
+                if (start.isBefore(now)) {
+                    continue;
+                }
+                int free = capacity - schedule.peak(offset, offset + duration);
+                if (free > 0) {
+                    slots.add(new AvailableSlotDTO(start, start.plusMinutes(duration), free));
+                }
+            }
+        }
+        return new AvailabilityDTO(date, duration, capacity, slots);
+    }
+
+    public boolean isAvailable(LocalDateTime start, Collection<Long> serviceIds, Integer durationMinutes) {
+        int duration = resolveDuration(serviceIds, durationMinutes);
+        int[] window = windowOf(start, duration);
+        if (window == null) {
+            return false;
+        }
+        DaySchedule schedule = days.get(start.toLocalDate(), this::loadDay);
+        return schedule.peak(window[0], window[1]) < capacity();
+    }
+
+    // Called inside the booking transaction; the advisory lock is held until it commits
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertBookable(LocalDateTime start, int durationMinutes, Long excludedAppointmentId) {
+        int duration = Math.max(durationMinutes, slotStepMinutes);
+        int[] window = windowOf(start, duration);
+        if (window == null) {
+            throw new IllegalArgumentException("Appointments can only be booked between " + openTime + " and "
+                    + closeTime + (closedDays.isEmpty() ? "" : ", except on " + closedDays));
+        }
+
+        LocalDate date = start.toLocalDate();
+        lockDay(date);
+
+        List<BookedIntervalDTO> booked = loadIntervals(date).stream()
+                .filter(interval -> !interval.getAppointmentId().equals(excludedAppointmentId))
+                .toList();
+        if (buildSchedule(date, booked).peak(window[0], window[1]) >= capacity()) {
+            throw new SlotUnavailableException("The selected time slot is fully booked. Please choose another time.");
+        }
+    }
+
+    // Serialises every booking and assignment change on one day until the caller's transaction ends
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockDay(LocalDate date) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, ?)", BOOKING_LOCK_NAMESPACE, (int) date.toEpochDay());
+    }
+
+    public int durationOf(Collection<Services> services) {
+        return services.stream().mapToInt(Services::getEstimatedDurationMinutes).sum();
+    }
+
+    public void invalidateDay(LocalDate date) {
+        days.invalidate(date);
+    }
+
+    public void invalidateServices() {
+        servicesById = null;
+        days.invalidateAll();
+    }
+
+    public void invalidateCapacity() {
+        capacity = null;
+    }
+
+    private DaySchedule loadDay(LocalDate date) {
+        return buildSchedule(date, loadIntervals(date));
+    }
+
+    private List<BookedIntervalDTO> loadIntervals(LocalDate date) {
+        return appointmentRepository.findBookedIntervals(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), NON_BLOCKING_STATUSES);
+    }
+
+    // Difference array over the opening window, then a prefix sum gives bookings per minute
+    private DaySchedule buildSchedule(LocalDate date, List<BookedIntervalDTO> booked) {
+        int window = windowMinutes();
+        int[] occupancy = new int[window + 1];
+        LocalDateTime dayOpen = date.atTime(openTime);
+
+        for (BookedIntervalDTO interval : booked) {
+            int from = (int) ChronoUnit.MINUTES.between(dayOpen, interval.getStart());
+            int to = from + (int) Math.max(interval.getDurationMinutes(), slotStepMinutes);
+            from = Math.max(from, 0);
+            to = Math.min(to, window);
+            if (from < to) {
+                occupancy[from]++;
+                occupancy[to]--;
+            }
+        }
+        for (int minute = 1; minute <= window; minute++) {
+            occupancy[minute] += occupancy[minute - 1];
+        }
+        return new DaySchedule(occupancy);
+    }
+
+    // Minute offsets of [start, start + duration) within the opening window, or null if it does not fit
+    private int[] windowOf(LocalDateTime start, int duration) {
+        if (!isOpen(start.toLocalDate())) {
+            return null;
+        }
+        int from = (int) ChronoUnit.MINUTES.between(start.toLocalDate().atTime(openTime), start);
+        int to = from + duration;
+        if (from < 0 || to > windowMinutes()) {
+            return null;
+        }
+        return new int[]{from, to};
+    }
+
+    private boolean isOpen(LocalDate date) {
+        return !closedDays.contains(date.getDayOfWeek());
+    }
+
+    private int windowMinutes() {
+        return (int) ChronoUnit.MINUTES.between(openTime, closeTime);
+    }
+
+    private int resolveDuration(Collection<Long> serviceIds, Integer durationMinutes) {
+        if (serviceIds != null && !serviceIds.isEmpty()) {
+            Map<Long, Services> services = services();
+            List<Services> selected = new ArrayList<>(serviceIds.size());
+            for (Long serviceId : new LinkedHashSet<>(serviceIds)) {
+                Services service = services.get(serviceId);
+                if (service == null || !service.getIsActive()) {
+                    throw new ResourceNotFoundException("Service not found with ID: " + serviceId);
+                }
+                selected.add(service);
+            }
+            return Math.max(durationOf(selected), slotStepMinutes);
+        }
+        if (durationMinutes != null) {
+            if (durationMinutes < 1) {
+                throw new IllegalArgumentException("durationMinutes must be at least 1");
+            }
+            return durationMinutes;
+        }
+        return DEFAULT_DURATION_MINUTES;
+    }
+
+    private Map<Long, Services> services() {
+        Map<Long, Services> current = servicesById;
+        if (current == null) {
+            current = serviceRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(Services::getId, service -> service));
+            servicesById = current;
+        }
+        return current;
+    }
+
+    // A shop with no employee accounts yet still takes one booking at a time
+    private int capacity() {
+        Integer current = capacity;
+        if (current == null) {
+            current = (int) Math.max(1, userRepository.countByRoleAndIsActiveTrue(Role.EMPLOYEE));
+            capacity = current;
+        }
+        return current;
+    }
+
+    private record DaySchedule(int[] occupancy) {
+
+        int peak(int from, int to) {
+            int peak = 0;
+            for (int minute = from; minute < to; minute++) {
+                peak = Math.max(peak, occupancy[minute]);
+            }
+            return peak;
+        }
+    }
+}
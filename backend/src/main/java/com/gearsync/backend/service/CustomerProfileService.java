@@ -19,9 +19,9 @@ public class CustomerProfileService {
     private final UserRepository userRepository;
 
     @Transactional(readOnly = true)
-    public UserDto getMyProfile(String email) {
+    public UserDto getMyProfile(Long userId) {
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         UserDto dto = new UserDto();
@@ -39,9 +39,9 @@ public class CustomerProfileService {
     }
 
     @Transactional
-    public UserDto updateMyProfile(String email, UpdateCustomerProfileDTO request) {
+    public UserDto updateMyProfile(Long userId, UpdateCustomerProfileDTO request) {
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         if (user.getRole() != Role.CUSTOMER) {
@@ -54,6 +54,6 @@ public class CustomerProfileService {
 
         userRepository.save(user);
 
-        return getMyProfile(email);
+        return getMyProfile(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.model.Vehicle;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Moves the dashboard counters whenever Hibernate inserts, updates or deletes a user, vehicle or
+ * appointment. Deltas are written through {@link JdbcTemplate}, which shares the connection of the
+ * surrounding JPA transaction, so they commit or roll back together with the entity change.
+ *
+ * <p>Each counter is spread over {@code app.dashboard.counter-slots} rows and a writer only locks
+ * the one slot its thread maps to, so concurrent writers mostly land on different rows instead of
+ * serialising on one lock held until commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCounterListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String APPLY_DELTA = """
+            INSERT INTO dashboard_counters (counter_key, slot, item_count, amount, updated_at)
+            VALUES (?, ?, ?, ?, now())
+            ON CONFLICT (counter_key, slot) DO UPDATE
+            SET item_count = dashboard_counters.item_count + EXCLUDED.item_count,
+                amount     = dashboard_counters.amount + EXCLUDED.amount,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.dashboard.counter-slots:8}")
+    private int slots;
+
+    private int appointmentStatus;
+    private int appointmentFinalCost;
+
+    @PostConstruct
+    public void register() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister appointment = sessionFactory.getMappingMetamodel().getEntityDescriptor(Appointment.class);
+        appointmentStatus = appointment.findAttributeMapping("status").getStateArrayPosition();
+        appointmentFinalCost = appointment.findAttributeMapping("finalCost").getStateArrayPosition();
+
+        EventListenerRegistry registry = sessionFactory
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        collect(deltas, event.getEntity(), 1);
+        apply(deltas);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        collect(deltas, event.getEntity(), -1);
+        apply(deltas);
+    }
+
+    // Only an appointment's status or final cost can move a counter on update
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Appointment appointment)) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            log.debug("No previous state for appointment {}, leaving its counters to reconciliation", event.getId());
+            return;
+        }
+
+        AppointmentStatus oldStatus = (AppointmentStatus) oldState[appointmentStatus];
+        BigDecimal oldCost = (BigDecimal) oldState[appointmentFinalCost];
+        if (oldStatus == appointment.getStatus() && Objects.equals(oldCost, appointment.getFinalCost())) {
+            return;
+        }
+
+        Map<String, Delta> deltas = new TreeMap<>();
+        add(deltas, DashboardCounterService.appointmentKey(oldStatus), -1, negate(oldCost));
+        add(deltas, DashboardCounterService.appointmentKey(appointment.getStatus()), 1, orZero(appointment.getFinalCost()));
+        apply(deltas);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void collect(Map<String, Delta> deltas, Object entity, int sign) {
+        if (entity instanceof User) {
+            add(deltas, DashboardCounterService.USERS, sign, BigDecimal.ZERO);
+        } else if (entity instanceof Vehicle) {
+            add(deltas, DashboardCounterService.VEHICLES, sign, BigDecimal.ZERO);
+        } else if (entity instanceof Appointment appointment) {
+            BigDecimal cost = orZero(appointment.getFinalCost());
+            add(deltas, DashboardCounterService.appointmentKey(appointment.getStatus()), sign, sign < 0 ? cost.negate() : cost);
+        }
+    }
+
+    private void add(Map<String, Delta> deltas, String key, long count, BigDecimal amount) {
+        deltas.merge(key, new Delta(count, amount),
+                (left, right) -> new Delta(left.count() + right.count(), left.amount().add(right.amount())));
+    }
+
+    // Keys are applied in sorted order so concurrent transactions lock counter rows in the same order.
+    // The slot follows the thread, so a transaction keeps to one slot of every counter it touches.
+    private void apply(Map<String, Delta> deltas) {
+        short slot = (short) (Thread.currentThread().getId() % slots);
+        deltas.forEach((key, delta) -> {
+            if (delta.count() != 0 || delta.amount().signum() != 0) {
+                jdbcTemplate.update(APPLY_DELTA, key, slot, delta.count(), delta.amount());
+            }
+        });
+    }
+
+    private BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private BigDecimal negate(BigDecimal value) {
+        return orZero(value).negate();
+    }
+
+    private record Delta(long count, BigDecimal amount) {
+    }
+}
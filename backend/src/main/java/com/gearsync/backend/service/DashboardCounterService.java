@@ -0,0 +1,171 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.DashboardSummaryDTO;
+import com.gearsync.backend.dto.StatusTotalDTO;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.DashboardCounter;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.DashboardCounterRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Dashboard totals read from {@code dashboard_counters} instead of counting the source tables.
+ * {@link DashboardCounterListener} moves the counters in the same transaction as every insert,
+ * update and delete; {@link #reconcile()} recomputes them on a schedule to correct drift from
+ * writes that bypass Hibernate (bulk queries, manual SQL). A counter's value is the sum of its
+ * slot rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCounterService {
+
+    public static final String USERS = "users";
+    public static final String VEHICLES = "vehicles";
+    public static final String APPOINTMENTS_PREFIX = "appointments:";
+
+    private final DashboardCounterRepository dashboardCounterRepository;
+    private final UserRepository userRepository;
+    private final VehicleRepository vehicleRepository;
+    private final AppointmentRepository appointmentRepository;
+
+    @Value("${app.dashboard.counter-slots:8}")
+    private int slots;
+
+    public static String appointmentKey(AppointmentStatus status) {
+        return APPOINTMENTS_PREFIX + status.name();
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardSummaryDTO getSummary() {
+        List<DashboardCounter> rows = dashboardCounterRepository.findAll();
+        Map<String, StatusTotalDTO> totals = sumSlots(rows);
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long appointmentCount = 0;
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            long count = countOf(totals.get(appointmentKey(status)));
+            byStatus.put(status.name(), count);
+            appointmentCount += count;
+        }
+
+        LocalDateTime reconciledAt = rows.stream()
+                .map(DashboardCounter::getReconciledAt)
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+
+        StatusTotalDTO completed = totals.get(appointmentKey(AppointmentStatus.COMPLETED));
+        return new DashboardSummaryDTO(
+                countOf(totals.get(USERS)),
+                countOf(totals.get(VEHICLES)),
+                appointmentCount,
+                byStatus.get(AppointmentStatus.IN_PROGRESS.name()),
+                completed != null ? completed.getAmount() : BigDecimal.ZERO,
+                byStatus,
+                reconciledAt
+        );
+    }
+
+    // Counter rows are locked before the source tables are read, so a writer either committed
+    // before the recount (and is included) or applies its delta on top of the corrected value.
+    // Missing slots are created here, so writers always hit an existing, lockable row.
+    @Scheduled(cron = "${app.dashboard.reconcile-cron:0 */15 * * * *}")
+    @Transactional
+    public void reconcile() {
+        List<DashboardCounter> rows = dashboardCounterRepository.lockAll();
+        Map<String, StatusTotalDTO> totals = sumSlots(rows);
+        Map<String, List<DashboardCounter>> slotsByKey = new HashMap<>();
+        for (DashboardCounter row : rows) {
+            slotsByKey.computeIfAbsent(row.getCounterKey(), key -> new ArrayList<>()).add(row);
+        }
+
+        Map<String, StatusTotalDTO> actual = new HashMap<>();
+        actual.put(USERS, new StatusTotalDTO(USERS, userRepository.count(), BigDecimal.ZERO));
+        actual.put(VEHICLES, new StatusTotalDTO(VEHICLES, vehicleRepository.count(), BigDecimal.ZERO));
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            actual.put(appointmentKey(status), new StatusTotalDTO(status.name(), 0L, BigDecimal.ZERO));
+        }
+        for (StatusTotalDTO total : appointmentRepository.totalsByStatus()) {
+            actual.put(APPOINTMENTS_PREFIX + total.getStatus(), total);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int corrected = 0;
+        for (Map.Entry<String, StatusTotalDTO> entry : actual.entrySet()) {
+            List<DashboardCounter> counterSlots = withAllSlots(entry.getKey(),
+                    slotsByKey.getOrDefault(entry.getKey(), List.of()), now);
+            StatusTotalDTO stored = totals.getOrDefault(entry.getKey(), new StatusTotalDTO(entry.getKey(), 0L, BigDecimal.ZERO));
+            StatusTotalDTO total = entry.getValue();
+            if (!total.getCount().equals(stored.getCount()) || total.getAmount().compareTo(stored.getAmount()) != 0) {
+                log.warn("Dashboard counter {} drifted: {} / {} corrected to {} / {}", entry.getKey(),
+                        stored.getCount(), stored.getAmount(), total.getCount(), total.getAmount());
+                // The whole corrected value goes into the first slot and the others start again from zero
+                for (int i = 0; i < counterSlots.size(); i++) {
+                    DashboardCounter counter = counterSlots.get(i);
+                    counter.setItemCount(i == 0 ? total.getCount() : 0L);
+                    counter.setAmount(i == 0 ? total.getAmount() : BigDecimal.ZERO);
+                    counter.setUpdatedAt(now);
+                }
+                corrected++;
+            }
+            for (DashboardCounter counter : counterSlots) {
+                counter.setReconciledAt(now);
+                dashboardCounterRepository.save(counter);
+            }
+        }
+        log.debug("Reconciled {} dashboard counters, {} corrected", actual.size(), corrected);
+    }
+
+    private Map<String, StatusTotalDTO> sumSlots(List<DashboardCounter> rows) {
+        Map<String, StatusTotalDTO> totals = new HashMap<>();
+        for (DashboardCounter row : rows) {
+            totals.merge(row.getCounterKey(),
+                    new StatusTotalDTO(row.getCounterKey(), row.getItemCount(), row.getAmount()),
+                    (left, right) -> new StatusTotalDTO(left.getStatus(),
+                            left.getCount() + right.getCount(), left.getAmount().add(right.getAmount())));
+        }
+        return totals;
+    }
+
+    // The key's slot rows in slot order, with any of slots 0..n-1 that do not exist yet created empty
+    private List<DashboardCounter> withAllSlots(String key, List<DashboardCounter> existing, LocalDateTime now) {
+        Map<Short, DashboardCounter> bySlot = new TreeMap<>();
+        for (DashboardCounter counter : existing) {
+            bySlot.put(counter.getSlot(), counter);
+        }
+        for (short slot = 0; slot < slots; slot++) {
+            if (!bySlot.containsKey(slot)) {
+                DashboardCounter counter = new DashboardCounter();
+                counter.setCounterKey(key);
+                counter.setSlot(slot);
+                counter.setItemCount(0L);
+                counter.setAmount(BigDecimal.ZERO);
+                counter.setUpdatedAt(now);
+                bySlot.put(slot, counter);
+            }
+        }
+        return new ArrayList<>(bySlot.values());
+    }
+
+    private long countOf(StatusTotalDTO total) {
+        return total != null ? total.getCount() : 0L;
+    }
+}
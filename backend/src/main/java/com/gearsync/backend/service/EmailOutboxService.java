@@ -0,0 +1,134 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailOutbox.OutboxStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.mail.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    public record EmailQueuedEvent(Long outboxId) {
+    }
+
+    // Joins the caller's transaction so the message is only delivered if the business change commits
+    @Transactional
+    public void enqueue(String to, String subject, String htmlContent) {
+        EmailOutbox saved = emailOutboxRepository.save(new EmailOutbox(to, subject, htmlContent));
+        eventPublisher.publishEvent(new EmailQueuedEvent(saved.getId()));
+        afterCommit(() -> meterRegistry.counter("gearsync.mail.outbox.enqueued").increment());
+    }
+
+    // Marks up to {@code limit} due rows as SENDING under a lease so a crashed worker's rows are picked up again later.
+    // Claiming does not use up an attempt: only markFailed counts one, so a crash between claim and send costs nothing.
+    @Transactional
+    public List<EmailOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = emailOutboxRepository.lockDueBatch(now, limit);
+        for (EmailOutbox email : batch) {
+            email.setStatus(OutboxStatus.SENDING);
+            email.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+        }
+        return batch;
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        emailOutboxRepository.findById(id).ifPresent(email -> {
+            finish(email, OutboxStatus.SENT);
+            email.setSentAt(email.getFinishedAt());
+            email.setLastError(null);
+            countDelivery("sent");
+        });
+    }
+
+    @Transactional
+    public void markFailed(Long id, Exception error) {
+        emailOutboxRepository.findById(id).ifPresent(email -> {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+            if (email.getAttempts() >= maxAttempts) {
+                finish(email, OutboxStatus.DEAD);
+                log.error("Email {} to {} dead-lettered after {} attempts: {}",
+                        id, email.getRecipient(), email.getAttempts(), error.getMessage());
+                countDelivery("dead");
+                return;
+            }
+            email.setStatus(OutboxStatus.PENDING);
+            email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+            log.warn("Email {} attempt {} failed, retrying at {}: {}",
+                    id, email.getAttempts(), email.getNextAttemptAt(), error.getMessage());
+            countDelivery("retry");
+        });
+    }
+
+    @Transactional
+    public int purgeFinishedBefore(OutboxStatus status, LocalDateTime before) {
+        return emailOutboxRepository.deleteFinishedBefore(status, before);
+    }
+
+    // Bodies may hold temporary passwords or one-time codes; once nothing will send the row again it only needs its headers
+    private void finish(EmailOutbox email, OutboxStatus status) {
+        email.setStatus(status);
+        email.setFinishedAt(LocalDateTime.now());
+        email.setBody("");
+    }
+
+    // One delivery attempt per count: sent, failed and queued for a retry, or failed for the last time
+    private void countDelivery(String outcome) {
+        afterCommit(() -> meterRegistry.counter("gearsync.mail.outbox.deliveries", "outcome", outcome).increment());
+    }
+
+    // Counters follow committed rows only, so a rolled-back enqueue or status change is never counted
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
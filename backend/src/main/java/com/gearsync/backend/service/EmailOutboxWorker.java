@@ -0,0 +1,128 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailOutbox.OutboxStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains {@code email_outbox} on a bounded pool. Rows are claimed only up to the number of free
+ * delivery slots, so a slow SMTP server backs mail up in the table rather than in memory or in
+ * request threads.
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailService emailService;
+    private final TaskExecutor executor;
+    private final Semaphore slots;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeupQueued = new AtomicBoolean();
+
+    @Value("${app.mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.mail.outbox.dead-retention-days:14}")
+    private int deadRetentionDays;
+
+    public EmailOutboxWorker(EmailOutboxService emailOutboxService,
+                             EmailService emailService,
+                             @Qualifier("emailOutboxExecutor") TaskExecutor executor,
+                             @Value("${app.mail.outbox.workers:4}") int workers) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailService = emailService;
+        this.executor = executor;
+        this.slots = new Semaphore(workers);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmailQueued(EmailOutboxService.EmailQueuedEvent event) {
+        // Coalesce wake-ups so a burst of commits queues a single drain
+        if (!wakeupQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                wakeupQueued.set(false);
+                drain();
+            });
+        } catch (TaskRejectedException e) {
+            wakeupQueued.set(false);
+            log.debug("Email outbox wake-up rejected, next poll will pick the message up");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(cron = "${app.mail.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeFinished() {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = emailOutboxService.purgeFinishedBefore(OutboxStatus.SENT, now.minusDays(retentionDays));
+        int dead = emailOutboxService.purgeFinishedBefore(OutboxStatus.DEAD, now.minusDays(deadRetentionDays));
+        if (sent + dead > 0) {
+            log.info("Purged {} delivered and {} dead-lettered emails from outbox", sent, dead);
+        }
+    }
+
+    void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (true) {
+                int free = slots.availablePermits();
+                if (free == 0) {
+                    return;
+                }
+                List<EmailOutbox> batch = emailOutboxService.claimDue(Math.min(free, batchSize));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (EmailOutbox email : batch) {
+                    slots.acquireUninterruptibly();
+                    try {
+                        executor.execute(() -> deliver(email));
+                    } catch (TaskRejectedException e) {
+                        // Row stays SENDING and is retried once its lease expires
+                        slots.release();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Email outbox drain failed", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void deliver(EmailOutbox email) {
+        try {
+            emailService.deliver(email.getRecipient(), email.getSubject(), email.getBody());
+            emailOutboxService.markSent(email.getId());
+        } catch (Exception e) {
+            emailOutboxService.markFailed(email.getId(), e);
+        } finally {
+            slots.release();
+        }
+    }
+}
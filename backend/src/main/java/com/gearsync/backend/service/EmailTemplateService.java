@@ -0,0 +1,86 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.util.EmailTemplate;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads every {@code templates/email/*.html} resource once at startup and renders them into a
+ * per-thread buffer that is reused across sends.
+ */
+@Service
+public class EmailTemplateService {
+
+    public static final String APPOINTMENT_CONFIRMATION = "appointment-confirmation";
+    public static final String CUSTOMER_WELCOME = "customer-welcome";
+    public static final String EMPLOYEE_WELCOME = "employee-welcome";
+    public static final String PASSWORD_CHANGED = "password-changed";
+    public static final String PASSWORD_RESET_OTP = "password-reset-otp";
+    public static final String PROJECT_CONFIRMATION = "project-confirmation";
+
+    private static final String TEMPLATE_PATTERN = "classpath*:templates/email/*.html";
+    // Buffers that grew past this (an unusually large render) are dropped rather than pinned to the thread
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<String, EmailTemplate> templates;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    public EmailTemplateService() {
+        this.templates = loadTemplates();
+        for (String required : new String[]{APPOINTMENT_CONFIRMATION, CUSTOMER_WELCOME, EMPLOYEE_WELCOME,
+                PASSWORD_CHANGED, PASSWORD_RESET_OTP, PROJECT_CONFIRMATION}) {
+            if (!templates.containsKey(required)) {
+                throw new IllegalStateException("Missing email template: templates/email/" + required + ".html");
+            }
+        }
+    }
+
+    public String render(String templateName, Map<String, ?> model) {
+        EmailTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        try {
+            template.renderTo(buffer, model);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                buffers.remove();
+            }
+        }
+    }
+
+    public EmailTemplate getTemplate(String templateName) {
+        return templates.get(templateName);
+    }
+
+    private static Map<String, EmailTemplate> loadTemplates() {
+        Map<String, EmailTemplate> loaded = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_PATTERN)) {
+                String fileName = resource.getFilename();
+                if (fileName == null) {
+                    continue;
+                }
+                String name = fileName.substring(0, fileName.length() - ".html".length());
+                try (InputStream in = resource.getInputStream()) {
+                    String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    loaded.put(name, EmailTemplate.compile(name, source));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates", e);
+        }
+        return Map.copyOf(loaded);
+    }
+}
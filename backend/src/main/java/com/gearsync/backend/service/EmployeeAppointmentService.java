@@ -2,6 +2,7 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -20,6 +20,10 @@ public class EmployeeAppointmentService {
 
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
+    private final AppointmentMapper appointmentMapper;
 
     private static final Set<String> ALLOWED_EMPLOYEE_STATUSES = new HashSet<>(
             Arrays.asList("IN_PROGRESS", "COMPLETED", "ON_HOLD")
@@ -27,60 +31,36 @@ public class EmployeeAppointmentService {
 
 
     @Transactional(readOnly = true)
-    public List<AppointmentResponseDTO> getMyAssignedAppointments(String employeeEmail) {
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only employees can access this endpoint");
-        }
-
-        List<Appointment> appointments = appointmentRepository.findByAssignedEmployeeId(employee.getId());
+    public List<AppointmentResponseDTO> getMyAssignedAppointments(Long employeeId) {
+        List<Appointment> appointments = appointmentRepository.findByAssignedEmployeeId(employeeId);
 
         return appointments.stream()
                 .map(appointment -> {
                     List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-                    return convertToResponseDTO(appointment, services);
+                    return appointmentMapper.toResponseDTO(appointment, services);
                 })
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public AppointmentResponseDTO getAppointmentDetails(String employeeEmail, Long appointmentId) {
+    public AppointmentResponseDTO getAppointmentDetails(Long employeeId, Long appointmentId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdAndAssignedEmployeeId(appointmentId, employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
 
-
-        if (appointment.getAssignedEmployee() == null ||
-                !appointment.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This appointment is not assigned to you");
-        }
-
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(appointment, services);
+        return appointmentMapper.toResponseDTO(appointment, services);
     }
 
     @Transactional
     public AppointmentResponseDTO updateAppointmentStatus(
-            String employeeEmail,
+            Long employeeId,
             Long appointmentId,
             EmployeeStatusUpdateDTO request) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findByIdAndAssignedEmployeeId(appointmentId, employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
 
-        if (appointment.getAssignedEmployee() == null ||
-                !appointment.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This appointment is not assigned to you");
-        }
-
         String newStatus = request.getStatus().toUpperCase();
         if (!ALLOWED_EMPLOYEE_STATUSES.contains(newStatus)) {
             throw new IllegalArgumentException(
@@ -124,79 +104,20 @@ public class EmployeeAppointmentService {
             appointment.setProgressPercentage(request.getProgressPercentage());
         }
 
-        if (request.getNotes() != null && !request.getNotes().isEmpty()) {
-            String existingNotes = appointment.getEmployeeNotes() != null ?
-                    appointment.getEmployeeNotes() : "";
-            String timestamp = LocalDateTime.now().toString();
-            String newNote = String.format("[%s] %s: %s", timestamp, employee.getFirstName(), request.getNotes());
-
-            appointment.setEmployeeNotes(
-                    existingNotes.isEmpty() ? newNote : existingNotes + "\n" + newNote
-            );
+        Appointment updated = appointmentRepository.saveAndFlush(appointment);
+        if (hasNotes(request)) {
+            noteService.appendToAppointment(appointmentId, employeeId, Note.NoteType.EMPLOYEE, request.getNotes());
         }
-
-        Appointment updated = appointmentRepository.save(appointment);
+        // The note itself lives in the notes log; the timeline only records the status change
+        serviceProgressService.recordAppointmentStatus(updated, "Status changed to " + targetStatus);
+        notificationService.publishAppointmentProgress(updated);
 
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
 
-    private AppointmentResponseDTO convertToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
-
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
-
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-        return dto;
+    private boolean hasNotes(EmployeeStatusUpdateDTO request) {
+        return request.getNotes() != null && !request.getNotes().isBlank();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.ProjectMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -21,65 +22,46 @@ public class EmployeeProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ServiceProgressService serviceProgressService;
+    private final NoteService noteService;
+    private final ProjectMapper projectMapper;
 
     private static final Set<String> ALLOWED_EMPLOYEE_STATUSES = new HashSet<>(
             Arrays.asList("IN_PROGRESS", "COMPLETED", "ON_HOLD")
     );
 
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getMyAssignedProjects(String employeeEmail) {
+    public List<ProjectResponseDTO> getMyAssignedProjects(Long employeeId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
-            throw new UnauthorizedException("Only employees can access this endpoint");
-        }
-
-        List<Project> projects = projectRepository.findByAssignedEmployeeId(employee.getId());
+        List<Project> projects = projectRepository.findByAssignedEmployeeId(employeeId);
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
 
     @Transactional(readOnly = true)
-    public ProjectResponseDTO getProjectDetails(String employeeEmail, Long projectId) {
-
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+    public ProjectResponseDTO getProjectDetails(Long employeeId, Long projectId) {
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndAssignedEmployeeId(projectId, employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        if (project.getAssignedEmployee() == null ||
-                !project.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This project is not assigned to you");
-        }
-
-        return convertToResponseDTO(project);
+        return projectMapper.toResponseDTO(project);
     }
 
 
     @Transactional
     public ProjectResponseDTO updateProjectStatus(
-            String employeeEmail,
+            Long employeeId,
             Long projectId,
             EmployeeStatusUpdateDTO request) {
 
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndAssignedEmployeeId(projectId, employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        if (project.getAssignedEmployee() == null ||
-                !project.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This project is not assigned to you");
-        }
-
         String newStatus = request.getStatus().toUpperCase();
         if (!ALLOWED_EMPLOYEE_STATUSES.contains(newStatus)) {
             throw new IllegalArgumentException(
@@ -131,59 +113,18 @@ public class EmployeeProjectService {
             project.setProgressPercentage(request.getProgressPercentage());
         }
 
-        if (request.getNotes() != null && !request.getNotes().isEmpty()) {
-            String existingDescription = project.getDescription() != null ?
-                    project.getDescription() : "";
-            String timestamp = LocalDateTime.now().toString();
-            String newNote = String.format("\n\n[%s] Employee Update - %s: %s",
-                    timestamp, employee.getFirstName(), request.getNotes());
-
-            project.setDescription(existingDescription + newNote);
+        Project updated = projectRepository.saveAndFlush(project);
+        if (hasNotes(request)) {
+            noteService.appendToProject(projectId, employeeId, Note.NoteType.EMPLOYEE, request.getNotes());
         }
-
-        Project updated = projectRepository.save(project);
-        return convertToResponseDTO(updated);
+        // The note itself lives in the notes log; the timeline only records the status change
+        serviceProgressService.recordProjectStatus(updated, "Status changed to " + targetStatus);
+        notificationService.publishProjectProgress(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
-    private ProjectResponseDTO convertToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
+    private boolean hasNotes(EmployeeStatusUpdateDTO request) {
+        return request.getNotes() != null && !request.getNotes().isBlank();
     }
 }
\ No newline at end of file
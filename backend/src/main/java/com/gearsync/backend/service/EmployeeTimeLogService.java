@@ -2,30 +2,67 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.TimeLogMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeTimeLogService {
 
+    private static final int TIME_LOG_LOCK_NAMESPACE = 0x544C4F47;
+
+    // Logs clipped to the range, then merged into islands: a log starts a new island when it begins
+    // after every earlier log has ended
+    private static final String TIMESHEET = """
+            WITH clipped AS (
+                SELECT GREATEST(start_time, :from) AS start_time, LEAST(end_time, :to) AS end_time
+                FROM time_logs
+                WHERE employee_id = :employeeId AND start_time < :to AND end_time > :from
+            ), ordered AS (
+                SELECT start_time, end_time,
+                       max(end_time) OVER (ORDER BY start_time, end_time
+                                           ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING) AS previous_end
+                FROM clipped
+            ), islands AS (
+                SELECT start_time, end_time,
+                       sum(CASE WHEN previous_end IS NULL OR start_time > previous_end THEN 1 ELSE 0 END)
+                           OVER (ORDER BY start_time, end_time ROWS UNBOUNDED PRECEDING) AS island
+                FROM ordered
+            )
+            SELECT min(start_time) AS start_time, max(end_time) AS end_time, count(*) AS log_count,
+                   CAST(sum(EXTRACT(EPOCH FROM end_time - start_time)) / 60 AS BIGINT) AS logged_minutes
+            FROM islands
+            GROUP BY island
+            ORDER BY start_time
+            """;
+
     private final TimeLogRepository timeLogRepository;
     private final AppointmentRepository appointmentRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TimeLogMapper timeLogMapper;
 
     @Transactional
-    public TimeLogResponseDTO createTimeLog(String employeeEmail, TimeLogRequestDTO request) {
+    public TimeLogResponseDTO createTimeLog(Long employeeId, TimeLogRequestDTO request) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
+        User employee = userRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
 
         if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
@@ -48,6 +85,7 @@ public class EmployeeTimeLogService {
             throw new IllegalArgumentException("End time cannot be in the future");
         }
 
+        assertNoOverlap(employeeId, request.getStartTime(), request.getEndTime(), null);
 
         TimeLog timeLog = new TimeLog();
         timeLog.setEmployee(employee);
@@ -60,106 +98,99 @@ public class EmployeeTimeLogService {
         timeLog.setDurationMinutes((int) minutes);
 
         if (request.getAppointmentId() != null) {
-            Appointment appointment = appointmentRepository.findById(request.getAppointmentId())
+            Appointment appointment = appointmentRepository
+                    .findByIdAndAssignedEmployeeId(request.getAppointmentId(), employeeId)
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Appointment not found with ID: " + request.getAppointmentId()
                     ));
-
-            if (appointment.getAssignedEmployee() == null ||
-                    !appointment.getAssignedEmployee().getId().equals(employee.getId())) {
-                throw new UnauthorizedException("This appointment is not assigned to you");
-            }
             if(appointment.getScheduledDateTime().isBefore(request.getStartTime())){
                 throw new IllegalArgumentException("Cannot log time for an appointment that has not yet occurred");
             }
 
             timeLog.setAppointment(appointment);
         } else {
-            Project project = projectRepository.findById(request.getProjectId())
+            Project project = projectRepository
+                    .findByIdAndAssignedEmployeeId(request.getProjectId(), employeeId)
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Project not found with ID: " + request.getProjectId()
                     ));
 
-            if (project.getAssignedEmployee() == null ||
-                    !project.getAssignedEmployee().getId().equals(employee.getId())) {
-                throw new UnauthorizedException("This project is not assigned to you");
-            }
-
             timeLog.setProject(project);
         }
 
         TimeLog savedTimeLog = timeLogRepository.save(timeLog);
-        return convertToResponseDTO(savedTimeLog);
+        return timeLogMapper.toResponseDTO(savedTimeLog);
     }
 
     @Transactional(readOnly = true)
-    public List<TimeLogResponseDTO> getTimeLogsForAppointment(String employeeEmail, Long appointmentId) {
+    public List<TimeLogResponseDTO> getTimeLogsForAppointment(Long employeeId, Long appointmentId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
-
-        if (appointment.getAssignedEmployee() == null ||
-                !appointment.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This appointment is not assigned to you");
+        if (!appointmentRepository.existsByIdAndAssignedEmployeeId(appointmentId, employeeId)) {
+            throw new ResourceNotFoundException("Appointment not found");
         }
 
-        List<TimeLog> timeLogs = timeLogRepository.findByAppointmentId(appointmentId);
+        List<TimeLog> timeLogs = timeLogRepository.findDetailedByAppointmentId(appointmentId);
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<TimeLogResponseDTO> getTimeLogsForProject(String employeeEmail, Long projectId) {
-
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+    public List<TimeLogResponseDTO> getTimeLogsForProject(Long employeeId, Long projectId) {
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-
-        if (project.getAssignedEmployee() == null ||
-                !project.getAssignedEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("This project is not assigned to you");
+        if (!projectRepository.existsByIdAndAssignedEmployeeId(projectId, employeeId)) {
+            throw new ResourceNotFoundException("Project not found");
         }
 
-        List<TimeLog> timeLogs = timeLogRepository.findByProjectId(projectId);
+        List<TimeLog> timeLogs = timeLogRepository.findDetailedByProjectId(projectId);
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<TimeLogResponseDTO> getMyTimeLogs(String employeeEmail) {
-
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+    public List<TimeLogResponseDTO> getMyTimeLogs(Long employeeId) {
 
-        List<TimeLog> timeLogs = timeLogRepository.findByEmployeeId(employee.getId());
+        List<TimeLog> timeLogs = timeLogRepository.findByEmployeeId(employeeId);
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
 
-    @Transactional
-    public TimeLogResponseDTO updateTimeLog(String employeeEmail, Long timeLogId, TimeLogUpdateDTO request) {
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TimeLogResponseDTO> getMyTimeLogsPage(
+            Long employeeId,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit) {
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<TimeLog> rows = timeLogRepository.findEmployeePage(
+                employeeId,
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
+
+        return KeysetCursor.toPage(rows, pageSize,
+                TimeLog::getStartTime, TimeLog::getId, timeLogMapper::toResponseDTO);
+    }
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
 
-        TimeLog timeLog = timeLogRepository.findById(timeLogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
+    @Transactional
+    public TimeLogResponseDTO updateTimeLog(Long employeeId, Long timeLogId, TimeLogUpdateDTO request) {
 
-        if (!timeLog.getEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("You can only edit your own time logs");
-        }
+        TimeLog timeLog = timeLogRepository.findByIdAndEmployeeId(timeLogId, employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
 
         boolean isUpdated = false;
 
@@ -183,6 +214,10 @@ public class EmployeeTimeLogService {
             throw new IllegalArgumentException("End time must be after start time");
         }
 
+        if (request.getStartTime() != null || request.getEndTime() != null) {
+            assertNoOverlap(employeeId, timeLog.getStartTime(), timeLog.getEndTime(), timeLogId);
+        }
+
         long minutes = Duration.between(timeLog.getStartTime(), timeLog.getEndTime()).toMinutes();
         timeLog.setDurationMinutes((int) minutes);
 
@@ -203,59 +238,54 @@ public class EmployeeTimeLogService {
 
         TimeLog updated = timeLogRepository.save(timeLog);
 
-        return convertToResponseDTO(updated);
+        return timeLogMapper.toResponseDTO(updated);
     }
 
 
-    @Transactional
-    public void deleteTimeLog(String employeeEmail, Long timeLogId) {
-
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-
-        TimeLog timeLog = timeLogRepository.findById(timeLogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
+    // Worked intervals over whole days [from, to], with overlapping logs merged so no minute counts twice
+    @Transactional(readOnly = true)
+    public TimesheetDTO getTimesheet(Long employeeId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
 
-        if (!timeLog.getEmployee().getId().equals(employee.getId())) {
-            throw new UnauthorizedException("You can only delete your own time logs");
+        MapSqlParameterSource params = new MapSqlParameterSource("employeeId", employeeId)
+                .addValue("from", from.atStartOfDay())
+                .addValue("to", to.plusDays(1).atStartOfDay());
+        List<TimesheetIntervalDTO> intervals = new ArrayList<>();
+        long loggedMinutes = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList(TIMESHEET, params)) {
+            LocalDateTime start = ((Timestamp) row.get("start_time")).toLocalDateTime();
+            LocalDateTime end = ((Timestamp) row.get("end_time")).toLocalDateTime();
+            intervals.add(new TimesheetIntervalDTO(start, end, Duration.between(start, end).toMinutes(),
+                    ((Number) row.get("log_count")).longValue()));
+            loggedMinutes += ((Number) row.get("logged_minutes")).longValue();
         }
 
-        timeLogRepository.delete(timeLog);
+        long totalMinutes = intervals.stream().mapToLong(TimesheetIntervalDTO::getMinutes).sum();
+        return new TimesheetDTO(employeeId, from, to, totalMinutes, loggedMinutes, intervals);
     }
 
+    @Transactional
+    public void deleteTimeLog(Long employeeId, Long timeLogId) {
 
-    private TimeLogResponseDTO convertToResponseDTO(TimeLog timeLog) {
-        TimeLogResponseDTO dto = new TimeLogResponseDTO();
-        dto.setId(timeLog.getId());
-        dto.setStartTime(timeLog.getStartTime());
-        dto.setEndTime(timeLog.getEndTime());
-        dto.setDurationMinutes(timeLog.getDurationMinutes());
-        dto.setWorkDescription(timeLog.getWorkDescription());
-        dto.setNotes(timeLog.getNotes());
-
-        User employee = timeLog.getEmployee();
-        dto.setEmployeeId(employee.getId());
-        dto.setEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-        dto.setEmployeeEmail(employee.getEmail());
-
-        if (timeLog.getAppointment() != null) {
-            Appointment appointment = timeLog.getAppointment();
-            dto.setAppointmentId(appointment.getId());
-            dto.setAppointmentDescription(
-                    "Appointment #" + appointment.getId() + " - " +
-                            appointment.getVehicle().getRegistrationNumber()
-            );
-        }
+        TimeLog timeLog = timeLogRepository.findByIdAndEmployeeId(timeLogId, employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
 
-        if (timeLog.getProject() != null) {
-            Project project = timeLog.getProject();
-            dto.setProjectId(project.getId());
-            dto.setProjectName(project.getProjectName());
-        }
+        timeLogRepository.delete(timeLog);
+    }
 
-        dto.setCreatedAt(timeLog.getCreatedAt());
-        dto.setUpdatedAt(timeLog.getUpdatedAt());
 
-        return dto;
+    // The per-employee lock stops two concurrent requests from both passing the check
+    private void assertNoOverlap(Long employeeId, LocalDateTime start, LocalDateTime end, Long excludedId) {
+        jdbcTemplate.getJdbcTemplate().queryForList(
+                "SELECT pg_advisory_xact_lock(?, ?)", TIME_LOG_LOCK_NAMESPACE, employeeId.intValue());
+        timeLogRepository.findOverlapping(employeeId, start, end, excludedId).ifPresent(existing -> {
+            throw new IllegalStateException("Time log overlaps your existing entry from "
+                    + existing.getStartTime() + " to " + existing.getEndTime());
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.CursorPageDTO;
+import com.gearsync.backend.dto.NoteDTO;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.model.Note;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.NoteRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Append-only notes for appointments and projects. Adding a note is a single insert that only
+ * references its appointment or project, so the cost stays the same however many notes a job
+ * collects, and project descriptions keep only what the customer wrote.
+ */
+@Service
+@RequiredArgsConstructor
+public class NoteService {
+
+    private final NoteRepository noteRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    // Used by the workflow services, which have already loaded and checked the appointment
+    @Transactional
+    public Note appendToAppointment(Long appointmentId, Long authorId, Note.NoteType type, String body) {
+        Note note = newNote(authorId, type, body);
+        note.setAppointment(appointmentRepository.getReferenceById(appointmentId));
+        return noteRepository.save(note);
+    }
+
+    @Transactional
+    public Note appendToProject(Long projectId, Long authorId, Note.NoteType type, String body) {
+        Note note = newNote(authorId, type, body);
+        note.setProject(projectRepository.getReferenceById(projectId));
+        return noteRepository.save(note);
+    }
+
+    @Transactional
+    public NoteDTO addAppointmentNote(Long userId, Role role, Long appointmentId, String body) {
+        if (!appointmentRepository.isVisibleTo(appointmentId, userId, role)) {
+            throw new ResourceNotFoundException("Appointment not found with ID: " + appointmentId);
+        }
+        return convertToDTO(appendToAppointment(appointmentId, userId, typeOf(role), body));
+    }
+
+    @Transactional
+    public NoteDTO addProjectNote(Long userId, Role role, Long projectId, String body) {
+        if (!projectRepository.isVisibleTo(projectId, userId, role)) {
+            throw new ResourceNotFoundException("Project not found with ID: " + projectId);
+        }
+        return convertToDTO(appendToProject(projectId, userId, typeOf(role), body));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NoteDTO> getAppointmentNotes(Long userId, Role role, Long appointmentId, String cursor, Integer limit) {
+        if (!appointmentRepository.isVisibleTo(appointmentId, userId, role)) {
+            throw new ResourceNotFoundException("Appointment not found with ID: " + appointmentId);
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<NoteDTO> rows = noteRepository.findAppointmentPage(
+                appointmentId,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
+
+        return KeysetCursor.toPage(rows, pageSize, NoteDTO::getCreatedAt, NoteDTO::getId, Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NoteDTO> getProjectNotes(Long userId, Role role, Long projectId, String cursor, Integer limit) {
+        if (!projectRepository.isVisibleTo(projectId, userId, role)) {
+            throw new ResourceNotFoundException("Project not found with ID: " + projectId);
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<NoteDTO> rows = noteRepository.findProjectPage(
+                projectId,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
+
+        return KeysetCursor.toPage(rows, pageSize, NoteDTO::getCreatedAt, NoteDTO::getId, Function.identity());
+    }
+
+    private Note newNote(Long authorId, Note.NoteType type, String body) {
+        Note note = new Note();
+        note.setAuthor(userRepository.getReferenceById(authorId));
+        note.setType(type);
+        note.setBody(body.trim());
+        return note;
+    }
+
+    private Note.NoteType typeOf(Role role) {
+        return switch (role) {
+            case ADMIN -> Note.NoteType.ADMIN;
+            case EMPLOYEE -> Note.NoteType.EMPLOYEE;
+            case CUSTOMER -> Note.NoteType.CUSTOMER;
+        };
+    }
+
+    private NoteDTO convertToDTO(Note note) {
+        User author = note.getAuthor();
+        return new NoteDTO(
+                note.getId(),
+                note.getType().name(),
+                note.getBody(),
+                author.getId(),
+                author.getFirstName() + " " + author.getLastName(),
+                note.getCreatedAt()
+        );
+    }
+}
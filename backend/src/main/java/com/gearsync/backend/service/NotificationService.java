@@ -1,5 +1,47 @@
 package com.gearsync.backend.service;
 
+import com.gearsync.backend.dto.ProgressUpdateDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.Project;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Publishes progress changes to WebSocket subscribers. Updates are raised as events and pushed
+ * only after the surrounding transaction commits, so clients never see a change that rolled back.
+ */
+@Service
+@RequiredArgsConstructor
 public class NotificationService {
-    
+
+    public static final String APPOINTMENT_TOPIC_PREFIX = "appointment:";
+    public static final String PROJECT_TOPIC_PREFIX = "project:";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publishAppointmentProgress(Appointment appointment) {
+        String topic = APPOINTMENT_TOPIC_PREFIX + appointment.getId();
+        eventPublisher.publishEvent(new ProgressUpdatedEvent(new ProgressUpdateDTO(
+                topic,
+                appointment.getId(),
+                appointment.getStatus().name(),
+                appointment.getProgressPercentage(),
+                appointment.getUpdatedAt()
+        )));
+    }
+
+    public void publishProjectProgress(Project project) {
+        String topic = PROJECT_TOPIC_PREFIX + project.getId();
+        eventPublisher.publishEvent(new ProgressUpdatedEvent(new ProgressUpdateDTO(
+                topic,
+                project.getId(),
+                project.getStatus().name(),
+                project.getProgressPercentage(),
+                project.getUpdatedAt()
+        )));
+    }
+
+    public record ProgressUpdatedEvent(ProgressUpdateDTO update) {
+    }
 }
@@ -27,9 +27,9 @@ public class PasswordManagementService {
 
 
     @Transactional
-    public void changePassword(String email, ChangePasswordRequestDTO request) {
+    public void changePassword(Long userId, ChangePasswordRequestDTO request) {
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
@@ -52,7 +52,7 @@ public class PasswordManagementService {
         userRepository.save(user);
 
         String userName = user.getFirstName() + " " + user.getLastName();
-        emailService.sendPasswordChangedConfirmation(email, userName);
+        emailService.sendPasswordChangedConfirmation(user.getEmail(), userName);
 
     }
 
@@ -2,14 +2,19 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.ProjectMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,25 +25,19 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
+    private final NoteService noteService;
+    private final ProjectMapper projectMapper;
 
 
     @Transactional
-    public ProjectResponseDTO createProject(String customerEmail, ProjectRequestDTO request) {
+    public ProjectResponseDTO createProject(Long customerId, ProjectRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        // Only reachable under /api/customer/**, so the caller is an active customer
+        User customer = userRepository.getReferenceById(customerId);
 
-        if (customer.getRole() != Role.CUSTOMER) {
-            throw new UnauthorizedException("Only customers can create project requests");
-        }
-
-        Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
+        Vehicle vehicle = vehicleRepository.findByIdAndOwnerId(request.getVehicleId(), customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found with ID: " + request.getVehicleId()));
 
-        if (!vehicle.getOwner().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only create projects for your own vehicles");
-        }
-
 
         Project project = new Project();
         project.setCustomer(customer);
@@ -50,73 +49,87 @@ public class ProjectService {
         project.setEstimatedCost(java.math.BigDecimal.ZERO);
         project.setEstimatedDurationHours(0);
 
-        if (request.getAdditionalNotes() != null && !request.getAdditionalNotes().isEmpty()) {
-            project.setDescription(project.getDescription() + "\n\nAdditional Notes: " + request.getAdditionalNotes().trim());
-        }
-
         Project savedProject = projectRepository.save(project);
+        if (hasAdditionalNotes(request.getAdditionalNotes())) {
+            noteService.appendToProject(savedProject.getId(), customerId, Note.NoteType.CUSTOMER, request.getAdditionalNotes());
+        }
 
-        return convertToResponseDTO(savedProject);
+        return projectMapper.toResponseDTO(savedProject);
     }
 
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getMyProjects(String customerEmail) {
+    public List<ProjectResponseDTO> getMyProjects(Long customerId) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
-
-        List<Project> projects = projectRepository.findByCustomerId(customer.getId());
+        List<Project> projects = projectRepository.findByCustomerId(customerId);
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getMyActiveProjects(String customerEmail) {
+    public CursorPageDTO<ProjectResponseDTO> getMyProjectsPage(
+            Long customerId,
+            String status,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit) {
+
+        Set<ProjectStatus> statuses;
+        if (status == null || status.isBlank()) {
+            statuses = EnumSet.allOf(ProjectStatus.class);
+        } else {
+            try {
+                statuses = EnumSet.of(ProjectStatus.valueOf(status.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status);
+            }
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+
+        List<Project> rows = projectRepository.findCustomerPage(
+                customerId,
+                statuses,
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                position.getTime(),
+                position.getId(),
+                KeysetCursor.window(pageSize)
+        );
+
+        return KeysetCursor.toPage(rows, pageSize,
+                Project::getCreatedAt, Project::getId, projectMapper::toResponseDTO);
+    }
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> getMyActiveProjects(Long customerId) {
 
-        List<Project> projects = projectRepository.findActiveProjectsByCustomer(customer.getId());
+        List<Project> projects = projectRepository.findActiveProjectsByCustomer(customerId);
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public ProjectResponseDTO getProjectById(String userEmail, Long projectId) {
+    public ProjectResponseDTO getProjectById(Long customerId, Long projectId) {
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndCustomerId(projectId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        if (user.getRole() == Role.CUSTOMER) {
-            if (!project.getCustomer().getId().equals(user.getId())) {
-                throw new UnauthorizedException("You don't have permission to view this project");
-            }
-        }
-
-        return convertToResponseDTO(project);
+        return projectMapper.toResponseDTO(project);
     }
 
 
     @Transactional
-    public ProjectResponseDTO updateProject(String customerEmail, Long projectId, ProjectUpdateRequestDTO request) {
-
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+    public ProjectResponseDTO updateProject(Long customerId, Long projectId, ProjectUpdateRequestDTO request) {
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndCustomerId(projectId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        if (!project.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only update your own projects");
-        }
-
         if (project.getStatus() != ProjectStatus.PENDING &&
                 project.getStatus() != ProjectStatus.REJECTED) {
             throw new IllegalStateException(
@@ -133,16 +146,12 @@ public class ProjectService {
         }
 
         if (request.getDescription() != null && !request.getDescription().isEmpty()) {
-            String newDescription = request.getDescription().trim();
-
-            if (request.getAdditionalNotes() != null && !request.getAdditionalNotes().isEmpty()) {
-                newDescription += "\n\nAdditional Notes: " + request.getAdditionalNotes().trim();
-            }
-
-            project.setDescription(newDescription);
+            project.setDescription(request.getDescription().trim());
             isUpdated = true;
-        } else if (request.getAdditionalNotes() != null) {
-            project.setDescription(project.getDescription() + "\n\nAdditional Notes: " + request.getAdditionalNotes().trim());
+        }
+
+        if (hasAdditionalNotes(request.getAdditionalNotes())) {
+            noteService.appendToProject(projectId, customerId, Note.NoteType.CUSTOMER, request.getAdditionalNotes());
             isUpdated = true;
         }
         if (!isUpdated) {
@@ -155,23 +164,16 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
-        return convertToResponseDTO(updatedProject);
+        return projectMapper.toResponseDTO(updatedProject);
     }
 
     @Transactional
-    public void deleteProject(String customerEmail, Long projectId) {
-        log.info("Deleting project {} for customer: {}", projectId, customerEmail);
-
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+    public void deleteProject(Long customerId, Long projectId) {
+        log.info("Deleting project {} for customer: {}", projectId, customerId);
 
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findByIdAndCustomerId(projectId, customerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
 
-        if (!project.getCustomer().getId().equals(customer.getId())) {
-            throw new UnauthorizedException("You can only delete your own projects");
-        }
-
         if (project.getStatus() == ProjectStatus.IN_PROGRESS) {
             throw new IllegalStateException(
                     "Cannot delete a project that is currently in progress. " +
@@ -195,46 +197,8 @@ public class ProjectService {
         projectRepository.delete(project);
     }
 
-
-    private ProjectResponseDTO convertToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
+    private boolean hasAdditionalNotes(String additionalNotes) {
+        return additionalNotes != null && !additionalNotes.isBlank();
     }
 
     private String capitalizeWords(String input) {
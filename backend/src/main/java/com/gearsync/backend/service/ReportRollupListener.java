@@ -0,0 +1,181 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.TimeLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Records in {@code report_dirty_days} every day whose rollups an appointment or time log write
+ * changes, in the same transaction as the write. Updates that move a row to another day mark
+ * both the old and the new day.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportRollupListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener {
+
+    // DO UPDATE rather than DO NOTHING: it locks an existing row, so a writer that meets a day being
+    // claimed by a refresh waits for it and then inserts the day again instead of treating it as dirty
+    private static final String MARK_DIRTY =
+            "INSERT INTO report_dirty_days (day) VALUES (?) ON CONFLICT (day) DO UPDATE SET day = EXCLUDED.day";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Positions in the entity state arrays, resolved once at startup
+    private int appointmentStatus;
+    private int appointmentFinalCost;
+    private int appointmentScheduled;
+    private int appointmentActualEnd;
+    private int timeLogStart;
+    private int timeLogMinutes;
+    private int timeLogEmployee;
+
+    @PostConstruct
+    public void register() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister appointment = sessionFactory.getMappingMetamodel().getEntityDescriptor(Appointment.class);
+        appointmentStatus = position(appointment, "status");
+        appointmentFinalCost = position(appointment, "finalCost");
+        appointmentScheduled = position(appointment, "scheduledDateTime");
+        appointmentActualEnd = position(appointment, "actualEndTime");
+        EntityPersister timeLog = sessionFactory.getMappingMetamodel().getEntityDescriptor(TimeLog.class);
+        timeLogStart = position(timeLog, "startTime");
+        timeLogMinutes = position(timeLog, "durationMinutes");
+        timeLogEmployee = position(timeLog, "employee");
+
+        EventListenerRegistry registry = sessionFactory
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        collectDays(days, event.getEntity());
+        mark(days);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        collectDays(days, event.getEntity());
+        mark(days);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        Object[] oldState = event.getOldState();
+        if (!(entity instanceof Appointment) && !(entity instanceof TimeLog)) {
+            return;
+        }
+
+        SortedSet<LocalDate> days = new TreeSet<>();
+        collectDays(days, entity);
+        if (oldState == null) {
+            // Without the previous state only the current day can be marked
+            mark(days);
+            return;
+        }
+
+        if (entity instanceof Appointment appointment) {
+            AppointmentStatus oldStatus = (AppointmentStatus) oldState[appointmentStatus];
+            BigDecimal oldCost = (BigDecimal) oldState[appointmentFinalCost];
+            LocalDateTime oldScheduled = (LocalDateTime) oldState[appointmentScheduled];
+            LocalDateTime oldEnd = (LocalDateTime) oldState[appointmentActualEnd];
+            if (oldStatus == appointment.getStatus()
+                    && Objects.equals(oldCost, appointment.getFinalCost())
+                    && Objects.equals(oldScheduled, appointment.getScheduledDateTime())
+                    && Objects.equals(oldEnd, appointment.getActualEndTime())) {
+                return;
+            }
+            days.add(oldScheduled.toLocalDate());
+            days.add((oldEnd != null ? oldEnd : oldScheduled).toLocalDate());
+        } else {
+            TimeLog timeLog = (TimeLog) entity;
+            LocalDateTime oldStart = (LocalDateTime) oldState[timeLogStart];
+            Integer oldMinutes = (Integer) oldState[timeLogMinutes];
+            Object oldEmployee = oldState[timeLogEmployee];
+            if (Objects.equals(oldStart, timeLog.getStartTime())
+                    && Objects.equals(oldMinutes, timeLog.getDurationMinutes())
+                    && oldEmployee == timeLog.getEmployee()) {
+                return;
+            }
+            days.add(oldStart.toLocalDate());
+        }
+        mark(days);
+    }
+
+    // Changing an appointment's services moves its category counts
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onServicesChanged(event.getAffectedOwnerOrNull());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onServicesChanged(event.getAffectedOwnerOrNull());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static int position(EntityPersister persister, String attribute) {
+        return persister.findAttributeMapping(attribute).getStateArrayPosition();
+    }
+
+    private void onServicesChanged(Object owner) {
+        if (owner instanceof Appointment appointment && appointment.getScheduledDateTime() != null) {
+            mark(new TreeSet<>(List.of(appointment.getScheduledDateTime().toLocalDate())));
+        }
+    }
+
+    private void collectDays(SortedSet<LocalDate> days, Object entity) {
+        if (entity instanceof Appointment appointment) {
+            days.add(appointment.getScheduledDateTime().toLocalDate());
+            if (appointment.getActualEndTime() != null) {
+                days.add(appointment.getActualEndTime().toLocalDate());
+            }
+        } else if (entity instanceof TimeLog timeLog) {
+            days.add(timeLog.getStartTime().toLocalDate());
+        }
+    }
+
+    // Days are written in order so concurrent writers lock dirty-day rows in the same order
+    private void mark(SortedSet<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(days.size());
+        for (LocalDate day : days) {
+            rows.add(new Object[]{day});
+        }
+        jdbcTemplate.batchUpdate(MARK_DIRTY, rows);
+    }
+}
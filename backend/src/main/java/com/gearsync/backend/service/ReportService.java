@@ -0,0 +1,178 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.CategoryVolumeDTO;
+import com.gearsync.backend.dto.LabourReportDTO;
+import com.gearsync.backend.dto.RevenueReportDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Revenue, category volume and labour reports served from the daily rollup tables, so a report
+ * over years of history reads one row per day rather than every appointment and time log.
+ * {@link ReportRollupListener} marks the days each write touches; {@link #refreshDirtyDays()}
+ * recomputes only those days.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private static final String CLAIM_DIRTY_DAYS = "DELETE FROM report_dirty_days RETURNING day";
+
+    private static final String[] RECOMPUTE_DAYS = {
+            "DELETE FROM report_daily_revenue WHERE day IN (:days)",
+            """
+            INSERT INTO report_daily_revenue (day, completed_count, revenue)
+            SELECT CAST(COALESCE(actual_end_time, scheduled_date_time) AS DATE), count(*), COALESCE(sum(final_cost), 0)
+            FROM appointments
+            WHERE status = 'COMPLETED'
+            AND CAST(COALESCE(actual_end_time, scheduled_date_time) AS DATE) IN (:days)
+            GROUP BY 1
+            """,
+            "DELETE FROM report_daily_category WHERE day IN (:days)",
+            """
+            INSERT INTO report_daily_category (day, category, appointment_count)
+            SELECT CAST(a.scheduled_date_time AS DATE), s.category, count(DISTINCT a.id)
+            FROM appointments a
+            JOIN appointment_services aps ON aps.appointment_id = a.id
+            JOIN services s ON s.id = aps.service_id
+            WHERE a.status NOT IN ('CANCELLED', 'NO_SHOW')
+            AND CAST(a.scheduled_date_time AS DATE) IN (:days)
+            GROUP BY 1, 2
+            """,
+            "DELETE FROM report_daily_labour WHERE day IN (:days)",
+            """
+            INSERT INTO report_daily_labour (day, employee_id, minutes, log_count)
+            SELECT CAST(start_time AS DATE), employee_id, sum(duration_minutes), count(*)
+            FROM time_logs
+            WHERE CAST(start_time AS DATE) IN (:days)
+            GROUP BY 1, 2
+            """
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH
+    }
+
+    // Writers that touch a claimed day after this point wait on the deleted row and mark it dirty
+    // again once this transaction commits, so no change is lost between refreshes
+    @Scheduled(fixedDelayString = "${app.reports.refresh-interval-ms:60000}")
+    @Transactional
+    public void refreshDirtyDays() {
+        List<LocalDate> days = jdbcTemplate.queryForList(CLAIM_DIRTY_DAYS, Map.of(), LocalDate.class);
+        if (days.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("days", days);
+        for (String statement : RECOMPUTE_DAYS) {
+            jdbcTemplate.update(statement, params);
+        }
+        log.debug("Recomputed report rollups for {} days", days.size());
+    }
+
+    // For writes made outside the application; the next refresh rebuilds the range
+    @Transactional
+    public int markRangeDirty(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return jdbcTemplate.update("""
+                INSERT INTO report_dirty_days (day)
+                SELECT CAST(d AS DATE) FROM generate_series(CAST(:from AS DATE), CAST(:to AS DATE), INTERVAL '1 day') AS d
+                ON CONFLICT (day) DO NOTHING
+                """, new MapSqlParameterSource("from", from).addValue("to", to));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueReportDTO> getRevenue(LocalDate from, LocalDate to, String granularity) {
+        return jdbcTemplate.query("""
+                SELECT CAST(date_trunc(:unit, CAST(day AS TIMESTAMP)) AS DATE) AS period,
+                       sum(completed_count) AS completed_count, sum(revenue) AS revenue
+                FROM report_daily_revenue
+                WHERE day BETWEEN :from AND :to
+                GROUP BY period
+                ORDER BY period
+                """,
+                rangeParams(from, to, granularity),
+                (rs, rowNum) -> new RevenueReportDTO(
+                        rs.getObject("period", LocalDate.class),
+                        rs.getLong("completed_count"),
+                        rs.getBigDecimal("revenue")));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryVolumeDTO> getCategoryVolume(LocalDate from, LocalDate to, String granularity) {
+        return jdbcTemplate.query("""
+                SELECT CAST(date_trunc(:unit, CAST(day AS TIMESTAMP)) AS DATE) AS period,
+                       category, sum(appointment_count) AS appointment_count
+                FROM report_daily_category
+                WHERE day BETWEEN :from AND :to
+                GROUP BY period, category
+                ORDER BY period, category
+                """,
+                rangeParams(from, to, granularity),
+                (rs, rowNum) -> new CategoryVolumeDTO(
+                        rs.getObject("period", LocalDate.class),
+                        rs.getString("category"),
+                        rs.getLong("appointment_count")));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LabourReportDTO> getLabour(LocalDate from, LocalDate to, String granularity) {
+        return jdbcTemplate.query("""
+                SELECT CAST(date_trunc(:unit, CAST(l.day AS TIMESTAMP)) AS DATE) AS period,
+                       l.employee_id, u.first_name || ' ' || u.last_name AS employee_name,
+                       sum(l.minutes) AS minutes, sum(l.log_count) AS log_count
+                FROM report_daily_labour l
+                JOIN users u ON u.id = l.employee_id
+                WHERE l.day BETWEEN :from AND :to
+                GROUP BY period, l.employee_id, u.first_name, u.last_name
+                ORDER BY period, minutes DESC
+                """,
+                rangeParams(from, to, granularity),
+                (rs, rowNum) -> new LabourReportDTO(
+                        rs.getObject("period", LocalDate.class),
+                        rs.getLong("employee_id"),
+                        rs.getString("employee_name"),
+                        rs.getLong("minutes"),
+                        rs.getLong("log_count")));
+    }
+
+    private MapSqlParameterSource rangeParams(LocalDate from, LocalDate to, String granularity) {
+        validateRange(from, to);
+        return new MapSqlParameterSource("from", from)
+                .addValue("to", to)
+                .addValue("unit", parseGranularity(granularity).name().toLowerCase());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
+    private Granularity parseGranularity(String granularity) {
+        if (granularity == null || granularity.isBlank()) {
+            return Granularity.DAY;
+        }
+        try {
+            return Granularity.valueOf(granularity.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid granularity: " + granularity + " (expected DAY, WEEK or MONTH)");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.BookedIntervalDTO;
+import com.gearsync.backend.exception.ScheduleConflictException;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.repository.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Rejects bookings and assignments that would put an employee or a vehicle in two appointments at
+ * once. Appointments are confined to one business day, so a check only reads that employee's or
+ * vehicle's bookings for the day through an index, however full the rest of the calendar is. The
+ * day's booking lock is taken first, so two concurrent changes cannot both pass the check.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleConflictService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AvailabilityService availabilityService;
+
+    // Assigning an employee to an existing appointment, for the appointment's own window
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertEmployeeFree(Long employeeId, Appointment appointment) {
+        assertEmployeeFree(employeeId, appointment.getScheduledDateTime(),
+                availabilityService.durationOf(appointment.getAppointmentServices()), appointment.getId());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertEmployeeFree(Long employeeId, LocalDateTime start, int durationMinutes, Long excludedAppointmentId) {
+        findEmployeeConflict(employeeId, start, durationMinutes, excludedAppointmentId).ifPresent(conflict -> {
+            throw new ScheduleConflictException("Employee is already assigned to appointment " + conflict.getAppointmentId()
+                    + " from " + conflict.getStart() + " to " + endOf(conflict));
+        });
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean isEmployeeFree(Long employeeId, LocalDateTime start, int durationMinutes, Long excludedAppointmentId) {
+        return findEmployeeConflict(employeeId, start, durationMinutes, excludedAppointmentId).isEmpty();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertVehicleFree(Long vehicleId, LocalDateTime start, int durationMinutes, Long excludedAppointmentId) {
+        availabilityService.lockDay(start.toLocalDate());
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        List<BookedIntervalDTO> booked = appointmentRepository.findVehicleIntervals(
+                vehicleId, start.toLocalDate().atStartOfDay(), end, AvailabilityService.NON_BLOCKING_STATUSES);
+
+        findOverlap(booked, start, end, excludedAppointmentId).ifPresent(conflict -> {
+            throw new ScheduleConflictException("This vehicle is already booked for appointment " + conflict.getAppointmentId()
+                    + " from " + conflict.getStart() + " to " + endOf(conflict));
+        });
+    }
+
+    private Optional<BookedIntervalDTO> findEmployeeConflict(Long employeeId, LocalDateTime start,
+                                                             int durationMinutes, Long excludedAppointmentId) {
+        availabilityService.lockDay(start.toLocalDate());
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        List<BookedIntervalDTO> booked = appointmentRepository.findEmployeeIntervals(
+                employeeId, start.toLocalDate().atStartOfDay(), end, AvailabilityService.NON_BLOCKING_STATUSES);
+        return findOverlap(booked, start, end, excludedAppointmentId);
+    }
+
+    // Half-open intervals: one appointment may start the minute another ends
+    private Optional<BookedIntervalDTO> findOverlap(List<BookedIntervalDTO> booked, LocalDateTime start,
+                                                    LocalDateTime end, Long excludedAppointmentId) {
+        return booked.stream()
+                .filter(interval -> !interval.getAppointmentId().equals(excludedAppointmentId))
+                .filter(interval -> interval.getStart().isBefore(end) && endOf(interval).isAfter(start))
+                .findFirst();
+    }
+
+    private LocalDateTime endOf(BookedIntervalDTO interval) {
+        return interval.getStart().plusMinutes(interval.getDurationMinutes());
+    }
+}
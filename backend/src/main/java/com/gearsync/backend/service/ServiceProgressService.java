@@ -0,0 +1,174 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.ProgressEntryDTO;
+import com.gearsync.backend.dto.ProgressEntryRequestDTO;
+import com.gearsync.backend.dto.ProgressTimelineDTO;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.model.*;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.ServiceProgressRepository;
+import com.gearsync.backend.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Append-only progress timeline for appointments and projects. Readers pass the last id they
+ * have seen as {@code after} and only receive newer entries, so refreshing a long timeline costs
+ * the same as refreshing a short one.
+ */
+@Service
+@RequiredArgsConstructor
+public class ServiceProgressService {
+
+    private final ServiceProgressRepository serviceProgressRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ProjectRepository projectRepository;
+    private final NotificationService notificationService;
+
+    @Transactional
+    public ProgressEntryDTO addAppointmentEntry(Long employeeId, Long appointmentId, ProgressEntryRequestDTO request) {
+        Appointment appointment = appointmentRepository.findByIdAndAssignedEmployeeId(appointmentId, employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
+
+        ServiceProgress entry = newEntry(appointment.getAssignedEmployee(), request);
+        entry.setAppointment(appointment);
+        ServiceProgress saved = serviceProgressRepository.save(entry);
+
+        appointment.setProgressPercentage(request.getProgressPercentage());
+        notificationService.publishAppointmentProgress(appointmentRepository.saveAndFlush(appointment));
+        return convertToDTO(saved);
+    }
+
+    @Transactional
+    public ProgressEntryDTO addProjectEntry(Long employeeId, Long projectId, ProgressEntryRequestDTO request) {
+        Project project = projectRepository.findByIdAndAssignedEmployeeId(projectId, employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
+
+        ServiceProgress entry = newEntry(project.getAssignedEmployee(), request);
+        entry.setProject(project);
+        ServiceProgress saved = serviceProgressRepository.save(entry);
+
+        project.setProgressPercentage(request.getProgressPercentage());
+        notificationService.publishProjectProgress(projectRepository.saveAndFlush(project));
+        return convertToDTO(saved);
+    }
+
+    // Status changes made through the employee status endpoints are recorded on the timeline as well;
+    // a status the timeline has no step for is not recorded
+    @Transactional
+    public void recordAppointmentStatus(Appointment appointment, String message) {
+        ServiceProgress.ProgressStatus status = progressStatusOf(appointment.getStatus());
+        if (status == null) {
+            return;
+        }
+        ServiceProgress entry = new ServiceProgress();
+        entry.setAppointment(appointment);
+        entry.setUpdatedByEmployee(appointment.getAssignedEmployee());
+        entry.setStatus(status);
+        entry.setProgressPercentage(appointment.getProgressPercentage());
+        entry.setMessage(message);
+        serviceProgressRepository.save(entry);
+    }
+
+    @Transactional
+    public void recordProjectStatus(Project project, String message) {
+        ServiceProgress.ProgressStatus status = progressStatusOf(project.getStatus());
+        if (status == null) {
+            return;
+        }
+        ServiceProgress entry = new ServiceProgress();
+        entry.setProject(project);
+        entry.setUpdatedByEmployee(project.getAssignedEmployee());
+        entry.setStatus(status);
+        entry.setProgressPercentage(project.getProgressPercentage());
+        entry.setMessage(message);
+        serviceProgressRepository.save(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public ProgressTimelineDTO getAppointmentTimeline(Long userId, Role role, Long appointmentId, Long after, Integer limit) {
+        if (!appointmentRepository.isVisibleTo(appointmentId, userId, role)) {
+            throw new ResourceNotFoundException("Appointment not found with ID: " + appointmentId);
+        }
+
+        long afterId = resolveAfter(after);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+        return toTimeline(serviceProgressRepository.findAppointmentTimeline(
+                appointmentId, afterId, KeysetCursor.window(pageSize)), afterId, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public ProgressTimelineDTO getProjectTimeline(Long userId, Role role, Long projectId, Long after, Integer limit) {
+        if (!projectRepository.isVisibleTo(projectId, userId, role)) {
+            throw new ResourceNotFoundException("Project not found with ID: " + projectId);
+        }
+
+        long afterId = resolveAfter(after);
+        int pageSize = KeysetCursor.resolveLimit(limit);
+        return toTimeline(serviceProgressRepository.findProjectTimeline(
+                projectId, afterId, KeysetCursor.window(pageSize)), afterId, pageSize);
+    }
+
+    // Exhaustive switches, so a status added to either enum fails the build until it is mapped here
+    private static ServiceProgress.ProgressStatus progressStatusOf(AppointmentStatus status) {
+        return switch (status) {
+            case IN_PROGRESS -> ServiceProgress.ProgressStatus.IN_PROGRESS;
+            case ON_HOLD -> ServiceProgress.ProgressStatus.ON_HOLD;
+            case COMPLETED -> ServiceProgress.ProgressStatus.COMPLETED;
+            case SCHEDULED, CONFIRMED, RESCHEDULED, CANCELLED, NO_SHOW -> null;
+        };
+    }
+
+    private static ServiceProgress.ProgressStatus progressStatusOf(ProjectStatus status) {
+        return switch (status) {
+            case IN_PROGRESS -> ServiceProgress.ProgressStatus.IN_PROGRESS;
+            case ON_HOLD -> ServiceProgress.ProgressStatus.ON_HOLD;
+            case COMPLETED -> ServiceProgress.ProgressStatus.COMPLETED;
+            case PENDING, APPROVED, CANCELLED, REJECTED -> null;
+        };
+    }
+
+    private long resolveAfter(Long after) {
+        if (after == null) {
+            return 0L;
+        }
+        if (after < 0) {
+            throw new IllegalArgumentException("after must not be negative");
+        }
+        return after;
+    }
+
+    private ProgressTimelineDTO toTimeline(List<ProgressEntryDTO> rows, long afterId, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<ProgressEntryDTO> items = hasMore ? rows.subList(0, limit) : rows;
+        Long lastId = items.isEmpty() ? afterId : items.get(items.size() - 1).getId();
+        return new ProgressTimelineDTO(items, lastId, hasMore);
+    }
+
+    private ServiceProgress newEntry(User employee, ProgressEntryRequestDTO request) {
+        ServiceProgress entry = new ServiceProgress();
+        entry.setUpdatedByEmployee(employee);
+        entry.setStatus(ServiceProgress.ProgressStatus.valueOf(request.getStatus()));
+        entry.setProgressPercentage(request.getProgressPercentage());
+        entry.setMessage(request.getMessage().trim());
+        entry.setTechnicalNotes(request.getTechnicalNotes() != null ? request.getTechnicalNotes().trim() : null);
+        return entry;
+    }
+
+    private ProgressEntryDTO convertToDTO(ServiceProgress entry) {
+        User employee = entry.getUpdatedByEmployee();
+        return new ProgressEntryDTO(
+                entry.getId(),
+                entry.getStatus().name(),
+                entry.getProgressPercentage(),
+                entry.getMessage(),
+                entry.getTechnicalNotes(),
+                employee.getFirstName() + " " + employee.getLastName(),
+                entry.getTimestamp()
+        );
+    }
+}
@@ -0,0 +1,177 @@
+package com.gearsync.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a few connected and authenticated SMTP sessions open so consecutive outbox deliveries
+ * skip the TCP + STARTTLS + AUTH handshake. A session is retired after a fixed number of
+ * messages or when it has sat idle too long, and dropped as soon as it reports an error.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    private final int maxIdleConnections;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMillis;
+
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter connectionsOpened;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.mail.smtp.pool-size:4}") int maxIdleConnections,
+                             @Value("${app.mail.smtp.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                             @Value("${app.mail.smtp.max-idle-seconds:60}") long maxIdleSeconds) {
+        this.mailSender = mailSender;
+        this.maxIdleConnections = maxIdleConnections;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = TimeUnit.SECONDS.toMillis(maxIdleSeconds);
+
+        this.sendSuccess = Timer.builder("gearsync.mail.smtp.send")
+                .description("Time to hand one message to the SMTP server")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("gearsync.mail.smtp.send")
+                .description("Time to hand one message to the SMTP server")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.connectionsOpened = Counter.builder("gearsync.mail.smtp.connections.opened")
+                .description("SMTP sessions established (connect + STARTTLS + AUTH)")
+                .register(meterRegistry);
+        Gauge.builder("gearsync.mail.smtp.connections.open", open, AtomicInteger::get)
+                .description("SMTP sessions currently connected")
+                .register(meterRegistry);
+        Gauge.builder("gearsync.mail.smtp.connections.idle", idle, BlockingDeque::size)
+                .description("Connected SMTP sessions waiting in the pool")
+                .register(meterRegistry);
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+        long start = System.nanoTime();
+        PooledTransport pooled = null;
+        try {
+            pooled = borrow();
+            // Same header handling as JavaMailSenderImpl.doSend
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            String messageId = message.getMessageID();
+            message.saveChanges();
+            if (messageId != null) {
+                message.setHeader("Message-ID", messageId);
+            }
+            Address[] recipients = message.getAllRecipients();
+            pooled.transport.sendMessage(message, recipients != null ? recipients : new Address[0]);
+            pooled.messagesSent++;
+            release(pooled);
+            sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (MessagingException | RuntimeException e) {
+            // The session state is unknown after a failure, so never hand it out again
+            if (pooled != null) {
+                close(pooled);
+            }
+            sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.smtp.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (now - pooled.lastUsed > maxIdleMillis && idle.removeFirstOccurrence(pooled)) {
+                close(pooled);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        // Most recently used first: it is the one least likely to have been dropped by the server
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooled.lastUsed <= maxIdleMillis && pooled.transport.isConnected()) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        return connect();
+    }
+
+    private void release(PooledTransport pooled) {
+        pooled.lastUsed = System.currentTimeMillis();
+        if (pooled.messagesSent >= maxMessagesPerConnection) {
+            close(pooled);
+            return;
+        }
+        idle.offerFirst(pooled);
+        // Keep at most maxIdleConnections warm; the least recently used goes first
+        PooledTransport surplus;
+        while (idle.size() > maxIdleConnections && (surplus = idle.pollLast()) != null) {
+            close(surplus);
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        open.incrementAndGet();
+        connectionsOpened.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP session: {}", e.getMessage());
+        } finally {
+            open.decrementAndGet();
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messagesSent;
+        private long lastUsed = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -5,12 +5,12 @@ import com.gearsync.backend.dto.VehicleResponseDTO;
 import com.gearsync.backend.exception.UserNotFoundException;
 import com.gearsync.backend.exception.VehicleAlreadyExistsException;
 import com.gearsync.backend.exception.VehicleNotFoundException;
+import com.gearsync.backend.mapper.VehicleMapper;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.model.Vehicle;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,41 +23,36 @@ public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final VehicleMapper vehicleMapper;
 
-    public List<Vehicle> listMyVehicles(String email) {
-        User me = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-        return vehicleRepository.findByOwner(me);
+    public List<Vehicle> listMyVehicles(Long ownerId) {
+        return vehicleRepository.findByOwnerId(ownerId);
     }
 
-    public Vehicle getMyVehicle(String email, Long id) {
-        User me = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
-        Vehicle v = vehicleRepository.findById(id).orElseThrow(() -> new RuntimeException("Vehicle not found"));
-        if (!v.getOwner().getId().equals(me.getId())) throw new RuntimeException("Forbidden");
-        return v;
+    public Vehicle getMyVehicle(Long ownerId, Long id) {
+        return vehicleRepository.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found"));
     }
 
     @Transactional
-    public VehicleResponseDTO addMyVehicle(String email, VehicleRequestDTO payload) {
-        User me = userRepository.findByEmail(email)
+    public VehicleResponseDTO addMyVehicle(Long ownerId, VehicleRequestDTO payload) {
+        User me = userRepository.findById(ownerId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
         if (vehicleRepository.existsByRegistrationNumber(payload.getRegistrationNumber())) {
             throw new VehicleAlreadyExistsException(
                     "Vehicle with registration number " + payload.getRegistrationNumber() + " already exists");
         }
-        Vehicle vehicle = modelMapper.map(payload, Vehicle.class);
+        Vehicle vehicle = vehicleMapper.fromRequest(payload);
         vehicle.setOwner(me);
         Vehicle savedVehicle = vehicleRepository.save(vehicle);
-        VehicleResponseDTO response = modelMapper.map(savedVehicle, VehicleResponseDTO.class);
-        response.setOwnerEmail(me.getEmail());
-        return response;
+        return vehicleMapper.toResponseDTO(savedVehicle);
     }
 
 
 
     @Transactional
-    public Vehicle updateMyVehicle(String email, Long id, VehicleRequestDTO update) {
-        Vehicle existing = getMyVehicle(email, id);
+    public Vehicle updateMyVehicle(Long ownerId, Long id, VehicleRequestDTO update) {
+        Vehicle existing = getMyVehicle(ownerId, id);
         if (update.getMake() != null) existing.setMake(update.getMake());
         if (update.getModel() != null) existing.setModel(update.getModel());
         if (update.getColor() != null) existing.setColor(update.getColor());
@@ -69,12 +64,8 @@ public class VehicleService {
     }
 
     @Transactional
-    public void deleteMyVehicle(String email, Long id) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-        Vehicle vehicle = vehicleRepository.findById(id)
-                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found"));
-        vehicleRepository.delete(vehicle);
+    public void deleteMyVehicle(Long ownerId, Long id) {
+        vehicleRepository.delete(getMyVehicle(ownerId, id));
     }
 
 
@@ -1,5 +1,7 @@
 package com.gearsync.backend.util;
 
 public class Constants {
-    
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
 }
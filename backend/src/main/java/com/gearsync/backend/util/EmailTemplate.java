@@ -0,0 +1,110 @@
+package com.gearsync.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An HTML template split once into literal text and {@code {{name}}} placeholders.
+ * Rendering only appends the precomputed literals and the HTML-escaped model values,
+ * so there is no per-send parsing of the template source.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    // literals.length == keys.length + 1; output is literals[0] keys[0] literals[1] ... literals[n]
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private EmailTemplate(String name, String[] literals, String[] keys) {
+        this.name = name;
+        this.literals = literals;
+        this.keys = keys;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at offset " + open);
+            }
+            String key = source.substring(open + OPEN.length(), close).trim();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in template " + name + " at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            keys.add(key);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(name, literals.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> placeholders() {
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, keys);
+        return names;
+    }
+
+    // Literal text plus some headroom for values, used to size the output buffer
+    public int estimatedLength() {
+        return literalLength + keys.length * 32;
+    }
+
+    public void renderTo(StringBuilder out, Map<String, ?> model) {
+        out.ensureCapacity(out.length() + estimatedLength());
+        for (int i = 0; i < keys.length; i++) {
+            out.append(literals[i]);
+            if (!model.containsKey(keys[i])) {
+                throw new IllegalArgumentException("Template " + name + " has no value for {{" + keys[i] + "}}");
+            }
+            Object value = model.get(keys[i]);
+            if (value != null) {
+                appendEscaped(out, value.toString());
+            }
+        }
+        out.append(literals[keys.length]);
+    }
+
+    public static void appendEscaped(StringBuilder out, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+}
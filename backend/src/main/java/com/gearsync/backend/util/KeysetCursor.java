@@ -0,0 +1,93 @@
+package com.gearsync.backend.util;
+
+import com.gearsync.backend.dto.CursorPageDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque position in a list ordered by {@code (timestamp desc, id desc)}.
+ * Repositories compare against it with {@code (t, id) < (:cursorTime, :cursorId)},
+ * so every page is an index range scan no matter how deep the client pages.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    public static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final LocalDateTime time;
+    private final Long id;
+
+    public static KeysetCursor first() {
+        return new KeysetCursor(MAX_TIME, Long.MAX_VALUE);
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return Constants.DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(requested, Constants.MAX_PAGE_SIZE);
+    }
+
+    // One extra row tells us whether another page exists without a COUNT query
+    public static Pageable window(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public static <T, R> CursorPageDTO<R> toPage(
+            List<T> rows,
+            int limit,
+            Function<T, LocalDateTime> timeKey,
+            Function<T, Long> idKey,
+            Function<T, R> mapper) {
+
+        boolean hasMore = rows.size() > limit;
+        List<T> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            T last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(timeKey.apply(last), idKey.apply(last)).encode();
+        }
+
+        List<R> items = pageRows.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gearsync.backend.websocket;
+
+import com.gearsync.backend.security.JwtPrincipal;
+import com.gearsync.backend.security.JwtUtil;
+import com.gearsync.backend.security.UserDetailsImpl;
+import com.gearsync.backend.security.UserDetailsServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * Authenticates the WebSocket upgrade with the same JWT the REST API uses when the client can
+ * send an {@code Authorization} header. Browsers cannot set headers on a handshake, so they
+ * connect without one and send the token in their first message instead (see
+ * {@link ProgressWebSocketHandler}); the token never goes in the URL, where access logs would keep it.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String USER_ATTRIBUTE = "user";
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String authHeader = request.getHeaders().getFirst("Authorization");
+        if (authHeader == null) {
+            return true;
+        }
+
+        UserDetailsImpl user = authHeader.startsWith("Bearer ") ? authenticate(authHeader.substring(7)) : null;
+        if (user == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        attributes.put(USER_ATTRIBUTE, user);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    // Null unless the token is valid and its user still exists and is active
+    UserDetailsImpl authenticate(String token) {
+        JwtPrincipal principal = jwtUtil.verify(token);
+        UserDetailsImpl user = principal != null ? userDetailsService.loadUserByToken(principal) : null;
+        return user != null && user.isEnabled() ? user : null;
+    }
+}
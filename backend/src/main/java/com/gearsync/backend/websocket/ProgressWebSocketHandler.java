@@ -1,5 +1,300 @@
 package com.gearsync.backend.websocket;
 
-public class ProgressWebSocketHandler {
-    
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearsync.backend.dto.ProgressUpdateDTO;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.security.UserDetailsImpl;
+import com.gearsync.backend.security.UserDetailsServiceImpl;
+import com.gearsync.backend.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Progress channel at {@code /ws/progress}. Clients that did not authenticate the handshake first
+ * send {@code {"action":"auth","token":"<jwt>"}}, then
+ * {@code {"action":"subscribe","topic":"appointment:12"}} (or {@code project:<id>},
+ * {@code unsubscribe}) and receive a {@link ProgressUpdateDTO} whenever the appointment or
+ * project changes. Every command re-checks that the user is still active; sessions that have not
+ * authenticated within the auth timeout are closed.
+ *
+ * <p>Every session is wrapped in a {@link ConcurrentWebSocketSessionDecorator}: a client that
+ * stops reading loses its oldest buffered updates once the buffer limit is reached, and is
+ * disconnected if a single send blocks past the time limit.
+ */
+@Slf4j
+@Component
+public class ProgressWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String TOPICS_ATTRIBUTE = "progressTopics";
+    private static final String CONNECTED_AT_ATTRIBUTE = "progressConnectedAt";
+
+    private final AppointmentRepository appointmentRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<WebSocketSession>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${app.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.websocket.send-buffer-size-bytes:65536}")
+    private int sendBufferSizeBytes;
+
+    @Value("${app.websocket.max-subscriptions-per-session:50}")
+    private int maxSubscriptionsPerSession;
+
+    @Value("${app.websocket.max-text-message-bytes:8192}")
+    private int maxTextMessageBytes;
+
+    @Value("${app.websocket.auth-timeout-ms:10000}")
+    private long authTimeoutMs;
+
+    public ProgressWebSocketHandler(AppointmentRepository appointmentRepository,
+                                    ProjectRepository projectRepository,
+                                    ObjectMapper objectMapper,
+                                    JwtHandshakeInterceptor jwtHandshakeInterceptor,
+                                    UserDetailsServiceImpl userDetailsService) {
+        this.appointmentRepository = appointmentRepository;
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // Clients only send small auth/subscribe/unsubscribe commands
+        session.setTextMessageSizeLimit(maxTextMessageBytes);
+        session.getAttributes().put(TOPICS_ATTRIBUTE, ConcurrentHashMap.newKeySet());
+        session.getAttributes().put(CONNECTED_AT_ATTRIBUTE, System.currentTimeMillis());
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimitMs, sendBufferSizeBytes,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession rawSession, TextMessage message) throws IOException {
+        WebSocketSession session = sessions.get(rawSession.getId());
+        if (session == null) {
+            return;
+        }
+
+        SubscriptionRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), SubscriptionRequest.class);
+        } catch (JsonProcessingException e) {
+            reply(session, "ERROR", null, "Malformed message");
+            return;
+        }
+
+        if ("auth".equalsIgnoreCase(request.action())) {
+            authenticate(session, request.token());
+            return;
+        }
+
+        UserDetailsImpl user = activeUser(session);
+        if (user == null) {
+            reply(session, "ERROR", request.topic(), "Not authenticated");
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        if (request.action() == null || request.topic() == null) {
+            reply(session, "ERROR", request.topic(), "Both action and topic are required");
+            return;
+        }
+
+        Set<String> topics = topicsOf(session);
+        switch (request.action().toLowerCase()) {
+            case "subscribe" -> {
+                if (topics.size() >= maxSubscriptionsPerSession && !topics.contains(request.topic())) {
+                    reply(session, "ERROR", request.topic(), "Too many subscriptions");
+                    return;
+                }
+                if (!canSubscribe(user, request.topic())) {
+                    reply(session, "ERROR", request.topic(), "Topic not found");
+                    return;
+                }
+                topics.add(request.topic());
+                subscribers.computeIfAbsent(request.topic(), key -> ConcurrentHashMap.newKeySet()).add(session);
+                reply(session, "SUBSCRIBED", request.topic(), null);
+            }
+            case "unsubscribe" -> {
+                topics.remove(request.topic());
+                removeSubscriber(request.topic(), session);
+                reply(session, "UNSUBSCRIBED", request.topic(), null);
+            }
+            default -> reply(session, "ERROR", request.topic(), "Unknown action: " + request.action());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession rawSession, CloseStatus status) {
+        WebSocketSession session = sessions.remove(rawSession.getId());
+        if (session != null) {
+            for (String topic : topicsOf(session)) {
+                removeSubscriber(topic, session);
+            }
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws IOException {
+        log.debug("Progress socket {} failed: {}", session.getId(), exception.getMessage());
+        session.close(CloseStatus.SERVER_ERROR);
+    }
+
+    // A browser socket is open before its auth message arrives; one that never sends it is not kept around
+    @Scheduled(fixedDelayString = "${app.websocket.auth-timeout-ms:10000}")
+    public void closeUnauthenticated() {
+        long deadline = System.currentTimeMillis() - authTimeoutMs;
+        for (WebSocketSession session : sessions.values()) {
+            if (session.getAttributes().get(JwtHandshakeInterceptor.USER_ATTRIBUTE) == null
+                    && (Long) session.getAttributes().get(CONNECTED_AT_ATTRIBUTE) < deadline) {
+                try {
+                    session.close(CloseStatus.POLICY_VIOLATION);
+                } catch (IOException e) {
+                    log.debug("Could not close unauthenticated progress socket {}: {}", session.getId(), e.getMessage());
+                }
+                afterConnectionClosed(session, CloseStatus.POLICY_VIOLATION);
+            }
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<WebSocketSession> topicSessions = subscribers.get(topic);
+        return topicSessions != null && !topicSessions.isEmpty();
+    }
+
+    public void broadcast(ProgressUpdateDTO update) {
+        Set<WebSocketSession> topicSessions = subscribers.get(update.getTopic());
+        if (topicSessions == null || topicSessions.isEmpty()) {
+            return;
+        }
+
+        // Serialise once and share the frame between all subscribers
+        TextMessage frame;
+        try {
+            frame = new TextMessage(objectMapper.writeValueAsString(Map.of("type", "PROGRESS", "update", update)));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialise progress update for {}", update.getTopic(), e);
+            return;
+        }
+
+        for (WebSocketSession session : topicSessions) {
+            send(session, frame);
+        }
+    }
+
+    private void authenticate(WebSocketSession session, String token) throws IOException {
+        if (session.getAttributes().get(JwtHandshakeInterceptor.USER_ATTRIBUTE) != null) {
+            reply(session, "ERROR", null, "Already authenticated");
+            return;
+        }
+        UserDetailsImpl user = token != null ? jwtHandshakeInterceptor.authenticate(token) : null;
+        if (user == null) {
+            reply(session, "ERROR", null, "Invalid token");
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        session.getAttributes().put(JwtHandshakeInterceptor.USER_ATTRIBUTE, user);
+        reply(session, "AUTHENTICATED", null, null);
+    }
+
+    // The session's user as of now rather than as of the handshake, so a deactivated account can do nothing more
+    private UserDetailsImpl activeUser(WebSocketSession session) {
+        UserDetailsImpl user = (UserDetailsImpl) session.getAttributes().get(JwtHandshakeInterceptor.USER_ATTRIBUTE);
+        if (user == null) {
+            return null;
+        }
+        try {
+            UserDetailsImpl current = userDetailsService.loadUserById(user.getId());
+            return current.isEnabled() ? current : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    // Customers may follow their own jobs, employees the jobs assigned to them; unknown and foreign ids look the same
+    private boolean canSubscribe(UserDetailsImpl user, String topic) {
+        Long id = parseId(topic);
+        if (user == null || id == null) {
+            return false;
+        }
+        return topic.startsWith(NotificationService.APPOINTMENT_TOPIC_PREFIX)
+                ? appointmentRepository.isVisibleTo(id, user.getId(), user.getRole())
+                : projectRepository.isVisibleTo(id, user.getId(), user.getRole());
+    }
+
+    private Long parseId(String topic) {
+        String id;
+        if (topic.startsWith(NotificationService.APPOINTMENT_TOPIC_PREFIX)) {
+            id = topic.substring(NotificationService.APPOINTMENT_TOPIC_PREFIX.length());
+        } else if (topic.startsWith(NotificationService.PROJECT_TOPIC_PREFIX)) {
+            id = topic.substring(NotificationService.PROJECT_TOPIC_PREFIX.length());
+        } else {
+            return null;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void reply(WebSocketSession session, String type, String topic, String message) throws IOException {
+        Map<String, String> body = new HashMap<>(4);
+        body.put("type", type);
+        if (topic != null) {
+            body.put("topic", topic);
+        }
+        if (message != null) {
+            body.put("message", message);
+        }
+        send(session, new TextMessage(objectMapper.writeValueAsString(body)));
+    }
+
+    private void send(WebSocketSession session, TextMessage frame) {
+        try {
+            session.sendMessage(frame);
+        } catch (Exception e) {
+            // The decorator has already closed sessions that exceeded the send time limit
+            log.debug("Dropping progress socket {}: {}", session.getId(), e.getMessage());
+            afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void removeSubscriber(String topic, WebSocketSession session) {
+        subscribers.computeIfPresent(topic, (key, topicSessions) -> {
+            topicSessions.remove(session);
+            return topicSessions.isEmpty() ? null : topicSessions;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> topicsOf(WebSocketSession session) {
+        return (Set<String>) session.getAttributes().get(TOPICS_ATTRIBUTE);
+    }
+
+    private record SubscriptionRequest(String action, String topic, String token) {
+    }
 }
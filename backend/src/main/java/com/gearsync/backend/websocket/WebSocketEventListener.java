@@ -1,5 +1,41 @@
 package com.gearsync.backend.websocket;
 
+import com.gearsync.backend.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands committed progress updates to {@link ProgressWebSocketHandler} on the push executor, so
+ * the request that made the change never waits on a subscriber's socket.
+ */
+@Slf4j
+@Component
 public class WebSocketEventListener {
-    
+
+    private final ProgressWebSocketHandler progressWebSocketHandler;
+    private final TaskExecutor executor;
+
+    public WebSocketEventListener(ProgressWebSocketHandler progressWebSocketHandler,
+                                  @Qualifier("progressPushExecutor") TaskExecutor executor) {
+        this.progressWebSocketHandler = progressWebSocketHandler;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProgressUpdated(NotificationService.ProgressUpdatedEvent event) {
+        if (!progressWebSocketHandler.hasSubscribers(event.update().getTopic())) {
+            return;
+        }
+        try {
+            executor.execute(() -> progressWebSocketHandler.broadcast(event.update()));
+        } catch (TaskRejectedException e) {
+            // Progress is last-value-wins; subscribers catch up on the next update or by re-fetching
+            log.debug("Progress push queue full, dropped update for {}", event.update().getTopic());
+        }
+    }
 }
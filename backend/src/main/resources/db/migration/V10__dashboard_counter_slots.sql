@@ -0,0 +1,14 @@
+-- Each dashboard counter is spread over slot rows that writers pick between and readers sum, so
+-- concurrent bookings and registrations no longer queue on a single row lock per counter.
+-- Slots 1-7 start empty; DashboardCounterService creates more if app.dashboard.counter-slots is raised.
+
+ALTER TABLE dashboard_counters ADD COLUMN slot SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE dashboard_counters DROP CONSTRAINT dashboard_counters_pkey;
+ALTER TABLE dashboard_counters ADD PRIMARY KEY (counter_key, slot);
+ALTER TABLE dashboard_counters ALTER COLUMN slot DROP DEFAULT;
+
+INSERT INTO dashboard_counters (counter_key, slot, item_count, amount, updated_at, reconciled_at)
+SELECT c.counter_key, s.slot, 0, 0, now(), c.reconciled_at
+FROM dashboard_counters c
+CROSS JOIN generate_series(1, 7) AS s (slot)
+WHERE c.slot = 0;
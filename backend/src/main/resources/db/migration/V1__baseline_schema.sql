@@ -0,0 +1,121 @@
+-- Schema as previously produced by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already have these tables are baselined at version 1 and skip this script.
+
+CREATE TABLE users (
+    id                          BIGSERIAL PRIMARY KEY,
+    email                       VARCHAR(255) NOT NULL UNIQUE,
+    password                    VARCHAR(255) NOT NULL,
+    first_name                  VARCHAR(255) NOT NULL,
+    last_name                   VARCHAR(255) NOT NULL,
+    phone_number                VARCHAR(255) NOT NULL,
+    role                        VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'EMPLOYEE', 'CUSTOMER')),
+    is_active                   BOOLEAN      NOT NULL,
+    created_at                  TIMESTAMP(6) NOT NULL,
+    updated_at                  TIMESTAMP(6) NOT NULL,
+    is_first_login              BOOLEAN,
+    is_password_changed         BOOLEAN,
+    password_changed_at         TIMESTAMP(6),
+    last_login_at               TIMESTAMP(6),
+    reset_otp                   VARCHAR(6),
+    otp_expiry                  TIMESTAMP(6),
+    password_reset_token        VARCHAR(255),
+    password_reset_token_expiry TIMESTAMP(6)
+);
+
+CREATE TABLE vehicles (
+    id                  BIGSERIAL PRIMARY KEY,
+    registration_number VARCHAR(255) NOT NULL UNIQUE,
+    make                VARCHAR(255) NOT NULL,
+    model               VARCHAR(255) NOT NULL,
+    year                INTEGER      NOT NULL,
+    color               VARCHAR(255) NOT NULL,
+    vin_number          VARCHAR(255),
+    mileage             INTEGER,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    owner_id            BIGINT       NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE services (
+    id                         BIGSERIAL PRIMARY KEY,
+    service_name               VARCHAR(255)   NOT NULL UNIQUE,
+    description                VARCHAR(1000),
+    base_price                 NUMERIC(38, 2) NOT NULL,
+    estimated_duration_minutes INTEGER        NOT NULL,
+    category                   VARCHAR(255)   NOT NULL CHECK (category IN ('MAINTENANCE', 'REPAIR', 'INSPECTION',
+        'TIRE_SERVICE', 'ELECTRICAL', 'BODYWORK', 'DIAGNOSTIC', 'OTHER')),
+    is_active                  BOOLEAN        NOT NULL,
+    created_at                 TIMESTAMP(6)   NOT NULL,
+    updated_at                 TIMESTAMP(6)   NOT NULL
+);
+
+CREATE TABLE appointments (
+    id                   BIGSERIAL PRIMARY KEY,
+    scheduled_date_time  TIMESTAMP(6) NOT NULL,
+    status               VARCHAR(255) NOT NULL CHECK (status IN ('SCHEDULED', 'CONFIRMED', 'IN_PROGRESS',
+        'COMPLETED', 'CANCELLED', 'NO_SHOW', 'ON_HOLD', 'RESCHEDULED')),
+    customer_notes       VARCHAR(1000),
+    employee_notes       VARCHAR(1000),
+    final_cost           NUMERIC(38, 2),
+    actual_start_time    TIMESTAMP(6),
+    actual_end_time      TIMESTAMP(6),
+    progress_percentage  INTEGER      NOT NULL,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    customer_id          BIGINT       NOT NULL REFERENCES users (id),
+    vehicle_id           BIGINT       NOT NULL REFERENCES vehicles (id),
+    assigned_employee_id BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE appointment_services (
+    appointment_id BIGINT NOT NULL REFERENCES appointments (id),
+    service_id     BIGINT NOT NULL REFERENCES services (id),
+    PRIMARY KEY (appointment_id, service_id)
+);
+
+CREATE TABLE projects (
+    id                       BIGSERIAL PRIMARY KEY,
+    project_name             VARCHAR(255)   NOT NULL,
+    description              VARCHAR(2000)  NOT NULL,
+    status                   VARCHAR(255)   NOT NULL CHECK (status IN ('PENDING', 'APPROVED', 'IN_PROGRESS',
+        'ON_HOLD', 'COMPLETED', 'CANCELLED', 'REJECTED')),
+    estimated_cost           NUMERIC(38, 2) NOT NULL,
+    actual_cost              NUMERIC(38, 2),
+    estimated_duration_hours INTEGER        NOT NULL,
+    start_date               TIMESTAMP(6),
+    completion_date          TIMESTAMP(6),
+    expected_completion_date TIMESTAMP(6),
+    progress_percentage      INTEGER        NOT NULL,
+    created_at               TIMESTAMP(6)   NOT NULL,
+    updated_at               TIMESTAMP(6)   NOT NULL,
+    customer_id              BIGINT         NOT NULL REFERENCES users (id),
+    vehicle_id               BIGINT         NOT NULL REFERENCES vehicles (id),
+    assigned_employee_id     BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE time_logs (
+    id               BIGSERIAL PRIMARY KEY,
+    start_time       TIMESTAMP(6) NOT NULL,
+    end_time         TIMESTAMP(6) NOT NULL,
+    duration_minutes INTEGER      NOT NULL,
+    work_description VARCHAR(1000),
+    notes            VARCHAR(500),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    employee_id      BIGINT       NOT NULL REFERENCES users (id),
+    appointment_id   BIGINT REFERENCES appointments (id),
+    project_id       BIGINT REFERENCES projects (id)
+);
+
+CREATE TABLE service_progress (
+    id                     BIGSERIAL PRIMARY KEY,
+    progress_percentage    INTEGER       NOT NULL,
+    status                 VARCHAR(255)  NOT NULL CHECK (status IN ('STARTED', 'IN_PROGRESS', 'AWAITING_PARTS',
+        'ON_HOLD', 'QUALITY_CHECK', 'COMPLETED', 'ISSUE_FOUND', 'CUSTOMER_APPROVAL_NEEDED')),
+    message                VARCHAR(1000) NOT NULL,
+    technical_notes        VARCHAR(500),
+    timestamp              TIMESTAMP(6)  NOT NULL,
+    updated_by_employee_id BIGINT        NOT NULL REFERENCES users (id),
+    appointment_id         BIGINT REFERENCES appointments (id),
+    project_id             BIGINT REFERENCES projects (id)
+);
@@ -0,0 +1,50 @@
+-- Indexes for the access paths used by the repository finders and list pages.
+
+-- users: role lists and the employee keyset page
+CREATE INDEX IF NOT EXISTS idx_users_role_created ON users (role, created_at DESC, id DESC);
+
+-- vehicles: owner lookups and the admin keyset page
+CREATE INDEX IF NOT EXISTS idx_vehicles_owner ON vehicles (owner_id);
+CREATE INDEX IF NOT EXISTS idx_vehicles_created ON vehicles (created_at DESC, id DESC);
+
+-- appointments
+CREATE INDEX IF NOT EXISTS idx_appointments_created ON appointments (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_appointments_status_created ON appointments (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_appointments_status_scheduled ON appointments (status, scheduled_date_time);
+CREATE INDEX IF NOT EXISTS idx_appointments_scheduled ON appointments (scheduled_date_time);
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_scheduled
+    ON appointments (customer_id, scheduled_date_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_status ON appointments (customer_id, status);
+CREATE INDEX IF NOT EXISTS idx_appointments_employee_scheduled
+    ON appointments (assigned_employee_id, scheduled_date_time)
+    WHERE assigned_employee_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_appointments_vehicle ON appointments (vehicle_id);
+CREATE INDEX IF NOT EXISTS idx_appointments_unassigned
+    ON appointments (status, created_at DESC)
+    WHERE assigned_employee_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_open
+    ON appointments (customer_id, scheduled_date_time)
+    WHERE status NOT IN ('CANCELLED', 'COMPLETED');
+
+CREATE INDEX IF NOT EXISTS idx_appointment_services_service ON appointment_services (service_id);
+
+-- projects
+CREATE INDEX IF NOT EXISTS idx_projects_created ON projects (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_status_created ON projects (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_customer_created ON projects (customer_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_customer_status ON projects (customer_id, status);
+CREATE INDEX IF NOT EXISTS idx_projects_employee
+    ON projects (assigned_employee_id)
+    WHERE assigned_employee_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_projects_vehicle ON projects (vehicle_id);
+CREATE INDEX IF NOT EXISTS idx_projects_customer_active
+    ON projects (customer_id, created_at DESC)
+    WHERE status IN ('PENDING', 'APPROVED', 'IN_PROGRESS', 'ON_HOLD');
+CREATE INDEX IF NOT EXISTS idx_projects_customer_completed
+    ON projects (customer_id, completion_date DESC)
+    WHERE status = 'COMPLETED';
+
+-- time_logs
+CREATE INDEX IF NOT EXISTS idx_time_logs_employee_start ON time_logs (employee_id, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_time_logs_appointment ON time_logs (appointment_id) WHERE appointment_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_time_logs_project ON time_logs (project_id) WHERE project_id IS NOT NULL;
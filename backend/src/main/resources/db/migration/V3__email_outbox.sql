@@ -0,0 +1,17 @@
+-- Outgoing mail is written here in the business transaction and delivered by EmailOutboxWorker.
+
+CREATE TABLE email_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            TEXT          NOT NULL,
+    status          VARCHAR(20)   NOT NULL CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'DEAD')),
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    sent_at         TIMESTAMP(6)
+);
+
+CREATE INDEX idx_email_outbox_due ON email_outbox (next_attempt_at, id) WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX idx_email_outbox_sent ON email_outbox (sent_at) WHERE status = 'SENT';
@@ -0,0 +1,8 @@
+-- Timeline reads fetch entries after a known id for one appointment or project:
+-- WHERE appointment_id = ? AND id > ? ORDER BY id, served as a range scan on these indexes.
+CREATE INDEX IF NOT EXISTS idx_service_progress_appointment
+    ON service_progress (appointment_id, id)
+    WHERE appointment_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_service_progress_project
+    ON service_progress (project_id, id)
+    WHERE project_id IS NOT NULL;
@@ -0,0 +1,16 @@
+-- Append-only note log for appointments and projects. Each note is a single insert, replacing the
+-- notes previously concatenated onto appointments.employee_notes and projects.description.
+
+CREATE TABLE notes (
+    id             BIGSERIAL PRIMARY KEY,
+    appointment_id BIGINT        REFERENCES appointments (id) ON DELETE CASCADE,
+    project_id     BIGINT        REFERENCES projects (id) ON DELETE CASCADE,
+    author_id      BIGINT        NOT NULL REFERENCES users (id),
+    type           VARCHAR(20)   NOT NULL CHECK (type IN ('CUSTOMER', 'EMPLOYEE', 'ADMIN', 'APPROVAL', 'REJECTION', 'ASSIGNMENT')),
+    body           VARCHAR(2000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    CHECK ((appointment_id IS NULL) <> (project_id IS NULL))
+);
+
+CREATE INDEX idx_notes_appointment ON notes (appointment_id, created_at DESC, id DESC) WHERE appointment_id IS NOT NULL;
+CREATE INDEX idx_notes_project ON notes (project_id, created_at DESC, id DESC) WHERE project_id IS NOT NULL;
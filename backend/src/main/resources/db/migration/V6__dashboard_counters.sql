@@ -0,0 +1,21 @@
+-- Admin dashboard totals, kept current by DashboardCounterListener in the same transaction as the
+-- change and periodically re-derived from the source tables by DashboardCounterService.
+
+CREATE TABLE dashboard_counters (
+    counter_key   VARCHAR(64)    PRIMARY KEY,
+    item_count    BIGINT         NOT NULL,
+    amount        NUMERIC(38, 2) NOT NULL,
+    updated_at    TIMESTAMP(6)   NOT NULL,
+    reconciled_at TIMESTAMP(6)
+);
+
+INSERT INTO dashboard_counters (counter_key, item_count, amount, updated_at, reconciled_at)
+SELECT 'users', count(*), 0, now(), now() FROM users
+UNION ALL
+SELECT 'vehicles', count(*), 0, now(), now() FROM vehicles
+UNION ALL
+SELECT 'appointments:' || s.status, count(a.id), coalesce(sum(a.final_cost), 0), now(), now()
+FROM (VALUES ('SCHEDULED'), ('CONFIRMED'), ('IN_PROGRESS'), ('COMPLETED'), ('CANCELLED'),
+             ('NO_SHOW'), ('ON_HOLD'), ('RESCHEDULED')) AS s (status)
+LEFT JOIN appointments a ON a.status = s.status
+GROUP BY s.status;
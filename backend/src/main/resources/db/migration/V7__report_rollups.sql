@@ -0,0 +1,53 @@
+-- Daily rollups behind /api/admin/reports. ReportRollupListener records the days a write touches in
+-- report_dirty_days within the writing transaction; ReportService recomputes only those days.
+
+CREATE TABLE report_daily_revenue (
+    day             DATE           PRIMARY KEY,
+    completed_count BIGINT         NOT NULL,
+    revenue         NUMERIC(38, 2) NOT NULL
+);
+
+CREATE TABLE report_daily_category (
+    day               DATE         NOT NULL,
+    category          VARCHAR(255) NOT NULL,
+    appointment_count BIGINT       NOT NULL,
+    PRIMARY KEY (day, category)
+);
+
+CREATE TABLE report_daily_labour (
+    day         DATE   NOT NULL,
+    employee_id BIGINT NOT NULL REFERENCES users (id),
+    minutes     BIGINT NOT NULL,
+    log_count   BIGINT NOT NULL,
+    PRIMARY KEY (day, employee_id)
+);
+
+CREATE TABLE report_dirty_days (
+    day DATE PRIMARY KEY
+);
+
+-- Day keys the rollups group by, so recomputing a handful of days is an index lookup
+CREATE INDEX idx_appointments_revenue_day
+    ON appointments ((CAST(COALESCE(actual_end_time, scheduled_date_time) AS DATE)))
+    WHERE status = 'COMPLETED';
+CREATE INDEX idx_appointments_scheduled_day ON appointments ((CAST(scheduled_date_time AS DATE)));
+CREATE INDEX idx_time_logs_start_day ON time_logs ((CAST(start_time AS DATE)));
+
+INSERT INTO report_daily_revenue (day, completed_count, revenue)
+SELECT CAST(COALESCE(actual_end_time, scheduled_date_time) AS DATE), count(*), COALESCE(sum(final_cost), 0)
+FROM appointments
+WHERE status = 'COMPLETED'
+GROUP BY 1;
+
+INSERT INTO report_daily_category (day, category, appointment_count)
+SELECT CAST(a.scheduled_date_time AS DATE), s.category, count(DISTINCT a.id)
+FROM appointments a
+JOIN appointment_services aps ON aps.appointment_id = a.id
+JOIN services s ON s.id = aps.service_id
+WHERE a.status NOT IN ('CANCELLED', 'NO_SHOW')
+GROUP BY 1, 2;
+
+INSERT INTO report_daily_labour (day, employee_id, minutes, log_count)
+SELECT CAST(start_time AS DATE), employee_id, sum(duration_minutes), count(*)
+FROM time_logs
+GROUP BY 1, 2;
@@ -0,0 +1,4 @@
+-- Overlap checks read one vehicle's bookings for one day; employee checks use
+-- idx_appointments_employee_scheduled from V2.
+CREATE INDEX IF NOT EXISTS idx_appointments_vehicle_scheduled
+    ON appointments (vehicle_id, scheduled_date_time);
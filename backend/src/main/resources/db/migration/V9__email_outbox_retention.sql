@@ -0,0 +1,12 @@
+-- Outbox bodies can carry temporary passwords and one-time codes, so a row keeps its body only while
+-- it may still be delivered. finished_at stamps SENT and DEAD rows for the purge.
+
+ALTER TABLE email_outbox ADD COLUMN finished_at TIMESTAMP(6);
+
+UPDATE email_outbox
+SET finished_at = COALESCE(sent_at, next_attempt_at),
+    body        = ''
+WHERE status IN ('SENT', 'DEAD');
+
+DROP INDEX idx_email_outbox_sent;
+CREATE INDEX idx_email_outbox_finished ON email_outbox (status, finished_at) WHERE status IN ('SENT', 'DEAD');
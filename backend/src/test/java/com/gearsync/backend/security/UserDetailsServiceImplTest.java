@@ -0,0 +1,79 @@
+package com.gearsync.backend.security;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDetailsServiceImplTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserDetailsServiceImpl service = new UserDetailsServiceImpl(userRepository, 30, 100);
+    private final User user = user(7L, "employee@example.com", true);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokensWithoutUidAreResolvedByEmailOncePerTtl() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        JwtPrincipal legacy = new JwtPrincipal(null, user.getEmail(), "EMPLOYEE", Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.loadUserByToken(legacy).getId()).isEqualTo(7L);
+        }
+
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+        verify(userRepository, never()).findById(7L);
+    }
+
+    @Test
+    void tokenForRenamedAccountIsRejected() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        assertThat(service.loadUserByToken(new JwtPrincipal(7L, "old@example.com", "EMPLOYEE", Instant.now()))).isNull();
+    }
+
+    @Test
+    void evictionWaitsForCommit() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        JwtPrincipal token = new JwtPrincipal(7L, user.getEmail(), "EMPLOYEE", Instant.now().plusSeconds(60));
+        assertThat(service.loadUserByToken(token).isEnabled()).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.evictAfterCommit(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user(7L, user.getEmail(), false)));
+
+        // Until the deactivation commits, requests keep seeing the committed state
+        assertThat(service.loadUserByToken(token).isEnabled()).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(service.loadUserByToken(token).isEnabled()).isFalse();
+    }
+
+    private static User user(Long id, String email, boolean active) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setRole(Role.EMPLOYEE);
+        user.setIsActive(active);
+        return user;
+    }
+}
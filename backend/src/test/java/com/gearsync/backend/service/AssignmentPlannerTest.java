@@ -0,0 +1,84 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.service.AssignmentPlanner.Assignment;
+import com.gearsync.backend.service.AssignmentPlanner.Booking;
+import com.gearsync.backend.service.AssignmentPlanner.Candidate;
+import com.gearsync.backend.service.AssignmentPlanner.Task;
+import com.gearsync.backend.service.AssignmentPlanner.TaskType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssignmentPlannerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 10, 0, 0);
+
+    private final AssignmentPlanner planner = new AssignmentPlanner();
+
+    @Test
+    void skipsEmployeesBookedOverTheTaskWindow() {
+        Candidate idle = new Candidate(1L, "Idle", 0, 0);
+        Candidate busy = new Candidate(2L, "Busy", 3, 600);
+
+        List<Assignment> plan = planner.plan(List.of(idle, busy),
+                List.of(new Booking(1L, at(9), 120)),
+                List.of(appointment(10L, at(10), 60), appointment(11L, at(11), 60)));
+
+        // Half-open windows: the 11:00 task starts as the idle employee's booking ends
+        assertThat(plan).extracting(Assignment::employee).containsExactly(busy, idle);
+    }
+
+    @Test
+    void spreadsABatchInsteadOfPilingOnTheLeastLoaded() {
+        List<Candidate> candidates = List.of(
+                new Candidate(1L, "First", 0, 0),
+                new Candidate(2L, "Second", 0, 60),
+                new Candidate(3L, "Third", 0, 120));
+
+        List<Assignment> plan = planner.plan(candidates, List.of(),
+                List.of(project(10L), project(11L), project(12L)));
+
+        assertThat(plan).extracting(assignment -> assignment.employee().employeeId()).containsExactly(1L, 2L, 3L);
+        assertThat(plan).extracting(Assignment::score).containsExactly(0L, 60L, 120L);
+    }
+
+    @Test
+    void countsWorkPlannedEarlierInTheBatchAsBooked() {
+        Candidate light = new Candidate(1L, "Light", 0, 0);
+        Candidate heavy = new Candidate(2L, "Heavy", 5, 2400);
+
+        List<Assignment> plan = planner.plan(List.of(light, heavy), List.of(),
+                List.of(appointment(10L, at(9), 120), appointment(11L, at(10), 60)));
+
+        assertThat(plan).extracting(Assignment::employee).containsExactly(light, heavy);
+    }
+
+    @Test
+    void leavesATaskUnassignedWhenNobodyIsFree() {
+        List<Candidate> candidates = List.of(new Candidate(1L, "First", 0, 0), new Candidate(2L, "Second", 0, 0));
+
+        List<Assignment> plan = planner.plan(candidates,
+                List.of(new Booking(1L, at(9), 180), new Booking(2L, at(8), 240), new Booking(99L, at(13), 60)),
+                List.of(appointment(10L, at(10), 30), appointment(11L, at(13), 30)));
+
+        assertThat(plan.get(0).employee()).isNull();
+        assertThat(plan.get(0).score()).isZero();
+        // A booking for someone who is not a candidate blocks nobody
+        assertThat(plan.get(1).employee()).isNotNull();
+    }
+
+    private static Task appointment(Long id, LocalDateTime start, int durationMinutes) {
+        return new Task(TaskType.APPOINTMENT, id, start, durationMinutes);
+    }
+
+    private static Task project(Long id) {
+        return new Task(TaskType.PROJECT, id, null, 0);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.withHour(hour);
+    }
+}
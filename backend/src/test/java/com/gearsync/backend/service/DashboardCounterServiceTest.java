@@ -0,0 +1,116 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.TestDatabase;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Writes commit on their own, as requests do, so the listener's deltas land in the slot rows before the reads
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DashboardCounterService.class, DashboardCounterListener.class})
+class DashboardCounterServiceTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentWritersSpreadOverSlotsAndReadsSumThem() throws Exception {
+        dashboardCounterService.reconcile();
+        long before = dashboardCounterService.getSummary().getUserCount();
+        Map<Short, Long> slotsBefore = userSlots();
+
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                saves.add(writers.submit(() -> userRepository.save(customer())));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            writers.shutdown();
+        }
+
+        assertThat(dashboardCounterService.getSummary().getUserCount()).isEqualTo(before + 12);
+        Map<Short, Long> slotsAfter = userSlots();
+        assertThat(slotsAfter.keySet().stream().filter(slot -> !slotsAfter.get(slot).equals(slotsBefore.get(slot))))
+                .hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void reconcileFoldsDriftIntoTheFirstSlot() {
+        userRepository.save(customer());
+        jdbcTemplate.update("UPDATE dashboard_counters SET item_count = item_count + 5 WHERE counter_key = 'users' AND slot = 3");
+
+        dashboardCounterService.reconcile();
+
+        assertThat(dashboardCounterService.getSummary().getUserCount()).isEqualTo(userRepository.count());
+        Map<Short, Long> slots = userSlots();
+        assertThat(slots.get((short) 0)).isEqualTo(userRepository.count());
+        assertThat(slots.entrySet()).filteredOn(slot -> slot.getKey() != 0).allMatch(slot -> slot.getValue() == 0L);
+    }
+
+    @Test
+    void reconcileRecreatesMissingSlots() {
+        jdbcTemplate.update("DELETE FROM dashboard_counters WHERE counter_key = 'vehicles' AND slot >= 4");
+
+        dashboardCounterService.reconcile();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM dashboard_counters WHERE counter_key = 'vehicles'", Long.class)).isEqualTo(8L);
+    }
+
+    private Map<Short, Long> userSlots() {
+        Map<Short, Long> slots = new TreeMap<>();
+        jdbcTemplate.query("SELECT slot, item_count FROM dashboard_counters WHERE counter_key = 'users'",
+                (RowCallbackHandler) row -> slots.put(row.getShort("slot"), row.getLong("item_count")));
+        return slots;
+    }
+
+    private static User customer() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("not-a-real-hash");
+        user.setFirstName("Counter");
+        user.setLastName("Test");
+        user.setPhoneNumber("0700000000");
+        user.setRole(Role.CUSTOMER);
+        return user;
+    }
+}
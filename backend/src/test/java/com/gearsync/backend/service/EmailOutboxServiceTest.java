@@ -0,0 +1,211 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.TestDatabase;
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailOutbox.OutboxStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// Runs against Postgres because claiming relies on FOR UPDATE SKIP LOCKED; every call commits on its own, as in the worker
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmailOutboxService.class, EmailOutboxServiceTest.Metrics.class})
+class EmailOutboxServiceTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void claimsDueRowsUnderLeaseWithoutUsingAnAttempt() {
+        EmailOutbox due = save(OutboxStatus.PENDING, LocalDateTime.now().minusMinutes(1), 2);
+        save(OutboxStatus.PENDING, LocalDateTime.now().plusMinutes(5), 0);
+        save(OutboxStatus.SENT, LocalDateTime.now().minusMinutes(1), 0);
+
+        List<EmailOutbox> claimed = emailOutboxService.claimDue(10);
+
+        assertThat(claimed).extracting(EmailOutbox::getId).containsExactly(due.getId());
+        EmailOutbox reloaded = reload(due);
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxStatus.SENDING);
+        assertThat(reloaded.getAttempts()).isEqualTo(2);
+        assertThat(reloaded.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(300), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void reclaimsSendingRowsOnlyOnceTheirLeaseExpires() {
+        save(OutboxStatus.SENDING, LocalDateTime.now().plusMinutes(4), 0);
+        EmailOutbox expired = save(OutboxStatus.SENDING, LocalDateTime.now().minusSeconds(1), 0);
+
+        assertThat(emailOutboxService.claimDue(10)).extracting(EmailOutbox::getId).containsExactly(expired.getId());
+        assertThat(emailOutboxService.claimDue(10)).isEmpty();
+    }
+
+    @Test
+    void concurrentClaimsTakeDisjointRows() {
+        for (int i = 0; i < 3; i++) {
+            save(OutboxStatus.PENDING, LocalDateTime.now().minusMinutes(1), 0);
+        }
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(status -> {
+            List<Long> first = emailOutboxService.claimDue(2).stream().map(EmailOutbox::getId).toList();
+            // The first batch is still locked, so a second worker skips it instead of waiting
+            List<Long> second = inner.execute(s -> emailOutboxService.claimDue(10)).stream().map(EmailOutbox::getId).toList();
+
+            assertThat(first).hasSize(2);
+            assertThat(second).hasSize(1).doesNotContainAnyElementsOf(first);
+        });
+    }
+
+    @Test
+    void failedDeliveriesBackOffExponentially() {
+        EmailOutbox email = save(OutboxStatus.SENDING, LocalDateTime.now().plusMinutes(5), 0);
+
+        emailOutboxService.markFailed(email.getId(), new IllegalStateException("421 try later"));
+        EmailOutbox first = reload(email);
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+        assertThat(first.getLastError()).isEqualTo("IllegalStateException: 421 try later");
+        assertThat(first.getBody()).isEqualTo("<p>Your code is 123456</p>");
+
+        emailOutboxService.markFailed(email.getId(), new IllegalStateException("421 try later"));
+        EmailOutbox second = reload(email);
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void deadLettersAfterLastAttemptAndClearsBody() {
+        EmailOutbox email = save(OutboxStatus.SENDING, LocalDateTime.now().plusMinutes(5), 7);
+        double deadBefore = meterRegistry.counter("gearsync.mail.outbox.deliveries", "outcome", "dead").count();
+
+        emailOutboxService.markFailed(email.getId(), new IllegalStateException("550 mailbox unavailable"));
+
+        EmailOutbox dead = reload(email);
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(8);
+        assertThat(dead.getBody()).isEmpty();
+        assertThat(dead.getFinishedAt()).isCloseTo(LocalDateTime.now(), within(5, ChronoUnit.SECONDS));
+        assertThat(emailOutboxService.claimDue(10)).isEmpty();
+        assertThat(meterRegistry.counter("gearsync.mail.outbox.deliveries", "outcome", "dead").count())
+                .isEqualTo(deadBefore + 1);
+    }
+
+    @Test
+    void sentRowsKeepNoBody() {
+        EmailOutbox email = save(OutboxStatus.SENDING, LocalDateTime.now().plusMinutes(5), 1);
+
+        emailOutboxService.markSent(email.getId());
+
+        EmailOutbox sent = reload(email);
+        assertThat(sent.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(sent.getBody()).isEmpty();
+        assertThat(sent.getSentAt()).isEqualTo(sent.getFinishedAt());
+        assertThat(sent.getLastError()).isNull();
+    }
+
+    @Test
+    void countsOnlyCommittedEnqueues() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        double before = meterRegistry.counter("gearsync.mail.outbox.enqueued").count();
+
+        transaction.executeWithoutResult(status -> {
+            emailOutboxService.enqueue("customer@example.com", "Rolled back", "<p>Never sent</p>");
+            status.setRollbackOnly();
+        });
+        assertThat(meterRegistry.counter("gearsync.mail.outbox.enqueued").count()).isEqualTo(before);
+        assertThat(emailOutboxRepository.count()).isZero();
+
+        transaction.executeWithoutResult(status ->
+                emailOutboxService.enqueue("customer@example.com", "Committed", "<p>Sent</p>"));
+        assertThat(meterRegistry.counter("gearsync.mail.outbox.enqueued").count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void purgesFinishedRowsOfOneStatusPastTheCutoff() {
+        EmailOutbox oldSent = finished(OutboxStatus.SENT, 10);
+        EmailOutbox recentSent = finished(OutboxStatus.SENT, 1);
+        EmailOutbox oldDead = finished(OutboxStatus.DEAD, 10);
+        EmailOutbox pending = save(OutboxStatus.PENDING, LocalDateTime.now().minusDays(10), 0);
+
+        assertThat(emailOutboxService.purgeFinishedBefore(OutboxStatus.SENT, LocalDateTime.now().minusDays(7))).isEqualTo(1);
+
+        assertThat(emailOutboxRepository.findAll()).extracting(EmailOutbox::getId)
+                .containsExactlyInAnyOrder(recentSent.getId(), oldDead.getId(), pending.getId())
+                .doesNotContain(oldSent.getId());
+
+        assertThat(emailOutboxService.purgeFinishedBefore(OutboxStatus.DEAD, LocalDateTime.now().minusDays(7))).isEqualTo(1);
+    }
+
+    private EmailOutbox save(OutboxStatus status, LocalDateTime nextAttemptAt, int attempts) {
+        EmailOutbox email = new EmailOutbox("customer@example.com", "Your code", "<p>Your code is 123456</p>");
+        email.setStatus(status);
+        email.setNextAttemptAt(nextAttemptAt);
+        email.setAttempts(attempts);
+        return emailOutboxRepository.save(email);
+    }
+
+    private EmailOutbox finished(OutboxStatus status, int daysAgo) {
+        EmailOutbox email = new EmailOutbox("customer@example.com", "Your code", "");
+        email.setStatus(status);
+        email.setFinishedAt(LocalDateTime.now().minusDays(daysAgo));
+        return emailOutboxRepository.save(email);
+    }
+
+    private EmailOutbox reload(EmailOutbox email) {
+        return emailOutboxRepository.findById(email.getId()).orElseThrow();
+    }
+}
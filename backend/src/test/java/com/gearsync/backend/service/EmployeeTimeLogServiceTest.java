@@ -0,0 +1,172 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.TestDatabase;
+import com.gearsync.backend.dto.TimesheetDTO;
+import com.gearsync.backend.dto.TimesheetIntervalDTO;
+import com.gearsync.backend.mapper.TimeLogMapperImpl;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.TimeLog;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.TimeLogRepository;
+import com.gearsync.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs against Postgres because the timesheet merge is a window-function query; each test gets its own employee.
+// Logs are inserted directly, as overlapping rows from before the overlap check would have been.
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmployeeTimeLogService.class, TimeLogMapperImpl.class})
+class EmployeeTimeLogServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private EmployeeTimeLogService employeeTimeLogService;
+
+    @Autowired
+    private TimeLogRepository timeLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = userRepository.save(employee()).getId();
+    }
+
+    @Test
+    void mergesTouchingLogsAndKeepsGapsApart() {
+        log(at(8, 0), at(10, 0));
+        log(at(10, 0), at(11, 0));
+        log(at(13, 0), at(14, 0));
+
+        TimesheetDTO timesheet = employeeTimeLogService.getTimesheet(employeeId, DAY, DAY);
+
+        assertThat(timesheet.getIntervals()).containsExactly(
+                new TimesheetIntervalDTO(at(8, 0), at(11, 0), 180L, 2L),
+                new TimesheetIntervalDTO(at(13, 0), at(14, 0), 60L, 1L));
+        assertThat(timesheet.getTotalMinutes()).isEqualTo(240);
+        assertThat(timesheet.getLoggedMinutes()).isEqualTo(240);
+    }
+
+    @Test
+    void countsNestedAndOverlappingLogsOnce() {
+        log(at(13, 0), at(17, 0));
+        log(at(14, 0), at(15, 0));
+        log(at(16, 30), at(18, 0));
+
+        TimesheetDTO timesheet = employeeTimeLogService.getTimesheet(employeeId, DAY, DAY);
+
+        assertThat(timesheet.getIntervals()).containsExactly(
+                new TimesheetIntervalDTO(at(13, 0), at(18, 0), 300L, 3L));
+        assertThat(timesheet.getTotalMinutes()).isEqualTo(300);
+        assertThat(timesheet.getLoggedMinutes()).isEqualTo(240 + 60 + 90);
+    }
+
+    // A log nested in an earlier, longer one must not end the island at its own end time
+    @Test
+    void keepsAnIslandOpenPastANestedLog() {
+        log(at(8, 0), at(12, 0));
+        log(at(9, 0), at(10, 0));
+        log(at(11, 0), at(13, 0));
+
+        TimesheetDTO timesheet = employeeTimeLogService.getTimesheet(employeeId, DAY, DAY);
+
+        assertThat(timesheet.getIntervals()).containsExactly(
+                new TimesheetIntervalDTO(at(8, 0), at(13, 0), 300L, 3L));
+    }
+
+    @Test
+    void clipsLogsAtTheEdgesOfTheRange() {
+        log(at(0, 0).minusHours(2), at(1, 0));
+        log(at(23, 0), at(0, 0).plusDays(1).plusHours(2));
+        log(at(9, 0).plusDays(2), at(10, 0).plusDays(2));
+
+        TimesheetDTO timesheet = employeeTimeLogService.getTimesheet(employeeId, DAY, DAY);
+
+        assertThat(timesheet.getIntervals()).containsExactly(
+                new TimesheetIntervalDTO(at(0, 0), at(1, 0), 60L, 1L),
+                new TimesheetIntervalDTO(at(23, 0), at(0, 0).plusDays(1), 60L, 1L));
+        assertThat(timesheet.getTotalMinutes()).isEqualTo(120);
+        assertThat(timesheet.getLoggedMinutes()).isEqualTo(120);
+    }
+
+    @Test
+    void findsAnEarlierLongLogThatOverlapsPastALaterShortOne() {
+        Long longLog = log(at(8, 0), at(17, 0));
+        log(at(9, 0), at(10, 0));
+
+        assertThat(timeLogRepository.findOverlapping(employeeId, at(16, 0), at(16, 30), null))
+                .map(TimeLog::getId).contains(longLog);
+    }
+
+    @Test
+    void ignoresTouchingExcludedAndOtherEmployeesLogs() {
+        Long morning = log(at(8, 0), at(10, 0));
+        Long otherEmployee = userRepository.save(employee()).getId();
+        log(otherEmployee, at(10, 0), at(12, 0));
+
+        assertThat(timeLogRepository.findOverlapping(employeeId, at(10, 0), at(11, 0), null)).isEmpty();
+        assertThat(timeLogRepository.findOverlapping(employeeId, at(7, 0), at(8, 0), null)).isEmpty();
+        assertThat(timeLogRepository.findOverlapping(employeeId, at(9, 0), at(9, 30), morning)).isEmpty();
+        assertThat(timeLogRepository.findOverlapping(employeeId, at(9, 0), at(9, 30), null))
+                .map(TimeLog::getId).contains(morning);
+    }
+
+    private Long log(LocalDateTime start, LocalDateTime end) {
+        return log(employeeId, start, end);
+    }
+
+    private Long log(Long employee, LocalDateTime start, LocalDateTime end) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO time_logs (start_time, end_time, duration_minutes, created_at, updated_at, employee_id)
+                VALUES (?, ?, ?, now(), now(), ?)
+                RETURNING id
+                """, Long.class, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                Duration.between(start, end).toMinutes(), employee);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.atTime(hour, minute);
+    }
+
+    private static User employee() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("not-a-real-hash");
+        user.setFirstName("Timesheet");
+        user.setLastName("Test");
+        user.setPhoneNumber("0700000000");
+        user.setRole(Role.EMPLOYEE);
+        return user;
+    }
+}
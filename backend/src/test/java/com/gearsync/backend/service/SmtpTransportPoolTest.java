@@ -0,0 +1,146 @@
+package com.gearsync.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        mailSender.setProtocol("smtp");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.destroy();
+        }
+    }
+
+    @Test
+    void reusesOneSessionForSequentialSends() throws Exception {
+        pool = new SmtpTransportPool(mailSender, meterRegistry, 4, 100, 60);
+
+        for (int i = 0; i < 10; i++) {
+            pool.send(message("customer" + i + "@example.com"));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(connectionsOpened()).isEqualTo(1);
+        assertThat(openConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void retiresSessionAfterMaxMessages() throws Exception {
+        pool = new SmtpTransportPool(mailSender, meterRegistry, 4, 3, 60);
+
+        for (int i = 0; i < 7; i++) {
+            pool.send(message("customer" + i + "@example.com"));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(7);
+        assertThat(connectionsOpened()).isEqualTo(3);
+    }
+
+    @Test
+    void dropsSessionAfterFailedSend() throws Exception {
+        pool = new SmtpTransportPool(mailSender, meterRegistry, 4, 100, 60);
+        pool.send(message("first@example.com"));
+
+        // No recipients: the transport rejects the message after it was borrowed
+        MimeMessage noRecipients = mailSender.createMimeMessage();
+        new MimeMessageHelper(noRecipients, "UTF-8").setSubject("no recipients");
+        noRecipients.setText("body");
+        assertThatThrownBy(() -> pool.send(noRecipients)).isInstanceOf(MessagingException.class);
+        assertThat(openConnections()).isZero();
+
+        pool.send(message("second@example.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connectionsOpened()).isEqualTo(2);
+        assertThat(meterRegistry.get("gearsync.mail.smtp.send").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deliversConcurrentBatchOverBoundedSessions() throws Exception {
+        pool = new SmtpTransportPool(mailSender, meterRegistry, 4, 100, 60);
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> sends = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                String to = "customer" + i + "@example.com";
+                sends.add(workers.submit(() -> {
+                    pool.send(message(to));
+                    return null;
+                }));
+            }
+            for (Future<?> send : sends) {
+                send.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 60)).isTrue();
+        assertThat(connectionsOpened()).isLessThanOrEqualTo(4);
+        assertThat(meterRegistry.get("gearsync.mail.smtp.send").tag("outcome", "success").timer().count()).isEqualTo(60);
+    }
+
+    @Test
+    void evictsIdleSessions() throws Exception {
+        pool = new SmtpTransportPool(mailSender, meterRegistry, 4, 100, 0);
+        pool.send(message("customer@example.com"));
+        Thread.sleep(5);
+
+        pool.evictIdle();
+
+        assertThat(openConnections()).isZero();
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@gearsync.test");
+        helper.setTo(to);
+        helper.setSubject("Appointment confirmed");
+        helper.setText("<p>See you soon</p>", true);
+        return message;
+    }
+
+    private double connectionsOpened() {
+        return meterRegistry.get("gearsync.mail.smtp.connections.opened").counter().count();
+    }
+
+    private double openConnections() {
+        return meterRegistry.get("gearsync.mail.smtp.connections.open").gauge().value();
+    }
+}
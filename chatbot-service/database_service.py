@@ -5,7 +5,10 @@ from psycopg2 import pool
 from typing import List, Dict, Optional
 from datetime import datetime, timedelta
 import logging
+import json
 from contextlib import contextmanager
+from urllib.parse import urlencode
+from urllib.request import urlopen
 
 logger = logging.getLogger(__name__)
 
@@ -47,6 +50,10 @@ class DatabaseService:
         self.db_username = db_username
         self.db_password = db_password
         
+        # Slot availability comes from the backend, which owns the booking rules
+        self.backend_url = os.getenv("BACKEND_URL", "http://localhost:8080").rstrip("/")
+        self.backend_timeout = float(os.getenv("BACKEND_TIMEOUT_SECONDS", "5"))
+        
         # Create connection pool
         try:
             self.connection_pool = psycopg2.pool.SimpleConnectionPool(
@@ -133,46 +140,22 @@ class DatabaseService:
     
     def get_available_slots(self, date: datetime, service_duration_minutes: int = 60) -> List[Dict]:
         """
-        Get available appointment slots for a specific date
-        Business hours: 8 AM - 6 PM, Monday to Saturday
-        Slot duration: 30 minutes
+        Get available appointment slots for a specific date from the backend availability
+        engine, so the chatbot offers exactly the slots a booking would accept
         """
         try:
-            # Define business hours
-            start_time = date.replace(hour=8, minute=0, second=0, microsecond=0)
-            end_time = date.replace(hour=18, minute=0, second=0, microsecond=0)
-            
-            # Get existing appointments for the date
-            existing_appointments = self.get_appointments_by_date_range(start_time, end_time)
-            
-            # Create all possible slots (every 30 minutes)
+            availability = self._get_backend_json("/api/service/availability", {
+                "date": date.strftime("%Y-%m-%d"),
+                "durationMinutes": service_duration_minutes
+            })
             slots = []
-            current_time = start_time
-            slot_duration = timedelta(minutes=30)
-            
-            while current_time + timedelta(minutes=service_duration_minutes) <= end_time:
-                # Check if this slot conflicts with existing appointments
-                slot_end = current_time + timedelta(minutes=service_duration_minutes)
-                is_available = True
-                
-                for apt in existing_appointments:
-                    apt_start = apt['scheduled_datetime']
-                    apt_end = apt_start + timedelta(minutes=service_duration_minutes)  # Assume same duration
-                    
-                    # Check for overlap
-                    if not (slot_end <= apt_start or current_time >= apt_end):
-                        is_available = False
-                        break
-                
-                if is_available:
-                    slots.append({
-                        'start_time': current_time.isoformat(),
-                        'end_time': slot_end.isoformat(),
-                        'formatted_time': current_time.strftime("%I:%M %p")
-                    })
-                
-                current_time += slot_duration
-            
+            for slot in availability.get("slots", []):
+                start_time = datetime.fromisoformat(slot["startTime"])
+                slots.append({
+                    'start_time': start_time.isoformat(),
+                    'end_time': datetime.fromisoformat(slot["endTime"]).isoformat(),
+                    'formatted_time': start_time.strftime("%I:%M %p")
+                })
             return slots
         except Exception as e:
             logger.error(f"Error getting available slots: {e}")
@@ -222,26 +205,20 @@ class DatabaseService:
             if requested_time.tzinfo:
                 requested_time = requested_time.replace(tzinfo=None)
             
-            slot_end = requested_time + timedelta(minutes=service_duration_minutes)
-            
-            # Get appointments for the same day
-            start_date = requested_time.replace(hour=0, minute=0, second=0, microsecond=0)
-            end_date = requested_time.replace(hour=23, minute=59, second=59, microsecond=0)
-            
-            existing_appointments = self.get_appointments_by_date_range(start_date, end_date)
-            
-            for apt in existing_appointments:
-                apt_start = apt['scheduled_datetime']
-                apt_end = apt_start + timedelta(minutes=service_duration_minutes)
-                
-                # Check for overlap
-                if not (slot_end <= apt_start or requested_time >= apt_end):
-                    return False
-            
-            return True
+            result = self._get_backend_json("/api/service/availability/check", {
+                "start": requested_time.replace(microsecond=0).isoformat(),
+                "durationMinutes": service_duration_minutes
+            })
+            return bool(result.get("available", False))
         except Exception as e:
             logger.error(f"Error checking slot availability: {e}")
             return False
+    
+    def _get_backend_json(self, path: str, params: Dict) -> Dict:
+        """GET a public backend endpoint and decode the JSON response"""
+        url = f"{self.backend_url}{path}?{urlencode(params)}"
+        with urlopen(url, timeout=self.backend_timeout) as response:
+            return json.loads(response.read().decode("utf-8"))
 
 # Singleton instance
 _db_service = None